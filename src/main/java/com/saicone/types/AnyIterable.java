@@ -5,13 +5,15 @@ import com.saicone.types.iterator.SingleIterator;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
-import java.lang.reflect.Array;
 import java.util.Collection;
 import java.util.Iterator;
 import java.util.List;
 import java.util.ListIterator;
 import java.util.Map;
 import java.util.Objects;
+import java.util.function.DoubleConsumer;
+import java.util.function.IntConsumer;
+import java.util.function.LongConsumer;
 
 /**
  * Functional interface to allow any object to be targeted on the enhanced for statement.<br>
@@ -310,7 +312,7 @@ public interface AnyIterable<T> extends Iterable<T> {
         } else if (value instanceof Map) {
             return ((Map<?, ?>) value).size();
         } else if (value instanceof Object[] || value.getClass().isArray()) {
-            return Array.getLength(value);
+            return ArrayIterator.getLength(value);
         } else {
             // Single value
             return 1;
@@ -339,8 +341,8 @@ public interface AnyIterable<T> extends Iterable<T> {
                 return (T) array[0];
             }
         } else if (value.getClass().isArray()) {
-            if (Array.getLength(value) > 0) {
-                return (T) Array.get(value, 0);
+            if (ArrayIterator.getLength(value) > 0) {
+                return (T) ArrayIterator.getElement(value, 0);
             }
         } else {
             return (T) value;
@@ -369,9 +371,9 @@ public interface AnyIterable<T> extends Iterable<T> {
                 return (T) array[array.length - 1];
             }
         } else if (value.getClass().isArray()) {
-            final int length = Array.getLength(value);
+            final int length = ArrayIterator.getLength(value);
             if (length > 0) {
-                return (T) Array.get(value, length - 1);
+                return (T) ArrayIterator.getElement(value, length - 1);
             }
         } else {
             return (T) value;
@@ -379,7 +381,6 @@ public interface AnyIterable<T> extends Iterable<T> {
         return null;
     }
 
-
     /**
      * Convert the current type into a single object representation,
      * this means that any iterable object will be converted into
@@ -403,4 +404,96 @@ public interface AnyIterable<T> extends Iterable<T> {
             return (T) value;
         }
     }
-}
\ No newline at end of file
+
+    /**
+     * Performs the given action for each element of the current value as int number.<br>
+     * Primitive int, short and byte arrays are iterated without boxing, any other
+     * element (including chars) is converted using {@link Types#INTEGER} and null values are skipped.
+     *
+     * @param action the action to be performed for each element.
+     */
+    default void forEachInt(@NotNull IntConsumer action) {
+        Objects.requireNonNull(getValue(), "Cannot iterate over empty object");
+        final Object value = getValue();
+        if (value instanceof int[]) {
+            for (int i : (int[]) value) {
+                action.accept(i);
+            }
+        } else if (value instanceof short[]) {
+            for (short s : (short[]) value) {
+                action.accept(s);
+            }
+        } else if (value instanceof byte[]) {
+            for (byte b : (byte[]) value) {
+                action.accept(b);
+            }
+        } else {
+            for (T element : this) {
+                final Integer i = element == null ? null : Types.INTEGER.parse(element);
+                if (i != null) {
+                    action.accept(i);
+                }
+            }
+        }
+    }
+
+    /**
+     * Performs the given action for each element of the current value as long number.<br>
+     * Primitive long, int, short and byte arrays are iterated without boxing, any other
+     * element (including chars) is converted using {@link Types#LONG} and null values are skipped.
+     *
+     * @param action the action to be performed for each element.
+     */
+    default void forEachLong(@NotNull LongConsumer action) {
+        Objects.requireNonNull(getValue(), "Cannot iterate over empty object");
+        final Object value = getValue();
+        if (value instanceof long[]) {
+            for (long l : (long[]) value) {
+                action.accept(l);
+            }
+        } else if (value instanceof int[] || value instanceof short[] || value instanceof byte[]) {
+            forEachInt(action::accept);
+        } else {
+            for (T element : this) {
+                final Long l = element == null ? null : Types.LONG.parse(element);
+                if (l != null) {
+                    action.accept(l);
+                }
+            }
+        }
+    }
+
+    /**
+     * Performs the given action for each element of the current value as double number.<br>
+     * Any primitive number array is iterated without boxing, any other element
+     * (including chars) is converted using {@link Types#DOUBLE} and null values are skipped.
+     *
+     * @param action the action to be performed for each element.
+     */
+    default void forEachDouble(@NotNull DoubleConsumer action) {
+        Objects.requireNonNull(getValue(), "Cannot iterate over empty object");
+        final Object value = getValue();
+        if (value instanceof double[]) {
+            for (double d : (double[]) value) {
+                action.accept(d);
+            }
+        } else if (value instanceof float[]) {
+            for (float f : (float[]) value) {
+                action.accept(f);
+            }
+        } else if (value instanceof long[]) {
+            for (long l : (long[]) value) {
+                action.accept(l);
+            }
+        } else if (value instanceof int[] || value instanceof short[] || value instanceof byte[]) {
+            forEachInt(action::accept);
+        } else {
+            for (T element : this) {
+                final Double d = element == null ? null : Types.DOUBLE.parse(element);
+                if (d != null) {
+                    action.accept(d);
+                }
+            }
+        }
+    }
+}
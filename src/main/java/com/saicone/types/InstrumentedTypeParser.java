@@ -0,0 +1,114 @@
+package com.saicone.types;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.lang.reflect.Type;
+
+/**
+ * Type parser that notify a parse listener about every operation of a delegate parser.<br>
+ * This parser can be used to collect metrics of a single parser without registering
+ * a global listener, every parse, failure and default value is reported with the elapsed
+ * time and the delegate parser type.
+ *
+ * @author Rubenicos
+ *
+ * @param <T> the type result of the function.
+ */
+public class InstrumentedTypeParser<T> implements TypeParser<T> {
+
+    private final TypeParser<T> delegate;
+    private final ParseListener listener;
+
+    /**
+     * Constructs an instrumented type parser that notify the global registered listeners.
+     *
+     * @param delegate the delegate parser.
+     */
+    public InstrumentedTypeParser(@NotNull TypeParser<T> delegate) {
+        this(delegate, ParseListeners.GLOBAL);
+    }
+
+    /**
+     * Constructs an instrumented type parser that notify the provided listener.
+     *
+     * @param delegate the delegate parser.
+     * @param listener the listener to notify.
+     */
+    public InstrumentedTypeParser(@NotNull TypeParser<T> delegate, @NotNull ParseListener listener) {
+        this.delegate = delegate;
+        this.listener = listener;
+    }
+
+    /**
+     * Get the delegate parser.
+     *
+     * @return a type parser.
+     */
+    @NotNull
+    public TypeParser<T> getDelegate() {
+        return delegate;
+    }
+
+    /**
+     * Get the listener that is notified by this parser.
+     *
+     * @return a parse listener.
+     */
+    @NotNull
+    public ParseListener getListener() {
+        return listener;
+    }
+
+    @Override
+    public @Nullable Type getType() {
+        return delegate.getType();
+    }
+
+    @Override
+    public boolean isInstance(@Nullable Object object) {
+        return delegate.isInstance(object);
+    }
+
+    @Override
+    public @Nullable T parse(@NotNull Object object) {
+        final long start = System.nanoTime();
+        final T result;
+        try {
+            result = delegate.parse(object);
+        } catch (Throwable t) {
+            listener.onFailure(getType(), object, t, System.nanoTime() - start);
+            throw t;
+        }
+        listener.onParse(getType(), object, result, System.nanoTime() - start);
+        return result;
+    }
+
+    @Override
+    public @Nullable T parse(@Nullable Object object, @Nullable T def) {
+        return ParseListeners.parse(listener, getType(), delegate, object, def);
+    }
+
+    @Override
+    public @NotNull ParseResult<T> tryParse(@Nullable Object object) {
+        final long start = System.nanoTime();
+        final ParseResult<T> result = delegate.tryParse(object);
+        final long nanos = System.nanoTime() - start;
+        if (result.isFailure()) {
+            listener.onFailure(getType(), object, result.getCause(), nanos);
+        } else {
+            listener.onParse(getType(), object, result.getValue(), nanos);
+        }
+        return result;
+    }
+
+    @Override
+    public @Nullable T parseOrDefault(@Nullable Object object, @Nullable T def) {
+        return ParseListeners.parseOrDefault(listener, getType(), delegate, object, def);
+    }
+
+    @Override
+    public String toString() {
+        return "InstrumentedTypeParser{" + delegate + "}";
+    }
+}
@@ -0,0 +1,84 @@
+package com.saicone.types;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Represents a listener of parse operations, used to collect metrics about parsed types.<br>
+ * Global listeners can be registered with {@link Types#addListener(ParseListener)} to observe
+ * {@link Types#parse(Object, Object, Object)} and {@link TypeParser#parseOrDefault(Object, Object)} calls,
+ * or used with {@link InstrumentedTypeParser} to observe a single parser.<br>
+ * Listener methods are called on the parsing thread, so any implementation must be thread-safe and fast.
+ *
+ * @author Rubenicos
+ */
+public interface ParseListener {
+
+    /**
+     * Called when an object is parsed without errors.
+     *
+     * @param type   the target type, may be a registry key or null if the parser doesn't provide type.
+     * @param object the parsed object.
+     * @param result the parse result, null if the parser doesn't convert the object.
+     * @param nanos  the elapsed time in nanoseconds.
+     */
+    default void onParse(@Nullable Object type, @Nullable Object object, @Nullable Object result, long nanos) {
+    }
+
+    /**
+     * Called when an object cannot be parsed.
+     *
+     * @param type   the target type, may be a registry key or null if the parser doesn't provide type.
+     * @param object the object that cannot be parsed.
+     * @param error  the error that cause the failure, null if the parser validated the object without exceptions.
+     * @param nanos  the elapsed time in nanoseconds.
+     */
+    default void onFailure(@Nullable Object type, @Nullable Object object, @Nullable Throwable error, long nanos) {
+    }
+
+    /**
+     * Called when a parse operation return the default value instead of a parsed one.
+     *
+     * @param type   the target type, may be a registry key or null if the parser doesn't provide type.
+     * @param object the object that was not converted.
+     * @param def    the returned default value.
+     */
+    default void onDefault(@Nullable Object type, @Nullable Object object, @Nullable Object def) {
+    }
+
+    /**
+     * Create a listener that notify every provided listener in order.
+     *
+     * @param listeners the listeners to notify.
+     * @return          a composite parse listener.
+     */
+    @NotNull
+    static ParseListener of(@NotNull ParseListener... listeners) {
+        if (listeners.length == 1) {
+            return listeners[0];
+        }
+        final ParseListener[] array = listeners.clone();
+        return new ParseListener() {
+            @Override
+            public void onParse(@Nullable Object type, @Nullable Object object, @Nullable Object result, long nanos) {
+                for (ParseListener listener : array) {
+                    listener.onParse(type, object, result, nanos);
+                }
+            }
+
+            @Override
+            public void onFailure(@Nullable Object type, @Nullable Object object, @Nullable Throwable error, long nanos) {
+                for (ParseListener listener : array) {
+                    listener.onFailure(type, object, error, nanos);
+                }
+            }
+
+            @Override
+            public void onDefault(@Nullable Object type, @Nullable Object object, @Nullable Object def) {
+                for (ParseListener listener : array) {
+                    listener.onDefault(type, object, def);
+                }
+            }
+        };
+    }
+}
@@ -0,0 +1,135 @@
+package com.saicone.types;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Holder of global parse listeners.<br>
+ * The registered listeners are published as a single composite listener, or null if
+ * there is no listener, so any parse operation only pays a volatile read while the
+ * instrumentation is not used.
+ *
+ * @author Rubenicos
+ */
+final class ParseListeners {
+
+    private static final List<ParseListener> LISTENERS = new ArrayList<>();
+    private static volatile ParseListener listener;
+
+    /**
+     * Listener that forwards every notification to the current registered listeners.
+     */
+    static final ParseListener GLOBAL = new ParseListener() {
+        @Override
+        public void onParse(@Nullable Object type, @Nullable Object object, @Nullable Object result, long nanos) {
+            final ParseListener current = listener;
+            if (current != null) {
+                current.onParse(type, object, result, nanos);
+            }
+        }
+
+        @Override
+        public void onFailure(@Nullable Object type, @Nullable Object object, @Nullable Throwable error, long nanos) {
+            final ParseListener current = listener;
+            if (current != null) {
+                current.onFailure(type, object, error, nanos);
+            }
+        }
+
+        @Override
+        public void onDefault(@Nullable Object type, @Nullable Object object, @Nullable Object def) {
+            final ParseListener current = listener;
+            if (current != null) {
+                current.onDefault(type, object, def);
+            }
+        }
+    };
+
+    private ParseListeners() {
+    }
+
+    /**
+     * Get the current composite listener.
+     *
+     * @return a parse listener if any listener is registered, null otherwise.
+     */
+    @Nullable
+    static ParseListener get() {
+        return listener;
+    }
+
+    static synchronized void add(@NotNull ParseListener listener) {
+        LISTENERS.add(listener);
+        update();
+    }
+
+    static synchronized boolean remove(@NotNull ParseListener listener) {
+        final boolean removed = LISTENERS.remove(listener);
+        update();
+        return removed;
+    }
+
+    private static void update() {
+        listener = LISTENERS.isEmpty() ? null : ParseListener.of(LISTENERS.toArray(new ParseListener[0]));
+    }
+
+    /**
+     * Parse the provided object with parser and notify the listener.
+     *
+     * @param listener the listener to notify.
+     * @param type     the target type.
+     * @param parser   the parser to use.
+     * @param object   the object to parse.
+     * @param def      the default value to return if the parsed value is null.
+     * @return         a parsed value, default object otherwise.
+     * @param <T>      the type result.
+     */
+    @Nullable
+    static <T> T parse(@NotNull ParseListener listener, @Nullable Object type, @NotNull TypeParser<T> parser, @Nullable Object object, @Nullable T def) {
+        final long start = System.nanoTime();
+        final T result;
+        try {
+            result = object == null ? null : parser.parse(object);
+        } catch (Throwable t) {
+            listener.onFailure(type, object, t, System.nanoTime() - start);
+            throw t;
+        }
+        listener.onParse(type, object, result, System.nanoTime() - start);
+        if (result == null) {
+            listener.onDefault(type, object, def);
+            return def;
+        }
+        return result;
+    }
+
+    /**
+     * Parse the provided object with parser without throwing any exception and notify the listener.
+     *
+     * @param listener the listener to notify.
+     * @param type     the target type.
+     * @param parser   the parser to use.
+     * @param object   the object to parse.
+     * @param def      the default value to return if the object cannot be parsed.
+     * @return         a parsed value, default object otherwise.
+     * @param <T>      the type result.
+     */
+    @Nullable
+    static <T> T parseOrDefault(@NotNull ParseListener listener, @Nullable Object type, @NotNull TypeParser<T> parser, @Nullable Object object, @Nullable T def) {
+        final long start = System.nanoTime();
+        final ParseResult<T> result = parser.tryParse(object);
+        final long nanos = System.nanoTime() - start;
+        if (result.isFailure()) {
+            listener.onFailure(type, object, result.getCause(), nanos);
+        } else {
+            listener.onParse(type, object, result.getValue(), nanos);
+        }
+        if (!result.isPresent()) {
+            listener.onDefault(type, object, def);
+            return def;
+        }
+        return result.getValue();
+    }
+}
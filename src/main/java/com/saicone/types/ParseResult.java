@@ -0,0 +1,175 @@
+package com.saicone.types;
+
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * Represents the result of a parse operation that doesn't throw any exception.<br>
+ * A result can be present (non-null value), empty (null value) or failed (invalid input),
+ * empty results and failed results without cause are shared instances.
+ *
+ * @author Rubenicos
+ *
+ * @param <T> the type result of the parse operation.
+ */
+public final class ParseResult<T> {
+
+    private static final ParseResult<?> EMPTY = new ParseResult<>(null, false, null);
+    private static final ParseResult<?> FAILURE = new ParseResult<>(null, true, null);
+
+    /**
+     * Create a result with the given parsed value.
+     *
+     * @param value the parsed value.
+     * @return      a present result if the value is non-null, empty result otherwise.
+     * @param <T>   the type result of the parse operation.
+     */
+    @NotNull
+    @SuppressWarnings("unchecked")
+    public static <T> ParseResult<T> of(@Nullable T value) {
+        return value == null ? (ParseResult<T>) EMPTY : new ParseResult<>(value, false, null);
+    }
+
+    /**
+     * Get an empty result, used when the parsed value is null.
+     *
+     * @return an empty result.
+     * @param <T> the type result of the parse operation.
+     */
+    @NotNull
+    @SuppressWarnings("unchecked")
+    public static <T> ParseResult<T> empty() {
+        return (ParseResult<T>) EMPTY;
+    }
+
+    /**
+     * Get a failed result, used when the input cannot be parsed.
+     *
+     * @return a failed result.
+     * @param <T> the type result of the parse operation.
+     */
+    @NotNull
+    @SuppressWarnings("unchecked")
+    public static <T> ParseResult<T> failure() {
+        return (ParseResult<T>) FAILURE;
+    }
+
+    /**
+     * Create a failed result with the given cause.
+     *
+     * @param cause the error that caused the failure.
+     * @return      a failed result.
+     * @param <T>   the type result of the parse operation.
+     */
+    @NotNull
+    public static <T> ParseResult<T> failure(@NotNull Throwable cause) {
+        return new ParseResult<>(null, true, cause);
+    }
+
+    private final T value;
+    private final boolean failed;
+    private final Throwable cause;
+
+    private ParseResult(@Nullable T value, boolean failed, @Nullable Throwable cause) {
+        this.value = value;
+        this.failed = failed;
+        this.cause = cause;
+    }
+
+    /**
+     * Check if this result has a non-null value.
+     *
+     * @return true if the value is present.
+     */
+    public boolean isPresent() {
+        return value != null;
+    }
+
+    /**
+     * Check if this result doesn't have a value and is not failed.
+     *
+     * @return true if the parsed value is null.
+     */
+    public boolean isEmpty() {
+        return value == null && !failed;
+    }
+
+    /**
+     * Check if this result represents an invalid input.
+     *
+     * @return true if the parse operation failed.
+     */
+    public boolean isFailure() {
+        return failed;
+    }
+
+    /**
+     * Get the parsed value.
+     *
+     * @return the parsed value if present, null otherwise.
+     */
+    @Nullable
+    public T getValue() {
+        return value;
+    }
+
+    /**
+     * Get the error that caused the failure, only available when a parser
+     * doesn't provide a native implementation for non-throwing parse.
+     *
+     * @return the error that caused the failure if any, null otherwise.
+     */
+    @Nullable
+    public Throwable getCause() {
+        return cause;
+    }
+
+    /**
+     * Get the parsed value or the provided default value.
+     *
+     * @param def the default value to return if the value is not present.
+     * @return    the parsed value if present, default value otherwise.
+     */
+    @Nullable
+    @Contract("!null -> !null")
+    public T orElse(@Nullable T def) {
+        return value != null ? value : def;
+    }
+
+    /**
+     * Convert this result into Optional object.
+     *
+     * @return an Optional with a present value if the parsed value is non-null, otherwise an empty Optional.
+     */
+    @NotNull
+    public Optional<T> optional() {
+        return Optional.ofNullable(value);
+    }
+
+    @Override
+    public boolean equals(Object object) {
+        if (this == object) return true;
+        if (object == null || getClass() != object.getClass()) return false;
+
+        ParseResult<?> result = (ParseResult<?>) object;
+
+        return failed == result.failed && Objects.equals(value, result.value);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(value, failed);
+    }
+
+    @Override
+    public String toString() {
+        if (failed) {
+            return cause == null ? "ParseResult.failure" : "ParseResult.failure[" + cause + "]";
+        }
+        return value == null ? "ParseResult.empty" : "ParseResult[" + value + "]";
+    }
+}
@@ -1,16 +1,24 @@
 package com.saicone.types;
 
+import com.saicone.types.parser.ArrayParser;
+import com.saicone.types.parser.CollectionParser;
+import com.saicone.types.parser.CompiledParser;
 import com.saicone.types.parser.EnumParser;
 import com.saicone.types.parser.MapParser;
+import com.saicone.types.util.ConcurrentLruCache;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 import java.lang.annotation.Annotation;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.AnnotatedArrayType;
 import java.lang.reflect.AnnotatedParameterizedType;
 import java.lang.reflect.AnnotatedType;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.GenericArrayType;
+import java.lang.reflect.Modifier;
 import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
 import java.util.ArrayList;
@@ -32,6 +40,8 @@ import java.util.SortedMap;
 import java.util.SortedSet;
 import java.util.TreeMap;
 import java.util.TreeSet;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Function;
 
 /**
  * Represents an automatic detection type parser that retrieves the provided type parameter at runtime.<br>
@@ -59,13 +69,16 @@ public abstract class TypeOf<T> implements TypeParser<T> {
         NEAREST_TYPES.put(Deque.class, LinkedList.class);
     }
 
+    private static final ConcurrentLruCache<Type, TypeParser<?>> PARSERS = new ConcurrentLruCache<>(512);
+
     private final AnnotatedType annotated;
 
     private transient Boolean notNull;
     private transient Boolean nullable;
     private transient Class<?> rawType;
     private transient List<TypeOf<?>> parameters;
-    private transient TypeParser<?> delegate;
+    private transient volatile TypeParser<?> delegate;
+    private transient volatile TypeParser<T> compiled;
 
     /**
      * Constructs a TypeOf object that extracts annotated type at runtime.
@@ -257,20 +270,33 @@ public abstract class TypeOf<T> implements TypeParser<T> {
     @NotNull
     public List<TypeOf<?>> getParameters() {
         if (parameters == null) {
-            parameters = new ArrayList<>();
+            final List<TypeOf<?>> list = new ArrayList<>();
             final AnnotatedType type = getAnnotated();
             if (type instanceof AnnotatedParameterizedType) {
                 for (AnnotatedType annotated : ((AnnotatedParameterizedType) type).getAnnotatedActualTypeArguments()) {
-                    parameters.add(new TypeOf<Object>(annotated){});
+                    list.add(new TypeOf<Object>(annotated){});
                 }
             }
+            parameters = list;
         }
         return parameters;
     }
 
     @NotNull
-    @SuppressWarnings("unchecked")
     private TypeParser<?> getParser() {
+        // Compiled parsers are shared by any TypeOf object that represents the same generic type
+        TypeParser<?> parser = delegate;
+        if (parser == null) {
+            final Type type = getType();
+            parser = PARSERS.computeIfAbsent(type, key -> compileParser());
+            delegate = parser;
+        }
+        return parser;
+    }
+
+    @NotNull
+    @SuppressWarnings("unchecked")
+    private TypeParser<?> compileParser() {
         try {
             final Class<?> raw = getRawType();
             if (Map.class.isAssignableFrom(raw)) {
@@ -291,53 +317,56 @@ public abstract class TypeOf<T> implements TypeParser<T> {
 
     @NotNull
     @SuppressWarnings("all")
-    private TypeParser<?> getMapParser(@NotNull Class<? extends Map<?, ?>> raw) throws NoSuchMethodException {
-        Constructor<? extends Map<?, ?>> c;
-        try {
-            c = raw.getDeclaredConstructor(int.class);
-        } catch (NoSuchMethodException e) {
-            c = raw.getDeclaredConstructor();
-        }
-
-        final Constructor<? extends Map<?, ?>> constructor = c;
+    private TypeParser<?> getMapParser(@NotNull Class<? extends Map<?, ?>> raw) throws ReflectiveOperationException {
         final TypeParser keyParser = getParameters().isEmpty() ? Types.OBJECT : getParameters().get(0).getParser();
         final TypeParser valueParser = getParameters().size() < 2 ? Types.OBJECT : getParameters().get(1).getParser();
-        return new MapParser<>(capacity -> {
-            try {
-                if (constructor.getParameterCount() > 0) {
-                    return (Map<Object, Object>) constructor.newInstance(capacity);
-                } else {
-                    return (Map<Object, Object>) constructor.newInstance();
-                }
-            } catch (Throwable t) {
-                throw new RuntimeException(t);
-            }
-        }, keyParser, valueParser);
+        return new MapParser<>((Function) getAllocator(raw), keyParser, valueParser);
     }
 
     @NotNull
     @SuppressWarnings("all")
-    private TypeParser<?> getCollectionParser(@NotNull Class<? extends Collection<?>> raw) throws NoSuchMethodException {
-        Constructor<? extends Collection<?>> c;
-        try {
-            c = raw.getDeclaredConstructor(int.class);
-        } catch (NoSuchMethodException e) {
-            c = raw.getDeclaredConstructor();
+    private TypeParser<?> getCollectionParser(@NotNull Class<? extends Collection<?>> raw) throws ReflectiveOperationException {
+        final TypeParser elementParser = getParameters().isEmpty() ? Types.OBJECT : getParameters().get(0).getParser();
+        return elementParser.collection(raw, (Function) getAllocator(raw));
+    }
+
+    @NotNull
+    private static Function<Integer, Object> getAllocator(@NotNull Class<?> raw) throws ReflectiveOperationException {
+        // Constructors are pre-bound as method handles with (int)Object and ()Object types
+        MethodHandle sized = null;
+        MethodHandle empty = null;
+        for (Constructor<?> constructor : raw.getDeclaredConstructors()) {
+            final Class<?>[] parameters = constructor.getParameterTypes();
+            if (parameters.length == 0) {
+                empty = unreflect(constructor).asType(MethodType.methodType(Object.class));
+            } else if (parameters.length == 1 && parameters[0] == int.class) {
+                sized = unreflect(constructor).asType(MethodType.methodType(Object.class, int.class));
+            }
+        }
+        if (sized == null && empty == null) {
+            throw new NoSuchMethodException(raw.getName() + ".<init>()");
         }
 
-        final TypeParser elementParser = getParameters().isEmpty() ? Types.OBJECT : getParameters().get(0).getParser();
-        final Constructor<? extends Collection<?>> constructor = c;
-        return elementParser.collection(raw, capacity -> {
+        final MethodHandle sizedConstructor = sized;
+        final MethodHandle emptyConstructor = empty;
+        return capacity -> {
             try {
-                if (constructor.getParameterCount() > 0) {
-                    return (Collection<Object>) constructor.newInstance(capacity);
-                } else {
-                    return (Collection<Object>) constructor.newInstance();
+                if (sizedConstructor == null || emptyConstructor != null && (capacity == null || capacity < 1)) {
+                    return (Object) emptyConstructor.invokeExact();
                 }
+                return (Object) sizedConstructor.invokeExact(capacity == null ? 0 : (int) capacity);
             } catch (Throwable t) {
                 throw new RuntimeException(t);
             }
-        });
+        };
+    }
+
+    @NotNull
+    private static MethodHandle unreflect(@NotNull Constructor<?> constructor) throws IllegalAccessException {
+        if (!Modifier.isPublic(constructor.getModifiers()) || !Modifier.isPublic(constructor.getDeclaringClass().getModifiers())) {
+            constructor.setAccessible(true);
+        }
+        return MethodHandles.lookup().unreflectConstructor(constructor);
     }
 
     @NotNull
@@ -356,10 +385,73 @@ public abstract class TypeOf<T> implements TypeParser<T> {
     @Override
     @SuppressWarnings("unchecked")
     public @Nullable T parse(@NotNull Object object) {
-        if (delegate == null) {
-            delegate = getParser();
+        return (T) getParser().parse(object);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public @Nullable T coerce(@Nullable Object object, boolean inPlace) {
+        return (T) getParser().coerce(object, inPlace);
+    }
+
+    /**
+     * Get a type parser of this type compiled into a specialized parser tree.<br>
+     * Nested map and collection parsers are replaced by nodes that iterate the objects directly
+     * and call the child nodes without intermediate functions, and common number and string
+     * conversions are done inline, the result is the same as {@link #parse(Object)} does.
+     *
+     * @return a compiled type parser.
+     * @see CompiledParser
+     */
+    @NotNull
+    @SuppressWarnings("unchecked")
+    public TypeParser<T> compile() {
+        TypeParser<T> parser = compiled;
+        if (parser == null) {
+            parser = CompiledParser.compile((TypeParser<T>) getParser());
+            compiled = parser;
+        }
+        return parser;
+    }
+
+    /**
+     * Get a type parser of this type that parse large collections, maps and arrays in parallel.<br>
+     * Only the outer structure is split into chunks, so any nested structure is parsed
+     * sequentially inside the fork/join task that handles its element.
+     *
+     * @param pool      the fork/join pool to use.
+     * @param threshold the minimum number of elements to parse in parallel.
+     * @return          a type parser in parallel mode, or this object if the type doesn't hold elements.
+     */
+    @NotNull
+    @SuppressWarnings("unchecked")
+    public TypeParser<T> parallel(@NotNull ForkJoinPool pool, int threshold) {
+        final TypeParser<?> parser = getParser();
+        if (parser instanceof CollectionParser) {
+            return (TypeParser<T>) ((CollectionParser<?, ?>) parser).parallel(pool, threshold);
+        } else if (parser instanceof MapParser) {
+            return (TypeParser<T>) ((MapParser<?, ?>) parser).parallel(pool, threshold);
+        } else if (parser instanceof ArrayParser) {
+            return (TypeParser<T>) ((ArrayParser<?, ?>) parser).parallel(pool, threshold);
         }
-        return (T) delegate.parse(object);
+        return this;
+    }
+
+    /**
+     * Get the cache of compiled type parsers shared by any TypeOf object that represents the same generic type.
+     *
+     * @return a concurrent cache of type parsers.
+     */
+    @NotNull
+    public static ConcurrentLruCache<Type, TypeParser<?>> getCache() {
+        return PARSERS;
+    }
+
+    /**
+     * Remove every compiled type parser, so any parser is compiled again with current registered types.
+     */
+    static void invalidateParsers() {
+        PARSERS.clear();
     }
 
     @Override
@@ -1,5 +1,6 @@
 package com.saicone.types;
 
+import com.saicone.types.iterator.ParseSpliterator;
 import com.saicone.types.parser.ArrayParser;
 import com.saicone.types.parser.CollectionParser;
 import com.saicone.types.parser.ListParser;
@@ -10,13 +11,21 @@ import org.jetbrains.annotations.Nullable;
 
 import java.lang.reflect.Type;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.RandomAccess;
 import java.util.Set;
+import java.util.Spliterator;
+import java.util.Spliterators;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Executor;
 import java.util.function.Function;
 import java.util.function.Supplier;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
  * Represents a function that parse any type of object and converts into value type.
@@ -48,6 +57,11 @@ public interface TypeParser<T> extends Function<Object, T> {
             public @Nullable T parse(@NotNull Object object) {
                 return parser.parse(object);
             }
+
+            @Override
+            public @NotNull ParseResult<T> tryParse(@Nullable Object object) {
+                return parser.tryParse(object);
+            }
         };
     }
 
@@ -87,6 +101,11 @@ public interface TypeParser<T> extends Function<Object, T> {
                 }
                 return parser.parse(single);
             }
+
+            @Override
+            public @NotNull ParseResult<T> tryParse(@Nullable Object object) {
+                return object == null ? ParseResult.empty() : parser.tryParse(AnyIterable.of(object).first());
+            }
         };
     }
 
@@ -126,6 +145,11 @@ public interface TypeParser<T> extends Function<Object, T> {
                 }
                 return parser.parse(single);
             }
+
+            @Override
+            public @NotNull ParseResult<T> tryParse(@Nullable Object object) {
+                return object == null ? ParseResult.empty() : parser.tryParse(AnyIterable.of(object).single());
+            }
         };
     }
 
@@ -168,6 +192,62 @@ public interface TypeParser<T> extends Function<Object, T> {
     @Nullable
     T parse(@NotNull Object object);
 
+    /**
+     * Parse the given object into required type without throwing any exception.<br>
+     * Built-in parsers validate the input before conversion, so invalid inputs are
+     * reported as failed result instead of generating exceptions.
+     *
+     * @param object the object to parse.
+     * @return       a parse result that contains the converted value if present.
+     */
+    @NotNull
+    default ParseResult<T> tryParse(@Nullable Object object) {
+        if (object == null) {
+            return ParseResult.empty();
+        }
+        try {
+            return ParseResult.of(parse(object));
+        } catch (Throwable t) {
+            return ParseResult.failure(t);
+        }
+    }
+
+    /**
+     * Convert the given object into required type, reusing it as-is if it already has the required type.
+     *
+     * @see #coerce(Object, boolean)
+     *
+     * @param object the object to convert.
+     * @return       the same object if it's already an instance of the required type, a converted value otherwise.
+     */
+    @Nullable
+    @Contract("null -> null")
+    default T coerce(@Nullable Object object) {
+        return coerce(object, false);
+    }
+
+    /**
+     * Convert the given object into required type, reusing it as-is if it already has the required type.<br>
+     * Structure parsers walk the entire object instead of sampling its first element, so only
+     * the nested parts that actually need a conversion are rebuilt and any other part is reused.
+     *
+     * @param object  the object to convert.
+     * @param inPlace true to replace the converted elements directly inside mutable structures.
+     * @return        the same object if it's already an instance of the required type, a converted value otherwise.
+     */
+    @Nullable
+    @SuppressWarnings("unchecked")
+    default T coerce(@Nullable Object object, boolean inPlace) {
+        if (object == null) {
+            return null;
+        }
+        final Type type = getType();
+        if (type instanceof Class && ((Class<?>) type).isInstance(object)) {
+            return (T) object;
+        }
+        return parse(object);
+    }
+
     /**
      * Parse the given object into required type with a default return value if parsed value is null.
      *
@@ -215,11 +295,11 @@ public interface TypeParser<T> extends Function<Object, T> {
     @Nullable
     @Contract("_, !null -> !null")
     default T parseOrDefault(@Nullable Object object, @Nullable T def) {
-        try {
-            return parse(object, def);
-        } catch (Throwable t) {
-            return def;
+        final ParseListener listener = ParseListeners.get();
+        if (listener != null) {
+            return ParseListeners.parseOrDefault(listener, getType(), this, object, def);
         }
+        return tryParse(object).orElse(def);
     }
 
     /**
@@ -263,6 +343,13 @@ public interface TypeParser<T> extends Function<Object, T> {
                 final T t = TypeParser.this.parse(object);
                 return t == null ? null : parser.parse(t);
             }
+
+            @Override
+            @SuppressWarnings("unchecked")
+            public @NotNull ParseResult<E> tryParse(@Nullable Object object) {
+                final ParseResult<T> result = TypeParser.this.tryParse(object);
+                return result.isPresent() ? parser.tryParse(result.getValue()) : (ParseResult<E>) (ParseResult<?>) result;
+            }
         };
     }
 
@@ -300,7 +387,7 @@ public interface TypeParser<T> extends Function<Object, T> {
      */
     @NotNull
     default Optional<T> optional(@Nullable Object object) {
-        return Optional.ofNullable(object == null ? null : parseOrDefault(object, null));
+        return tryParse(object).optional();
     }
 
     /**
@@ -376,6 +463,72 @@ public interface TypeParser<T> extends Function<Object, T> {
         }, executor);
     }
 
+    /**
+     * Create an iterator that parse every element of the given object on demand.<br>
+     * The elements are obtained from {@link AnyIterable#of(Object)}, so any non-iterable
+     * object is handled as a single element.
+     *
+     * @param object the object to iterate.
+     * @return       an iterator of parsed elements, empty if the object is null.
+     */
+    @NotNull
+    default Iterator<T> iterator(@Nullable Object object) {
+        if (object == null) {
+            return Collections.emptyIterator();
+        }
+        final Iterator<Object> iterator = AnyIterable.of(object).iterator();
+        return new Iterator<T>() {
+            @Override
+            public boolean hasNext() {
+                return iterator.hasNext();
+            }
+
+            @Override
+            public T next() {
+                return parse(iterator.next(), null);
+            }
+        };
+    }
+
+    /**
+     * Create a spliterator that parse every element of the given object on demand.<br>
+     * Lists with fast random access and arrays are split by index range, so the spliterator
+     * reports {@link Spliterator#SIZED} and {@link Spliterator#SUBSIZED} characteristics.
+     *
+     * @param object the object to iterate.
+     * @return       a spliterator of parsed elements, empty if the object is null.
+     */
+    @NotNull
+    default Spliterator<T> spliterator(@Nullable Object object) {
+        if (object == null) {
+            return Spliterators.emptySpliterator();
+        }
+        final Object value = object instanceof AnyIterable ? ((AnyIterable<?>) object).getValue() : object;
+        if (value == null) {
+            return Spliterators.emptySpliterator();
+        } else if ((value instanceof List && value instanceof RandomAccess) || value.getClass().isArray()) {
+            return new ParseSpliterator<>(value, this);
+        } else if (value instanceof Collection) {
+            return Spliterators.spliterator(iterator(value), ((Collection<?>) value).size(), Spliterator.ORDERED);
+        } else if (value instanceof Map) {
+            return Spliterators.spliterator(iterator(value), ((Map<?, ?>) value).size(), Spliterator.ORDERED);
+        }
+        return Spliterators.spliteratorUnknownSize(iterator(value), Spliterator.ORDERED);
+    }
+
+    /**
+     * Create a sequential stream that parse every element of the given object on demand.<br>
+     * Elements are only parsed when the stream consumes them, so short-circuit operations
+     * like {@link Stream#findFirst()} or {@link Stream#limit(long)} avoid parsing the entire object.
+     *
+     * @param object the object to iterate.
+     * @return       a stream of parsed elements, empty if the object is null.
+     */
+    @NotNull
+    default Stream<T> stream(@Nullable Object object) {
+        return StreamSupport.stream(spliterator(object), false);
+    }
+
     /**
      * Get a view of this type parser as an array parser of its type.
      *
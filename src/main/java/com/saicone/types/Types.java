@@ -25,26 +25,37 @@ import java.math.BigDecimal;
 import java.math.BigInteger;
 import java.nio.file.Path;
 import java.time.Duration;
+import java.time.Instant;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.BitSet;
-import java.util.HashMap;
+import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.StringJoiner;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.regex.Pattern;
 
 /**
- * Utility class to collect common and registrable type parsers.
+ * Utility class to collect common and registrable type parsers.<br>
+ * The parser registry is thread-safe, so parsers can be registered or removed
+ * while other threads are parsing values.
  *
  * @author Rubenicos
  */
 public class Types {
 
-    private static final Map<Object, TypeParser<?>> PARSER_MAP = new HashMap<>();
+    // Concurrent map to safely publish parsers registered at runtime without locking lookups
+    private static final Map<Object, TypeParser<?>> PARSER_MAP = new ConcurrentHashMap<>();
+    // Resolved parsers by class, replaced on every registry change to invalidate any cached value
+    private static volatile ClassValue<TypeParser<?>> classParsers = new ClassParsers();
 
     /**
      * Type parser to return null for any provided object.
@@ -226,6 +237,24 @@ public class Types {
      * @see TemporalParser#LOCAL_DATE_TIME
      */
     public static final TypeParser<LocalDateTime> LOCAL_DATE_TIME = TemporalParser.LOCAL_DATE_TIME;
+    /**
+     * Instant parser type.
+     *
+     * @see TemporalParser#INSTANT
+     */
+    public static final TypeParser<Instant> INSTANT = TemporalParser.INSTANT;
+    /**
+     * OffsetDateTime parser type.
+     *
+     * @see TemporalParser#OFFSET_DATE_TIME
+     */
+    public static final TypeParser<OffsetDateTime> OFFSET_DATE_TIME = TemporalParser.OFFSET_DATE_TIME;
+    /**
+     * ZonedDateTime parser type.
+     *
+     * @see TemporalParser#ZONED_DATE_TIME
+     */
+    public static final TypeParser<ZonedDateTime> ZONED_DATE_TIME = TemporalParser.ZONED_DATE_TIME;
     /**
      * Array of objects type parser.
      *
@@ -310,6 +339,9 @@ public class Types {
         put(LocalDate.class, LOCAL_DATE);
         put(LocalTime.class, LOCAL_TIME);
         put(LocalDateTime.class, LOCAL_DATE_TIME);
+        put(Instant.class, INSTANT);
+        put(OffsetDateTime.class, OFFSET_DATE_TIME);
+        put(ZonedDateTime.class, ZONED_DATE_TIME);
         put(BitSet.class, BIT_SET);
         put(Object[].class, ARRAY);
         put(List.class, LIST);
@@ -340,7 +372,10 @@ public class Types {
      */
     @Nullable
     public static <T> TypeParser<?> put(@NotNull Class<T> type, @NotNull TypeParser<T> parser) {
-        return PARSER_MAP.put(type, parser);
+        final TypeParser<?> previous = PARSER_MAP.put(type, parser);
+        classParsers = new ClassParsers();
+        TypeOf.invalidateParsers();
+        return previous;
     }
 
     /**
@@ -353,7 +388,10 @@ public class Types {
      */
     @Nullable
     public static <T> TypeParser<?> put(@NotNull Object type, @NotNull TypeParser<T> parser) {
-        return PARSER_MAP.put(type instanceof String ? ((String) type).toLowerCase() : type, parser);
+        final TypeParser<?> previous = PARSER_MAP.put(type instanceof String ? ((String) type).toLowerCase() : type, parser);
+        classParsers = new ClassParsers();
+        TypeOf.invalidateParsers();
+        return previous;
     }
 
     /**
@@ -364,23 +402,36 @@ public class Types {
      */
     @Nullable
     public static TypeParser<?> remove(@NotNull Object type) {
-        return PARSER_MAP.remove(type instanceof String ? ((String) type).toLowerCase() : type);
+        final TypeParser<?> previous = PARSER_MAP.remove(type instanceof String ? ((String) type).toLowerCase() : type);
+        classParsers = new ClassParsers();
+        TypeOf.invalidateParsers();
+        return previous;
     }
 
     /**
-     * Get the previously registered type parser from class type.
+     * Get the previously registered type parser from class type.<br>
+     * If the class is not registered, the parser of the nearest registered supertype
+     * (superclasses first and then interfaces) is returned instead, but any parsed value
+     * that is not an instance of the provided class is returned as null, so supertype parsers
+     * never convert objects into the provided subtype.<br>
+     * Unregistered object array types are parsed with an {@link ArrayParser} of its component type.<br>
+     * The result is cached by class until the next registry change.
      *
      * @param type the class type.
      * @return     the registered type parser if found, parser by cast object otherwise.
      * @param <T>  the type result of the parser.
      */
     @NotNull
+    @SuppressWarnings("unchecked")
     public static <T> TypeParser<T> of(@NotNull Class<T> type) {
-        return of((Object) type);
+        return (TypeParser<T>) classParsers.get(type);
     }
 
     /**
-     * Get the previously registered type parser from object type.
+     * Get the previously registered type parser from object type.<br>
+     * If the object is not registered, the parser associated with its class is returned instead.
+     *
+     * @see Types#of(Class)
      *
      * @param type the key object.
      * @return     the registered type parser if found, parser by cast object otherwise.
@@ -389,12 +440,12 @@ public class Types {
     @NotNull
     @SuppressWarnings("unchecked")
     public static <T> TypeParser<T> of(@NotNull Object type) {
-        TypeParser<?> parser = PARSER_MAP.get(type);
-        if (parser == null) {
-            parser = PARSER_MAP.get(type.getClass());
+        if (type instanceof Class) {
+            return (TypeParser<T>) classParsers.get((Class<?>) type);
         }
+        final TypeParser<?> parser = PARSER_MAP.get(type);
         if (parser == null) {
-            return (object) -> (T) object;
+            return (TypeParser<T>) classParsers.get(type.getClass());
         }
         return (TypeParser<T>) parser;
     }
@@ -458,9 +509,87 @@ public class Types {
     @SuppressWarnings("unchecked")
     public static <T> T parse(@NotNull Object type, @Nullable Object object, @Nullable T def) {
         final TypeParser<?> parser = PARSER_MAP.get(type);
+        final ParseListener listener = ParseListeners.get();
         if (parser == null) {
+            if (listener != null) {
+                listener.onDefault(type, object, def);
+            }
             return def;
+        } else if (listener != null) {
+            return ParseListeners.parse(listener, type, (TypeParser<T>) parser, object, def);
         }
         return ((TypeParser<T>) parser).parse(object, def);
     }
+
+    /**
+     * Register a global parse listener to observe {@link #parse(Object, Object, Object)}
+     * and {@link TypeParser#parseOrDefault(Object, Object)} calls.
+     *
+     * @param listener the listener to register.
+     */
+    public static void addListener(@NotNull ParseListener listener) {
+        ParseListeners.add(listener);
+    }
+
+    /**
+     * Unregister a previously registered global parse listener.
+     *
+     * @param listener the listener to unregister.
+     * @return         true if the listener was registered.
+     */
+    public static boolean removeListener(@NotNull ParseListener listener) {
+        return ParseListeners.remove(listener);
+    }
+
+    private static final class ClassParsers extends ClassValue<TypeParser<?>> {
+
+        @Override
+        protected TypeParser<?> computeValue(Class<?> type) {
+            final TypeParser<?> parser = PARSER_MAP.get(type);
+            if (parser != null) {
+                return parser;
+            }
+            if (type.isArray() && !type.getComponentType().isPrimitive()) {
+                // Object arrays are parsed by its component type, so the result is an instance of the requested array type
+                return ArrayParser.of(type.getComponentType());
+            }
+            // Walk supertypes by levels, so the nearest registered supertype wins
+            List<Class<?>> level = Collections.singletonList(type);
+            final Set<Class<?>> visited = new HashSet<>();
+            while (!level.isEmpty()) {
+                final List<Class<?>> next = new ArrayList<>();
+                for (Class<?> c : level) {
+                    final Class<?> superclass = c.getSuperclass();
+                    if (superclass != null && superclass != Object.class && visited.add(superclass)) {
+                        next.add(superclass);
+                    }
+                    for (Class<?> i : c.getInterfaces()) {
+                        if (visited.add(i)) {
+                            next.add(i);
+                        }
+                    }
+                }
+                for (Class<?> c : next) {
+                    final TypeParser<?> found = PARSER_MAP.get(c);
+                    if (found != null) {
+                        return inherited(type, found);
+                    }
+                }
+                level = next;
+            }
+            return TypeParser.of(type, (object) -> object);
+        }
+
+        // A supertype parser can produce supertype instances, so any result that is not a requested type instance is discarded
+        @NotNull
+        private static TypeParser<?> inherited(@NotNull Class<?> type, @NotNull TypeParser<?> parser) {
+            return TypeParser.of(type, (object) -> {
+                if (type.isInstance(object)) {
+                    return object;
+                }
+                final Object result = parser.parse(object);
+                return type.isInstance(result) ? result : null;
+            });
+        }
+    }
 }
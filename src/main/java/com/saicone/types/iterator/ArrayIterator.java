@@ -3,6 +3,7 @@ package com.saicone.types.iterator;
 import com.saicone.types.AnyIterator;
 import com.saicone.types.TypeParser;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 import java.lang.reflect.Array;
 import java.util.ConcurrentModificationException;
@@ -19,7 +20,19 @@ import java.util.NoSuchElementException;
  */
 public abstract class ArrayIterator<T> extends AnyIterator<T> implements ListIterator<T> {
 
+    // Array component kinds, selected once to avoid reflective array access
+    private static final int OBJECT = 0;
+    private static final int INT = 1;
+    private static final int LONG = 2;
+    private static final int DOUBLE = 3;
+    private static final int FLOAT = 4;
+    private static final int SHORT = 5;
+    private static final int BYTE = 6;
+    private static final int CHAR = 7;
+    private static final int BOOLEAN = 8;
+
     private final boolean objectArray;
+    private final int kind;
 
     private int currentIndex;
     private int lastIndex = -1;
@@ -59,15 +72,110 @@ public abstract class ArrayIterator<T> extends AnyIterator<T> implements ListIte
 
             @Override
             public T get(int index) {
-                if (isObjectArray()) {
-                    return parser.parse(((Object[]) getValue())[index]);
-                } else {
-                    return parser.parse(Array.get(getValue(), index));
-                }
+                return parser.parse(getElement(getValue(), index));
             }
         };
     }
 
+    /**
+     * Returns the length of the specified array object without reflective access for known array types.
+     *
+     * @param array the array object.
+     * @return      the length of the array.
+     * @throws IllegalArgumentException if the object argument is not an array.
+     */
+    public static int getLength(@NotNull Object array) throws IllegalArgumentException {
+        return length(array, kindOf(array));
+    }
+
+    /**
+     * Returns the value of the indexed component in the specified array object without reflective access for known array types.
+     * The value is automatically wrapped in an object if it has a primitive type.
+     *
+     * @param array the array object.
+     * @param index the index.
+     * @return      the (possibly wrapped) value of the indexed component in the specified array.
+     * @throws IllegalArgumentException if the object argument is not an array.
+     */
+    @Nullable
+    public static Object getElement(@NotNull Object array, int index) throws IllegalArgumentException {
+        return get(array, kindOf(array), index);
+    }
+
+    private static int kindOf(@NotNull Object array) {
+        if (array instanceof Object[]) {
+            return OBJECT;
+        } else if (array instanceof int[]) {
+            return INT;
+        } else if (array instanceof long[]) {
+            return LONG;
+        } else if (array instanceof double[]) {
+            return DOUBLE;
+        } else if (array instanceof float[]) {
+            return FLOAT;
+        } else if (array instanceof short[]) {
+            return SHORT;
+        } else if (array instanceof byte[]) {
+            return BYTE;
+        } else if (array instanceof char[]) {
+            return CHAR;
+        } else if (array instanceof boolean[]) {
+            return BOOLEAN;
+        } else {
+            throw new IllegalArgumentException("The object " + array.getClass().getName() + " is not an array");
+        }
+    }
+
+    private static int length(@NotNull Object array, int kind) {
+        switch (kind) {
+            case OBJECT:
+                return ((Object[]) array).length;
+            case INT:
+                return ((int[]) array).length;
+            case LONG:
+                return ((long[]) array).length;
+            case DOUBLE:
+                return ((double[]) array).length;
+            case FLOAT:
+                return ((float[]) array).length;
+            case SHORT:
+                return ((short[]) array).length;
+            case BYTE:
+                return ((byte[]) array).length;
+            case CHAR:
+                return ((char[]) array).length;
+            case BOOLEAN:
+                return ((boolean[]) array).length;
+            default:
+                return Array.getLength(array);
+        }
+    }
+
+    private static Object get(@NotNull Object array, int kind, int index) {
+        switch (kind) {
+            case OBJECT:
+                return ((Object[]) array)[index];
+            case INT:
+                return ((int[]) array)[index];
+            case LONG:
+                return ((long[]) array)[index];
+            case DOUBLE:
+                return ((double[]) array)[index];
+            case FLOAT:
+                return ((float[]) array)[index];
+            case SHORT:
+                return ((short[]) array)[index];
+            case BYTE:
+                return ((byte[]) array)[index];
+            case CHAR:
+                return ((char[]) array)[index];
+            case BOOLEAN:
+                return ((boolean[]) array)[index];
+            default:
+                return Array.get(array, index);
+        }
+    }
+
     /**
      * Constructs an array iterator with provided array object.
      *
@@ -85,7 +193,8 @@ public abstract class ArrayIterator<T> extends AnyIterator<T> implements ListIte
      */
     public ArrayIterator(@NotNull Object value, int currentIndex) {
         super(value);
-        this.objectArray = value instanceof Object[];
+        this.kind = kindOf(value);
+        this.objectArray = kind == OBJECT;
         this.currentIndex = currentIndex;
     }
 
@@ -104,11 +213,7 @@ public abstract class ArrayIterator<T> extends AnyIterator<T> implements ListIte
      * @return the length of the array.
      */
     public int size() {
-        if (objectArray) {
-            return ((Object[]) getValue()).length;
-        } else {
-            return Array.getLength(getValue());
-        }
+        return length(getValue(), kind);
     }
 
     /**
@@ -120,11 +225,7 @@ public abstract class ArrayIterator<T> extends AnyIterator<T> implements ListIte
      */
     @SuppressWarnings("unchecked")
     public T get(int index) {
-        if (objectArray) {
-            return (T) ((Object[]) getValue())[index];
-        } else {
-            return (T) Array.get(getValue(), index);
-        }
+        return (T) get(getValue(), kind, index);
     }
 
     @Override
@@ -186,14 +287,9 @@ public abstract class ArrayIterator<T> extends AnyIterator<T> implements ListIte
         if (size == 0 || index >= size) {
             throw new ConcurrentModificationException();
         }
-        Object newArray = Array.newInstance(getValue().getClass().getComponentType(), size - 1);
-        for (int i = 0; i < size; i++) {
-            if (i < index) {
-                Array.set(newArray, i, get(i));
-            } else if (i > index) {
-                Array.set(newArray, i - 1, get(i));
-            }
-        }
+        final Object newArray = Array.newInstance(getValue().getClass().getComponentType(), size - 1);
+        System.arraycopy(getValue(), 0, newArray, 0, index);
+        System.arraycopy(getValue(), index + 1, newArray, index, size - index - 1);
         this.value = newArray;
         setValue(newArray);
     }
@@ -235,18 +331,11 @@ public abstract class ArrayIterator<T> extends AnyIterator<T> implements ListIte
      */
     public void add(int index, T t) {
         final int size = size();
-        Object newArray = Array.newInstance(getValue().getClass().getComponentType(), size + 1);
-
-        for (int i = 0; i < size; i++) {
-            if (i < index) {
-                Array.set(newArray, i, get(i));
-            } else if (i == index) {
-                Array.set(newArray, i, t);
-            } else {
-                Array.set(newArray, i + 1, get(i));
-            }
-        }
-
+        final Object newArray = Array.newInstance(getValue().getClass().getComponentType(), size + 1);
+        System.arraycopy(getValue(), 0, newArray, 0, index);
+        System.arraycopy(getValue(), index, newArray, index + 1, size - index);
+        Array.set(newArray, index, t);
+        this.value = newArray;
         setValue(newArray);
     }
 }
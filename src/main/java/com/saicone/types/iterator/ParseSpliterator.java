@@ -0,0 +1,101 @@
+package com.saicone.types.iterator;
+
+import com.saicone.types.TypeParser;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.List;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+
+/**
+ * Spliterator that parse the elements of an indexed object on demand.<br>
+ * This spliterator can be used with {@link List} objects that allow fast random access and arrays,
+ * the elements are split by index range, so it reports {@link #SIZED} and {@link #SUBSIZED} characteristics.
+ *
+ * @author Rubenicos
+ *
+ * @param <T> the type result of parsed elements.
+ */
+public class ParseSpliterator<T> implements Spliterator<T> {
+
+    private final Object value;
+    private final TypeParser<T> parser;
+    private int index;
+    private final int fence;
+
+    /**
+     * Constructs a parse spliterator that cover every element of provided object.
+     *
+     * @param value  the list or array to iterate.
+     * @param parser the parser to use on every element.
+     */
+    public ParseSpliterator(@NotNull Object value, @NotNull TypeParser<T> parser) {
+        this(value, parser, 0, value instanceof List ? ((List<?>) value).size() : ArrayIterator.getLength(value));
+    }
+
+    /**
+     * Constructs a parse spliterator that cover the provided index range of object.
+     *
+     * @param value  the list or array to iterate.
+     * @param parser the parser to use on every element.
+     * @param origin the first index, inclusive.
+     * @param fence  the last index, exclusive.
+     */
+    public ParseSpliterator(@NotNull Object value, @NotNull TypeParser<T> parser, int origin, int fence) {
+        this.value = value;
+        this.parser = parser;
+        this.index = origin;
+        this.fence = fence;
+    }
+
+    @Nullable
+    private Object get(int index) {
+        if (value instanceof Object[]) {
+            return ((Object[]) value)[index];
+        } else if (value instanceof List) {
+            return ((List<?>) value).get(index);
+        }
+        return ArrayIterator.getElement(value, index);
+    }
+
+    @Override
+    public boolean tryAdvance(@NotNull Consumer<? super T> action) {
+        if (index < fence) {
+            action.accept(parser.parse(get(index++), null));
+            return true;
+        }
+        return false;
+    }
+
+    @Override
+    public void forEachRemaining(@NotNull Consumer<? super T> action) {
+        final int end = fence;
+        int i = index;
+        index = end;
+        for (; i < end; i++) {
+            action.accept(parser.parse(get(i), null));
+        }
+    }
+
+    @Override
+    public @Nullable Spliterator<T> trySplit() {
+        final int origin = index;
+        final int middle = (origin + fence) >>> 1;
+        if (origin >= middle) {
+            return null;
+        }
+        index = middle;
+        return new ParseSpliterator<>(value, parser, origin, middle);
+    }
+
+    @Override
+    public long estimateSize() {
+        return fence - index;
+    }
+
+    @Override
+    public int characteristics() {
+        return ORDERED | SIZED | SUBSIZED;
+    }
+}
@@ -2,11 +2,15 @@ package com.saicone.types.parser;
 
 import com.saicone.types.TypeParser;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
+import java.util.concurrent.ForkJoinPool;
 import java.util.function.Function;
 
 /**
- * Represents a parser that convert objects into an allocatable size object.
+ * Represents a parser that convert objects into an allocatable size object.<br>
+ * An allocatable size parser can optionally parse large objects in parallel using a fork/join pool,
+ * the elements are still assembled in their original order.
  *
  * @author Rubenicos
  *
@@ -15,6 +19,8 @@ import java.util.function.Function;
 public abstract class AllocParser<T> implements TypeParser<T> {
 
     private final Function<Integer, T> supplier;
+    private final ForkJoinPool pool;
+    private final int threshold;
 
     /**
      * Construct an allocatable size object parser with function that supply a newly generated object to fill.
@@ -22,7 +28,72 @@ public abstract class AllocParser<T> implements TypeParser<T> {
      * @param supplier the function that generate an object with allocatable size.
      */
     public AllocParser(@NotNull Function<Integer, T> supplier) {
+        this(supplier, null, 0);
+    }
+
+    /**
+     * Construct an allocatable size object parser with function that supply a newly generated object to fill
+     * and parallel parsing mode.
+     *
+     * @param supplier  the function that generate an object with allocatable size.
+     * @param pool      the fork/join pool used to parse elements in parallel, null to parse sequentially.
+     * @param threshold the minimum number of elements to parse in parallel.
+     */
+    public AllocParser(@NotNull Function<Integer, T> supplier, @Nullable ForkJoinPool pool, int threshold) {
+        if (threshold < 0) {
+            throw new IllegalArgumentException("The parallel threshold cannot be negative");
+        }
         this.supplier = supplier;
+        this.pool = pool;
+        this.threshold = threshold;
+    }
+
+    /**
+     * Get the function that generate an object with allocatable size.
+     *
+     * @return a function that accepts a nullable capacity.
+     */
+    @NotNull
+    protected Function<Integer, T> getSupplier() {
+        return supplier;
+    }
+
+    /**
+     * Get the fork/join pool used to parse elements in parallel.
+     *
+     * @return a fork/join pool if parallel mode is enabled, null otherwise.
+     */
+    @Nullable
+    public ForkJoinPool getPool() {
+        return pool;
+    }
+
+    /**
+     * Get the minimum number of elements to parse in parallel.
+     *
+     * @return a number of elements.
+     */
+    public int getThreshold() {
+        return threshold;
+    }
+
+    /**
+     * Check if this parser is in parallel mode.
+     *
+     * @return true if elements can be parsed in parallel.
+     */
+    public boolean isParallel() {
+        return pool != null;
+    }
+
+    /**
+     * Check if the provided number of elements should be parsed in parallel.
+     *
+     * @param size the number of elements.
+     * @return     true if parallel mode is enabled and the size reaches the threshold.
+     */
+    protected boolean isParallel(int size) {
+        return pool != null && size >= threshold && size > 1;
     }
 
     /**
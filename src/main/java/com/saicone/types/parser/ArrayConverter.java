@@ -0,0 +1,564 @@
+package com.saicone.types.parser;
+
+import com.saicone.types.TypeParser;
+import com.saicone.types.Types;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.lang.reflect.Array;
+
+/**
+ * Bulk conversion engine between arrays, every supported (source, target) pair
+ * is converted using a dedicated loop that reads and writes primitive values directly,
+ * without boxing or reflective array access.<br>
+ * The conversion follows the same rules as the default primitive parsers, so any
+ * narrowing conversion of an out-of-range value throws the same exception that
+ * {@link NumberParser#parseNumber(Number)} does.
+ *
+ * @author Rubenicos
+ */
+final class ArrayConverter {
+
+    static final int NONE = -1;
+    static final int OBJECT = 0;
+    static final int INT = 1;
+    static final int LONG = 2;
+    static final int DOUBLE = 3;
+    static final int FLOAT = 4;
+    static final int SHORT = 5;
+    static final int BYTE = 6;
+
+    // Snapshot of default primitive parsers, any custom parser registered later is not handled by bulk conversion
+    private static final TypeParser<?>[] DEFAULTS = new TypeParser<?>[] {
+            null,
+            Types.of(int.class),
+            Types.of(long.class),
+            Types.of(double.class),
+            Types.of(float.class),
+            Types.of(short.class),
+            Types.of(byte.class)
+    };
+
+    private ArrayConverter() {
+    }
+
+    /**
+     * Get the kind of the provided array.
+     *
+     * @param array the array to check.
+     * @return      an array kind, or {@link #NONE} if the array is not supported.
+     */
+    static int kindOf(@NotNull Object array) {
+        if (array instanceof Object[]) {
+            return OBJECT;
+        }
+        return primitiveKind(array.getClass().getComponentType());
+    }
+
+    /**
+     * Get the kind of array that can be filled by bulk conversion using the provided component parser.
+     *
+     * @param componentType   the array component type.
+     * @param componentParser the parser used to convert components.
+     * @return                an array kind, or {@link #NONE} if the parser is not a default primitive parser.
+     */
+    static int targetKind(@NotNull Class<?> componentType, @NotNull TypeParser<?> componentParser) {
+        final int kind = primitiveKind(componentType);
+        if (kind == NONE || DEFAULTS[kind] != componentParser) {
+            return NONE;
+        }
+        return kind;
+    }
+
+    private static int primitiveKind(@Nullable Class<?> type) {
+        if (type == int.class) {
+            return INT;
+        } else if (type == long.class) {
+            return LONG;
+        } else if (type == double.class) {
+            return DOUBLE;
+        } else if (type == float.class) {
+            return FLOAT;
+        } else if (type == short.class) {
+            return SHORT;
+        } else if (type == byte.class) {
+            return BYTE;
+        }
+        return NONE;
+    }
+
+    /**
+     * Convert the first elements of source array into target array.
+     *
+     * @param source          the source array, must be compatible with source kind.
+     * @param sourceKind      the source kind, obtained with {@link #kindOf(Object)}.
+     * @param target          the target array, must be compatible with target kind.
+     * @param targetKind      the target kind, obtained with {@link #targetKind(Class, TypeParser)}.
+     * @param length          the number of elements to convert.
+     * @param componentParser the parser used to convert non-primitive elements.
+     */
+    static void convert(@NotNull Object source, int sourceKind, @NotNull Object target, int targetKind, int length, @NotNull TypeParser<?> componentParser) {
+        if (sourceKind == targetKind) {
+            System.arraycopy(source, 0, target, 0, length);
+            return;
+        }
+        switch (targetKind) {
+            case INT:
+                toInt(source, sourceKind, (int[]) target, length, componentParser);
+                break;
+            case LONG:
+                toLong(source, sourceKind, (long[]) target, length, componentParser);
+                break;
+            case DOUBLE:
+                toDouble(source, sourceKind, (double[]) target, length, componentParser);
+                break;
+            case FLOAT:
+                toFloat(source, sourceKind, (float[]) target, length, componentParser);
+                break;
+            case SHORT:
+                toShort(source, sourceKind, (short[]) target, length, componentParser);
+                break;
+            case BYTE:
+                toByte(source, sourceKind, (byte[]) target, length, componentParser);
+                break;
+            default:
+                throw new IllegalArgumentException("Invalid target kind: " + targetKind);
+        }
+    }
+
+    /**
+     * Set a single converted value into array without reflective access if possible.
+     *
+     * @param array the array to modify.
+     * @param kind  the array kind, obtained with {@link #kindOf(Object)}.
+     * @param index the index to set.
+     * @param value the value to set.
+     */
+    static void set(@NotNull Object array, int kind, int index, @Nullable Object value) {
+        switch (kind) {
+            case OBJECT:
+                ((Object[]) array)[index] = value;
+                return;
+            case INT:
+                if (value instanceof Integer) {
+                    ((int[]) array)[index] = (Integer) value;
+                    return;
+                }
+                break;
+            case LONG:
+                if (value instanceof Long) {
+                    ((long[]) array)[index] = (Long) value;
+                    return;
+                }
+                break;
+            case DOUBLE:
+                if (value instanceof Double) {
+                    ((double[]) array)[index] = (Double) value;
+                    return;
+                }
+                break;
+            case FLOAT:
+                if (value instanceof Float) {
+                    ((float[]) array)[index] = (Float) value;
+                    return;
+                }
+                break;
+            default:
+                break;
+        }
+        Array.set(array, index, value);
+    }
+
+    private static void toInt(@NotNull Object source, int kind, int[] target, int length, @NotNull TypeParser<?> parser) {
+        switch (kind) {
+            case LONG: {
+                final long[] array = (long[]) source;
+                for (int i = 0; i < length; i++) {
+                    final long value = array[i];
+                    if (value < Integer.MIN_VALUE || value > Integer.MAX_VALUE) {
+                        throw outOfRange(NumberParser.INTEGER, value);
+                    }
+                    target[i] = (int) value;
+                }
+                break;
+            }
+            case DOUBLE: {
+                final double[] array = (double[]) source;
+                for (int i = 0; i < length; i++) {
+                    final double value = array[i];
+                    if (!(value >= Integer.MIN_VALUE && value <= Integer.MAX_VALUE)) {
+                        throw outOfRange(NumberParser.INTEGER, value);
+                    }
+                    target[i] = (int) value;
+                }
+                break;
+            }
+            case FLOAT: {
+                final float[] array = (float[]) source;
+                for (int i = 0; i < length; i++) {
+                    final float value = array[i];
+                    if (!(value >= Integer.MIN_VALUE && value <= Integer.MAX_VALUE)) {
+                        throw outOfRange(NumberParser.INTEGER, value);
+                    }
+                    target[i] = (int) value;
+                }
+                break;
+            }
+            case SHORT: {
+                final short[] array = (short[]) source;
+                for (int i = 0; i < length; i++) {
+                    target[i] = array[i];
+                }
+                break;
+            }
+            case BYTE: {
+                final byte[] array = (byte[]) source;
+                for (int i = 0; i < length; i++) {
+                    target[i] = array[i];
+                }
+                break;
+            }
+            case OBJECT: {
+                final Object[] array = (Object[]) source;
+                for (int i = 0; i < length; i++) {
+                    final Object value = array[i];
+                    if (value instanceof Integer) {
+                        target[i] = (Integer) value;
+                    } else if (value instanceof String) {
+                        target[i] = NumberParser.parseInt((String) value);
+                    } else {
+                        target[i] = ((Number) parser.parse(value)).intValue();
+                    }
+                }
+                break;
+            }
+            default:
+                throw new IllegalArgumentException("Invalid source kind: " + kind);
+        }
+    }
+
+    private static void toLong(@NotNull Object source, int kind, long[] target, int length, @NotNull TypeParser<?> parser) {
+        switch (kind) {
+            case INT: {
+                final int[] array = (int[]) source;
+                for (int i = 0; i < length; i++) {
+                    target[i] = array[i];
+                }
+                break;
+            }
+            case DOUBLE: {
+                final double[] array = (double[]) source;
+                for (int i = 0; i < length; i++) {
+                    final double value = array[i];
+                    if (!(value >= Long.MIN_VALUE && value <= Long.MAX_VALUE)) {
+                        throw outOfRange(NumberParser.LONG, value);
+                    }
+                    target[i] = (long) value;
+                }
+                break;
+            }
+            case FLOAT: {
+                // Float values are not range-checked by long parser
+                final float[] array = (float[]) source;
+                for (int i = 0; i < length; i++) {
+                    target[i] = (long) array[i];
+                }
+                break;
+            }
+            case SHORT: {
+                final short[] array = (short[]) source;
+                for (int i = 0; i < length; i++) {
+                    target[i] = array[i];
+                }
+                break;
+            }
+            case BYTE: {
+                final byte[] array = (byte[]) source;
+                for (int i = 0; i < length; i++) {
+                    target[i] = array[i];
+                }
+                break;
+            }
+            case OBJECT: {
+                final Object[] array = (Object[]) source;
+                for (int i = 0; i < length; i++) {
+                    final Object value = array[i];
+                    if (value instanceof Long) {
+                        target[i] = (Long) value;
+                    } else if (value instanceof String) {
+                        target[i] = NumberParser.parseLong((String) value);
+                    } else {
+                        target[i] = ((Number) parser.parse(value)).longValue();
+                    }
+                }
+                break;
+            }
+            default:
+                throw new IllegalArgumentException("Invalid source kind: " + kind);
+        }
+    }
+
+    private static void toDouble(@NotNull Object source, int kind, double[] target, int length, @NotNull TypeParser<?> parser) {
+        switch (kind) {
+            case INT: {
+                final int[] array = (int[]) source;
+                for (int i = 0; i < length; i++) {
+                    target[i] = array[i];
+                }
+                break;
+            }
+            case LONG: {
+                final long[] array = (long[]) source;
+                for (int i = 0; i < length; i++) {
+                    target[i] = array[i];
+                }
+                break;
+            }
+            case FLOAT: {
+                // Same as double parser, the shortest decimal representation of float is kept
+                final float[] array = (float[]) source;
+                for (int i = 0; i < length; i++) {
+                    target[i] = Double.parseDouble(Float.toString(array[i]));
+                }
+                break;
+            }
+            case SHORT: {
+                final short[] array = (short[]) source;
+                for (int i = 0; i < length; i++) {
+                    target[i] = array[i];
+                }
+                break;
+            }
+            case BYTE: {
+                final byte[] array = (byte[]) source;
+                for (int i = 0; i < length; i++) {
+                    target[i] = array[i];
+                }
+                break;
+            }
+            case OBJECT: {
+                final Object[] array = (Object[]) source;
+                for (int i = 0; i < length; i++) {
+                    final Object value = array[i];
+                    if (value instanceof Double) {
+                        target[i] = (Double) value;
+                    } else if (value instanceof String) {
+                        target[i] = NumberParser.parseDouble((String) value);
+                    } else {
+                        target[i] = ((Number) parser.parse(value)).doubleValue();
+                    }
+                }
+                break;
+            }
+            default:
+                throw new IllegalArgumentException("Invalid source kind: " + kind);
+        }
+    }
+
+    private static void toFloat(@NotNull Object source, int kind, float[] target, int length, @NotNull TypeParser<?> parser) {
+        switch (kind) {
+            case INT: {
+                final int[] array = (int[]) source;
+                for (int i = 0; i < length; i++) {
+                    target[i] = array[i];
+                }
+                break;
+            }
+            case LONG: {
+                final long[] array = (long[]) source;
+                for (int i = 0; i < length; i++) {
+                    target[i] = array[i];
+                }
+                break;
+            }
+            case DOUBLE: {
+                final double[] array = (double[]) source;
+                for (int i = 0; i < length; i++) {
+                    final double value = array[i];
+                    if (!(value >= -Float.MAX_VALUE && value <= Float.MAX_VALUE)) {
+                        throw outOfRange(NumberParser.FLOAT, value);
+                    }
+                    target[i] = (float) value;
+                }
+                break;
+            }
+            case SHORT: {
+                final short[] array = (short[]) source;
+                for (int i = 0; i < length; i++) {
+                    target[i] = array[i];
+                }
+                break;
+            }
+            case BYTE: {
+                final byte[] array = (byte[]) source;
+                for (int i = 0; i < length; i++) {
+                    target[i] = array[i];
+                }
+                break;
+            }
+            case OBJECT: {
+                final Object[] array = (Object[]) source;
+                for (int i = 0; i < length; i++) {
+                    final Object value = array[i];
+                    if (value instanceof Float) {
+                        target[i] = (Float) value;
+                    } else {
+                        target[i] = ((Number) parser.parse(value)).floatValue();
+                    }
+                }
+                break;
+            }
+            default:
+                throw new IllegalArgumentException("Invalid source kind: " + kind);
+        }
+    }
+
+    private static void toShort(@NotNull Object source, int kind, short[] target, int length, @NotNull TypeParser<?> parser) {
+        switch (kind) {
+            case INT: {
+                final int[] array = (int[]) source;
+                for (int i = 0; i < length; i++) {
+                    final int value = array[i];
+                    if (value < Short.MIN_VALUE || value > Short.MAX_VALUE) {
+                        throw outOfRange(NumberParser.SHORT, value);
+                    }
+                    target[i] = (short) value;
+                }
+                break;
+            }
+            case LONG: {
+                final long[] array = (long[]) source;
+                for (int i = 0; i < length; i++) {
+                    final long value = array[i];
+                    if (value < Short.MIN_VALUE || value > Short.MAX_VALUE) {
+                        throw outOfRange(NumberParser.SHORT, value);
+                    }
+                    target[i] = (short) value;
+                }
+                break;
+            }
+            case DOUBLE: {
+                final double[] array = (double[]) source;
+                for (int i = 0; i < length; i++) {
+                    final double value = array[i];
+                    if (!(value >= Short.MIN_VALUE && value <= Short.MAX_VALUE)) {
+                        throw outOfRange(NumberParser.SHORT, value);
+                    }
+                    target[i] = (short) value;
+                }
+                break;
+            }
+            case FLOAT: {
+                final float[] array = (float[]) source;
+                for (int i = 0; i < length; i++) {
+                    final float value = array[i];
+                    if (!(value >= Short.MIN_VALUE && value <= Short.MAX_VALUE)) {
+                        throw outOfRange(NumberParser.SHORT, value);
+                    }
+                    target[i] = (short) value;
+                }
+                break;
+            }
+            case BYTE: {
+                final byte[] array = (byte[]) source;
+                for (int i = 0; i < length; i++) {
+                    target[i] = array[i];
+                }
+                break;
+            }
+            case OBJECT: {
+                final Object[] array = (Object[]) source;
+                for (int i = 0; i < length; i++) {
+                    final Object value = array[i];
+                    if (value instanceof Short) {
+                        target[i] = (Short) value;
+                    } else {
+                        target[i] = ((Number) parser.parse(value)).shortValue();
+                    }
+                }
+                break;
+            }
+            default:
+                throw new IllegalArgumentException("Invalid source kind: " + kind);
+        }
+    }
+
+    private static void toByte(@NotNull Object source, int kind, byte[] target, int length, @NotNull TypeParser<?> parser) {
+        switch (kind) {
+            case INT: {
+                final int[] array = (int[]) source;
+                for (int i = 0; i < length; i++) {
+                    final int value = array[i];
+                    if (value < Byte.MIN_VALUE || value > Byte.MAX_VALUE) {
+                        throw outOfRange(NumberParser.BYTE, value);
+                    }
+                    target[i] = (byte) value;
+                }
+                break;
+            }
+            case LONG: {
+                final long[] array = (long[]) source;
+                for (int i = 0; i < length; i++) {
+                    final long value = array[i];
+                    if (value < Byte.MIN_VALUE || value > Byte.MAX_VALUE) {
+                        throw outOfRange(NumberParser.BYTE, value);
+                    }
+                    target[i] = (byte) value;
+                }
+                break;
+            }
+            case DOUBLE: {
+                final double[] array = (double[]) source;
+                for (int i = 0; i < length; i++) {
+                    final double value = array[i];
+                    if (!(value >= Byte.MIN_VALUE && value <= Byte.MAX_VALUE)) {
+                        throw outOfRange(NumberParser.BYTE, value);
+                    }
+                    target[i] = (byte) value;
+                }
+                break;
+            }
+            case FLOAT: {
+                final float[] array = (float[]) source;
+                for (int i = 0; i < length; i++) {
+                    final float value = array[i];
+                    if (!(value >= Byte.MIN_VALUE && value <= Byte.MAX_VALUE)) {
+                        throw outOfRange(NumberParser.BYTE, value);
+                    }
+                    target[i] = (byte) value;
+                }
+                break;
+            }
+            case SHORT: {
+                final short[] array = (short[]) source;
+                for (int i = 0; i < length; i++) {
+                    final short value = array[i];
+                    if (value < Byte.MIN_VALUE || value > Byte.MAX_VALUE) {
+                        throw outOfRange(NumberParser.BYTE, value);
+                    }
+                    target[i] = (byte) value;
+                }
+                break;
+            }
+            case OBJECT: {
+                final Object[] array = (Object[]) source;
+                for (int i = 0; i < length; i++) {
+                    final Object value = array[i];
+                    if (value instanceof Byte) {
+                        target[i] = (Byte) value;
+                    } else {
+                        target[i] = ((Number) parser.parse(value)).byteValue();
+                    }
+                }
+                break;
+            }
+            default:
+                throw new IllegalArgumentException("Invalid source kind: " + kind);
+        }
+    }
+
+    @NotNull
+    private static IllegalArgumentException outOfRange(@NotNull NumberParser<?> parser, @NotNull Number number) {
+        return new IllegalArgumentException("The number " + number + " cannot be cast to " + parser.getType() + " (out of range: [" + parser.getMinValue()  + ", " + parser.getMaxValue() + "])");
+    }
+}
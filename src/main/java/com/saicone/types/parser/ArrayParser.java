@@ -3,14 +3,16 @@ package com.saicone.types.parser;
 import com.saicone.types.AnyIterable;
 import com.saicone.types.TypeParser;
 import com.saicone.types.Types;
+import com.saicone.types.iterator.ArrayIterator;
+import com.saicone.types.util.ConcurrentLruCache;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 import java.lang.reflect.Array;
 import java.lang.reflect.Type;
-import java.util.Map;
+import java.util.Arrays;
 import java.util.Objects;
-import java.util.WeakHashMap;
+import java.util.concurrent.ForkJoinPool;
 import java.util.function.BiFunction;
 import java.util.function.Function;
 
@@ -25,9 +27,20 @@ import java.util.function.Function;
 public class ArrayParser<T, C> extends AllocParser<T> {
 
     private final Type type;
+    private final Class<C> componentType;
     private final TypeParser<C> componentParser;
 
-    private static final Map<Integer, ArrayParser<?, ?>> PARSERS = new WeakHashMap<>();
+    private static final ConcurrentLruCache<Object, ArrayParser<?, ?>> PARSERS = new ConcurrentLruCache<>(512);
+
+    /**
+     * Get the cache of array parsers created by {@link #of(Class)} and {@link #of(TypeParser)}.
+     *
+     * @return a concurrent cache of array parsers.
+     */
+    @NotNull
+    public static ConcurrentLruCache<Object, ArrayParser<?, ?>> getCache() {
+        return PARSERS;
+    }
 
     /**
      * Create an array parser using component type.
@@ -40,13 +53,9 @@ public class ArrayParser<T, C> extends AllocParser<T> {
     @NotNull
     @SuppressWarnings("unchecked")
     public static <T, C> ArrayParser<T, C> of(@NotNull Class<C> componentType) {
-        final int key = Objects.hash(0, componentType);
-        ArrayParser<?, ?> parser = PARSERS.get(key);
-        if (parser == null) {
-            parser = new ArrayParser<>(componentType, Types.of(componentType));
-            PARSERS.put(key, parser);
-        }
-        return (ArrayParser<T, C>) parser;
+        final TypeParser<C> componentParser = Types.of(componentType);
+        // Keyed by the registered parser too, so any registry change is reflected
+        return (ArrayParser<T, C>) PARSERS.computeIfAbsent(Arrays.asList(componentType, componentParser), key -> new ArrayParser<>(componentType, componentParser));
     }
 
     /**
@@ -61,13 +70,7 @@ public class ArrayParser<T, C> extends AllocParser<T> {
     @SuppressWarnings("unchecked")
     public static <T, C> ArrayParser<T, C> of(@NotNull TypeParser<C> componentParser) {
         Objects.requireNonNull(componentParser.getType(), "Cannot create array parser using a component parser that doesn't provide type");
-        final int key = Objects.hash(1, componentParser);
-        ArrayParser<?, ?> parser = PARSERS.get(key);
-        if (parser == null) {
-            parser = new ArrayParser<>((Class<C>) componentParser.getType(), componentParser);
-            PARSERS.put(key, parser);
-        }
-        return (ArrayParser<T, C>) parser;
+        return (ArrayParser<T, C>) PARSERS.computeIfAbsent(componentParser, key -> new ArrayParser<>((Class<C>) componentParser.getType(), componentParser));
     }
 
     /**
@@ -89,12 +92,26 @@ public class ArrayParser<T, C> extends AllocParser<T> {
      * @param componentParser the type parser to parse components.
      */
     public ArrayParser(@NotNull Function<Integer, T> supplier, @NotNull Class<C> componentType, @NotNull TypeParser<C> componentParser) {
-        super(supplier);
+        this(supplier, componentType, componentParser, null, 0);
+    }
+
+    /**
+     * Constructs an array parser with defined parameters and parallel parsing mode.
+     *
+     * @param supplier        the function to create an array type with allocated size.
+     * @param componentType   the component type of array.
+     * @param componentParser the type parser to parse components.
+     * @param pool            the fork/join pool used to parse components in parallel, null to parse sequentially.
+     * @param threshold       the minimum number of components to parse in parallel.
+     */
+    public ArrayParser(@NotNull Function<Integer, T> supplier, @NotNull Class<C> componentType, @NotNull TypeParser<C> componentParser, @Nullable ForkJoinPool pool, int threshold) {
+        super(supplier, pool, threshold);
         try {
             this.type = ClassParser.getArrayType(componentType);
         } catch (ClassNotFoundException e) {
             throw new RuntimeException("Cannot create array type", e);
         }
+        this.componentType = componentType;
         this.componentParser = componentParser;
     }
 
@@ -134,11 +151,70 @@ public class ArrayParser<T, C> extends AllocParser<T> {
         return componentParser.isInstance(object);
     }
 
+    /**
+     * Get a copy of this array parser that parse components in parallel.<br>
+     * Lists and arrays with a size greater or equal than threshold are split by index range
+     * and parsed using the provided fork/join pool, every component is set at its original index.
+     *
+     * @param pool      the fork/join pool to use.
+     * @param threshold the minimum number of components to parse in parallel.
+     * @return          an array parser in parallel mode.
+     */
+    @NotNull
+    public ArrayParser<T, C> parallel(@NotNull ForkJoinPool pool, int threshold) {
+        return new ArrayParser<>(getSupplier(), componentType, componentParser, pool, threshold);
+    }
+
     @Override
     public @NotNull T parse(@Nullable Object object) {
+        if (object != null && componentType.isPrimitive() && object.getClass().isArray() && !isInstance(object)) {
+            // Bulk conversion between arrays, only available for default primitive parsers
+            final int targetKind = ArrayConverter.targetKind(componentType, componentParser);
+            final int sourceKind = ArrayConverter.kindOf(object);
+            final int length = ArrayIterator.getLength(object);
+            // Object arrays are parsed element by element in parallel mode
+            if (targetKind != ArrayConverter.NONE && sourceKind != ArrayConverter.NONE && (sourceKind != ArrayConverter.OBJECT || !isParallel(length))) {
+                final T array = create(length);
+                if (ArrayConverter.kindOf(array) == targetKind) {
+                    ArrayConverter.convert(object, sourceKind, array, targetKind, length, componentParser);
+                    return array;
+                }
+            }
+        }
         return parseEach(object, (element, parser) -> parser.parse(element));
     }
 
+    /**
+     * {@inheritDoc}<br>
+     * Every component of a compatible object array is coerced, the array is returned as-is if none
+     * of its components changed. Otherwise, changed components are replaced inside the array if in place
+     * mode is enabled, or inside a copy of the array.
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public @NotNull T coerce(@Nullable Object object, boolean inPlace) {
+        if (object == null) {
+            return create();
+        } else if (componentType.isPrimitive()) {
+            return parse(object);
+        } else if (!isInstance(object)) {
+            return parseEach(object, (element, parser) -> parser.coerce(element, inPlace));
+        }
+        final Object[] array = (Object[]) object;
+        Object[] result = array;
+        for (int i = 0; i < array.length; i++) {
+            final Object element = array[i];
+            final Object coerced = componentParser.coerce(element, inPlace);
+            if (coerced != element) {
+                if (result == array && !inPlace) {
+                    result = array.clone();
+                }
+                result[i] = coerced;
+            }
+        }
+        return (T) result;
+    }
+
     /**
      * Parse the provided object into required type by converting each applicable component using defined function.
      *
@@ -154,21 +230,42 @@ public class ArrayParser<T, C> extends AllocParser<T> {
         } else if (isInstance(object)) {
             return (T) object;
         }
+        if (ParallelTask.isSplittable(object)) {
+            final int size = ParallelTask.size(object);
+            if (isParallel(size)) {
+                final T array = create(size);
+                final int kind = ArrayConverter.kindOf(array);
+                // Each task writes into its own index range
+                ParallelTask.invoke(getPool(), object, (element, index) -> ArrayConverter.set(array, kind, index, function.apply(element, componentParser)));
+                return array;
+            }
+        }
         final AnyIterable<Object> iterable = AnyIterable.of(object);
-        final int size = iterable.size(); // Initial capacity
-        T array = create(size);
+        int capacity = iterable.size(); // Initial capacity
+        T array = create(capacity);
+        final int kind = ArrayConverter.kindOf(array);
 
         int i = 0;
+        boolean grown = false;
         for (Object element : iterable) {
-            if (i >= size) {
-                T arrayCopy = create(i + 1);
+            if (i >= capacity) {
+                // Geometric growth, the array is trimmed at the end
+                capacity = Math.max(i + 1, capacity + (capacity >> 1));
+                T arrayCopy = create(capacity);
                 System.arraycopy(array, 0, arrayCopy, 0, i);
                 array = arrayCopy;
+                grown = true;
             }
-            Array.set(array, i, function.apply(element, componentParser));
+            ArrayConverter.set(array, kind, i, function.apply(element, componentParser));
             i++;
         }
 
+        if (grown && i < capacity) {
+            T arrayCopy = create(i);
+            System.arraycopy(array, 0, arrayCopy, 0, i);
+            array = arrayCopy;
+        }
+
         return array;
     }
 }
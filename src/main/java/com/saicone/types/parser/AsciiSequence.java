@@ -0,0 +1,95 @@
+package com.saicone.types.parser;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Char sequence view of ASCII bytes, every byte is read as a single char without any charset decoding.<br>
+ * Multibyte UTF-8 characters are not decoded, but they never match any ASCII digit or letter,
+ * so the view is safe to use with number, boolean and UUID parsing.
+ *
+ * @author Rubenicos
+ */
+final class AsciiSequence implements CharSequence {
+
+    private final byte[] array;
+    private final ByteBuffer buffer;
+    private final int offset;
+    private final int length;
+
+    /**
+     * Create an ascii sequence view of the given byte array window.
+     *
+     * @param array  the byte array to read.
+     * @param offset the index of the first byte.
+     * @param length the number of bytes.
+     */
+    AsciiSequence(@NotNull byte[] array, int offset, int length) {
+        if (offset < 0 || length < 0 || offset > array.length - length) {
+            throw new IndexOutOfBoundsException("Invalid window [" + offset + ", " + (offset + length) + ") for length " + array.length);
+        }
+        this.array = array;
+        this.buffer = null;
+        this.offset = offset;
+        this.length = length;
+    }
+
+    /**
+     * Create an ascii sequence view of the given byte buffer window.<br>
+     * The window is absolute, so the buffer position is not used nor modified.
+     *
+     * @param buffer the byte buffer to read.
+     * @param offset the absolute index of the first byte.
+     * @param length the number of bytes.
+     */
+    AsciiSequence(@NotNull ByteBuffer buffer, int offset, int length) {
+        if (offset < 0 || length < 0 || offset > buffer.limit() - length) {
+            throw new IndexOutOfBoundsException("Invalid window [" + offset + ", " + (offset + length) + ") for limit " + buffer.limit());
+        }
+        this.array = null;
+        this.buffer = buffer;
+        this.offset = offset;
+        this.length = length;
+    }
+
+    @Override
+    public int length() {
+        return length;
+    }
+
+    @Override
+    public char charAt(int index) {
+        if (index < 0 || index >= length) {
+            throw new IndexOutOfBoundsException("Index " + index + " out of bounds for length " + length);
+        }
+        if (array != null) {
+            return (char) (array[offset + index] & 0xFF);
+        }
+        return (char) (buffer.get(offset + index) & 0xFF);
+    }
+
+    @Override
+    public @NotNull CharSequence subSequence(int start, int end) {
+        if (start < 0 || start > end || end > length) {
+            throw new IndexOutOfBoundsException("Invalid range [" + start + ", " + end + ") for length " + length);
+        }
+        if (array != null) {
+            return new AsciiSequence(array, offset + start, end - start);
+        }
+        return new AsciiSequence(buffer, offset + start, end - start);
+    }
+
+    @Override
+    public @NotNull String toString() {
+        if (array != null) {
+            return new String(array, offset, length, StandardCharsets.ISO_8859_1);
+        }
+        final char[] chars = new char[length];
+        for (int i = 0; i < length; i++) {
+            chars[i] = (char) (buffer.get(offset + i) & 0xFF);
+        }
+        return new String(chars);
+    }
+}
@@ -7,6 +7,8 @@ import org.jetbrains.annotations.Nullable;
 
 import java.lang.reflect.Type;
 import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
 
 /**
  * Represents a parser that try to convert any object type to Boolean.<br>
@@ -31,21 +33,32 @@ public class BooleanParser implements TypeParser<Boolean> {
      * @return  true if the provided string is a valid boolean, false otherwise.
      */
     public static boolean isValid(@NotNull String s) {
-        switch (s.trim().toLowerCase()) {
-            case "true":
-            case "t":
-            case "yes":
-            case "on":
-            case "y":
-            case "false":
-            case "f":
-            case "no":
-            case "off":
-            case "n":
-                return true;
-            default:
+        return isValid((CharSequence) s);
+    }
+
+    /**
+     * Check if the provided char sequence is a valid boolean representation.<br>
+     * This method doesn't check for number representations.
+     *
+     * @param s the char sequence to check.
+     * @return  true if the provided char sequence is a valid boolean, false otherwise.
+     */
+    public static boolean isValid(@NotNull CharSequence s) {
+        int from = 0;
+        int to = s.length();
+        while (from < to && s.charAt(from) <= ' ') {
+            from++;
+        }
+        while (to > from && s.charAt(to - 1) <= ' ') {
+            to--;
+        }
+        if (to - from == 1) {
+            final char c = s.charAt(from);
+            if (c == '1' || c == '0') {
                 return false;
+            }
         }
+        return valueOf(s, from, to) != null;
     }
 
     @Override
@@ -64,6 +77,8 @@ public class BooleanParser implements TypeParser<Boolean> {
             return (Boolean) first;
         } else if (first instanceof Number) {
             return parseBoolean((Number) first);
+        } else if (first instanceof CharSequence) {
+            return parseBoolean((CharSequence) first);
         } else {
             return parseBoolean(String.valueOf(first));
         }
@@ -124,23 +139,122 @@ public class BooleanParser implements TypeParser<Boolean> {
      */
     @Nullable
     public Boolean parseBoolean(@NotNull String s) {
-        switch (s.trim().toLowerCase()) {
-            case "true":
-            case "t":
-            case "1":
-            case "yes":
-            case "on":
-            case "y":
-                return true;
-            case "false":
-            case "f":
-            case "0":
-            case "no":
-            case "off":
-            case "n":
-                return false;
+        return parseBoolean((CharSequence) s);
+    }
+
+    /**
+     * Parse the given char sequence as Boolean.
+     *
+     * @see BooleanParser#parseBoolean(String)
+     *
+     * @param s the char sequence to parse.
+     * @return  a converted Boolean value if char sequence is a valid representations, null otherwise.
+     */
+    @Nullable
+    public Boolean parseBoolean(@NotNull CharSequence s) {
+        int from = 0;
+        int to = s.length();
+        while (from < to && s.charAt(from) <= ' ') {
+            from++;
+        }
+        while (to > from && s.charAt(to - 1) <= ' ') {
+            to--;
+        }
+        return valueOf(s, from, to);
+    }
+
+    /**
+     * Parse the given char array window as Boolean.
+     *
+     * @see BooleanParser#parseBoolean(String)
+     *
+     * @param buf the char array to parse.
+     * @param off the index of the first char to parse.
+     * @param len the number of chars to parse.
+     * @return    a converted Boolean value if char array window is a valid representations, null otherwise.
+     */
+    @Nullable
+    public Boolean parseBoolean(@NotNull char[] buf, int off, int len) {
+        return parseBoolean(CharBuffer.wrap(buf, off, len));
+    }
+
+    /**
+     * Parse the given ASCII byte array window as Boolean.<br>
+     * Bytes are read as chars without any charset decoding.
+     *
+     * @see BooleanParser#parseBoolean(String)
+     *
+     * @param buf the byte array to parse.
+     * @param off the index of the first byte to parse.
+     * @param len the number of bytes to parse.
+     * @return    a converted Boolean value if byte array window is a valid representations, null otherwise.
+     */
+    @Nullable
+    public Boolean parseBoolean(@NotNull byte[] buf, int off, int len) {
+        return parseBoolean(new AsciiSequence(buf, off, len));
+    }
+
+    /**
+     * Parse the given ASCII byte buffer window as Boolean.<br>
+     * Bytes are read as chars without any charset decoding and the buffer position is not modified.
+     *
+     * @see BooleanParser#parseBoolean(String)
+     *
+     * @param buf the byte buffer to parse.
+     * @param off the absolute index of the first byte to parse.
+     * @param len the number of bytes to parse.
+     * @return    a converted Boolean value if byte buffer window is a valid representations, null otherwise.
+     */
+    @Nullable
+    public Boolean parseBoolean(@NotNull ByteBuffer buf, int off, int len) {
+        return parseBoolean(new AsciiSequence(buf, off, len));
+    }
+
+    @Nullable
+    private static Boolean valueOf(@NotNull CharSequence s, int from, int to) {
+        switch (to - from) {
+            case 1:
+                switch (Character.toLowerCase(s.charAt(from))) {
+                    case 't':
+                    case '1':
+                    case 'y':
+                        return true;
+                    case 'f':
+                    case '0':
+                    case 'n':
+                        return false;
+                    default:
+                        return null;
+                }
+            case 2:
+                if (matches(s, from, "on")) {
+                    return true;
+                } else if (matches(s, from, "no")) {
+                    return false;
+                }
+                return null;
+            case 3:
+                if (matches(s, from, "yes")) {
+                    return true;
+                } else if (matches(s, from, "off")) {
+                    return false;
+                }
+                return null;
+            case 4:
+                return matches(s, from, "true") ? true : null;
+            case 5:
+                return matches(s, from, "false") ? false : null;
             default:
                 return null;
         }
     }
+
+    private static boolean matches(@NotNull CharSequence s, int from, @NotNull String lowercase) {
+        for (int i = 0; i < lowercase.length(); i++) {
+            if (Character.toLowerCase(s.charAt(from + i)) != lowercase.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
 }
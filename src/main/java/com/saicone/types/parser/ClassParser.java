@@ -1,6 +1,7 @@
 package com.saicone.types.parser;
 
 import com.saicone.types.AnyIterable;
+import com.saicone.types.ParseResult;
 import com.saicone.types.TypeParser;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
@@ -119,6 +120,28 @@ public class ClassParser implements TypeParser<Class<?>> {
         }
     }
 
+    @Override
+    public @NotNull ParseResult<Class<?>> tryParse(@Nullable Object object) {
+        final Object first = object == null ? null : AnyIterable.of(object).first();
+        if (first == null) {
+            return ParseResult.empty();
+        }
+
+        if (first instanceof Class) {
+            return ParseResult.of((Class<?>) first);
+        }
+
+        final String name = getReadableName(String.valueOf(first));
+        if (!isClassName(name)) {
+            return ParseResult.failure();
+        }
+        try {
+            return ParseResult.of(forName(name));
+        } catch (ClassNotFoundException | LinkageError e) {
+            return ParseResult.failure(e);
+        }
+    }
+
     /**
      * Returns the {@code Class} object associated with the given string name,
      * meaning this method is compatible with primitive types and readable array
@@ -212,6 +235,29 @@ public class ClassParser implements TypeParser<Class<?>> {
         }
     }
 
+    private static boolean isClassName(@NotNull String name) {
+        int end = name.length();
+        while (end > 2 && name.charAt(end - 2) == '[' && name.charAt(end - 1) == ']') {
+            end -= 2;
+        }
+        boolean start = true;
+        for (int i = 0; i < end; i++) {
+            final char c = name.charAt(i);
+            if (c == '.') {
+                if (start) {
+                    return false;
+                }
+                start = true;
+            } else if (start ? Character.isJavaIdentifierStart(c) : Character.isJavaIdentifierPart(c)) {
+                start = false;
+            } else {
+                return false;
+            }
+        }
+        // Empty names and trailing dots are not allowed
+        return !start;
+    }
+
     @NotNull
     private static String repeat(@NotNull String s, int count) {
         // This can be simplified by using String#repeat() from Java +11
@@ -2,11 +2,16 @@ package com.saicone.types.parser;
 
 import com.saicone.types.AnyIterable;
 import com.saicone.types.TypeParser;
+import com.saicone.types.util.ParsedList;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 import java.lang.reflect.Type;
 import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.ListIterator;
+import java.util.concurrent.ForkJoinPool;
 import java.util.function.BiFunction;
 import java.util.function.Function;
 import java.util.function.Supplier;
@@ -42,6 +47,19 @@ public abstract class CollectionParser<T extends Collection<E>, E> extends Alloc
         this.elementParser = elementParser;
     }
 
+    /**
+     * Construct a collection parser with defined supplier, element parser and parallel parsing mode.
+     *
+     * @param supplier      the function that generate a collection with allocated size.
+     * @param elementParser the type parser to parse elements.
+     * @param pool          the fork/join pool used to parse elements in parallel, null to parse sequentially.
+     * @param threshold     the minimum number of elements to parse in parallel.
+     */
+    public CollectionParser(@NotNull Function<Integer, T> supplier, @NotNull TypeParser<E> elementParser, @Nullable ForkJoinPool pool, int threshold) {
+        super(supplier, pool, threshold);
+        this.elementParser = elementParser;
+    }
+
     @Override
     public abstract @NotNull Type getType();
 
@@ -82,6 +100,31 @@ public abstract class CollectionParser<T extends Collection<E>, E> extends Alloc
         return false;
     }
 
+    /**
+     * Get a copy of this collection parser that parse elements in parallel.<br>
+     * Lists and arrays with a size greater or equal than threshold are split into chunks
+     * and parsed using the provided fork/join pool, the resulting collection keeps the original order.
+     *
+     * @param pool      the fork/join pool to use.
+     * @param threshold the minimum number of elements to parse in parallel.
+     * @return          a collection parser in parallel mode.
+     */
+    @NotNull
+    public CollectionParser<T, E> parallel(@NotNull ForkJoinPool pool, int threshold) {
+        final CollectionParser<T, E> parent = this;
+        return new CollectionParser<T, E>(getSupplier(), elementParser, pool, threshold) {
+            @Override
+            public @NotNull Type getType() {
+                return parent.getType();
+            }
+
+            @Override
+            public boolean isInstance(@Nullable Object object) {
+                return parent.isInstance(object);
+            }
+        };
+    }
+
     /**
      * Check if the given object is instance of element parser type.
      *
@@ -97,6 +140,88 @@ public abstract class CollectionParser<T extends Collection<E>, E> extends Alloc
         return parseEach(object, (element, parser) -> parser.parse(element));
     }
 
+    /**
+     * {@inheritDoc}<br>
+     * Every element of a compatible collection is coerced, the collection is returned as-is if none of
+     * its elements changed. Otherwise, changed elements are replaced inside the collection if it's a
+     * modifiable list and in place mode is enabled, or a new collection is created reusing the unchanged elements.
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public @NotNull T coerce(@Nullable Object object, boolean inPlace) {
+        if (object == null) {
+            return create();
+        } else if (!(object instanceof Collection) || !super.isInstance(object)) {
+            return parseEach(object, (element, parser) -> parser.coerce(element, inPlace));
+        }
+        final Collection<Object> collection = (Collection<Object>) object;
+        Object[] elements = null;
+        int i = 0;
+        for (Object element : collection) {
+            final Object coerced = elementParser.coerce(element, inPlace);
+            if (elements == null && coerced != element) {
+                elements = new Object[collection.size()];
+                final Iterator<Object> iterator = collection.iterator();
+                for (int j = 0; j < i; j++) {
+                    elements[j] = iterator.next();
+                }
+            }
+            if (elements != null) {
+                elements[i] = coerced;
+            }
+            i++;
+        }
+        if (elements == null) {
+            return (T) object;
+        }
+
+        if (inPlace && object instanceof List) {
+            try {
+                final ListIterator<Object> iterator = ((List<Object>) object).listIterator();
+                for (int j = 0; iterator.hasNext(); j++) {
+                    if (iterator.next() != elements[j]) {
+                        iterator.set(elements[j]);
+                    }
+                }
+                return (T) object;
+            } catch (UnsupportedOperationException ignored) {
+                // Unmodifiable list, so a new collection is created
+            }
+        }
+        final T result = create(elements.length);
+        for (Object element : elements) {
+            result.add((E) element);
+        }
+        return result;
+    }
+
+    /**
+     * Get a read-only view of the provided object, where elements are parsed on access and memoized.<br>
+     * Unlike {@link #parse(Object)}, the view doesn't create a new collection of this parser type
+     * and elements are not deduplicated.
+     *
+     * @param object the object to represent.
+     * @return       a collection view backed by the provided object.
+     */
+    @NotNull
+    public Collection<E> view(@Nullable Object object) {
+        return view(object, true);
+    }
+
+    /**
+     * Get a read-only view of the provided object, where elements are parsed on access.<br>
+     * Unlike {@link #parse(Object)}, the view doesn't create a new collection of this parser type
+     * and elements are not deduplicated.
+     *
+     * @param object  the object to represent.
+     * @param memoize true to keep parsed elements.
+     * @return        a collection view backed by the provided object.
+     */
+    @NotNull
+    public Collection<E> view(@Nullable Object object, boolean memoize) {
+        return new ParsedList<>(object, elementParser, memoize);
+    }
+
     /**
      * Parse the provided object into required type by converting each applicable element using defined function.
      *
@@ -112,6 +237,19 @@ public abstract class CollectionParser<T extends Collection<E>, E> extends Alloc
         } else if (isInstance(object)) {
             return (T) object;
         }
+        if (ParallelTask.isSplittable(object)) {
+            final int size = ParallelTask.size(object);
+            if (isParallel(size)) {
+                final Object[] elements = new Object[size];
+                ParallelTask.invoke(getPool(), object, (element, index) -> elements[index] = function.apply(element, elementParser));
+
+                final T collection = create(size);
+                for (Object element : elements) {
+                    collection.add((E) element);
+                }
+                return collection;
+            }
+        }
         final AnyIterable<Object> iterable = AnyIterable.of(object);
         final T collection = create(iterable.size());
 
@@ -0,0 +1,209 @@
+package com.saicone.types.parser;
+
+import com.saicone.types.TypeParser;
+import com.saicone.types.Types;
+import com.saicone.types.iterator.ArrayIterator;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.lang.reflect.Type;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.RandomAccess;
+
+/**
+ * Type parser that specialize a tree of nested parsers into a tree of concrete parser nodes.<br>
+ * Any map and collection parser is replaced by a node that iterates the object directly and call
+ * its child node without intermediate functions, number and string parsers are replaced by nodes
+ * that convert the most common inputs inline, any other parser is used as-is.<br>
+ * The compiled parser produce the same result as the original parser, parallel parsers and
+ * unsupported inputs are delegated to the original parser.<br>
+ * Take in count that nodes still call its child nodes through {@link TypeParser#parse(Object)},
+ * and those call sites are shared by every compiled tree, so with many different trees they stay
+ * megamorphic. Compiling removes the lambdas, iterable wrappers and generic conversions between
+ * nodes, but it doesn't devirtualize node calls: that would require one generated class per tree
+ * (or per-tree method handles held as JIT constants), which is not available on Java 8 without
+ * a bytecode dependency.
+ *
+ * @author Rubenicos
+ *
+ * @param <T> the type result of the function.
+ */
+public abstract class CompiledParser<T> implements TypeParser<T> {
+
+    private final TypeParser<T> parser;
+
+    /**
+     * Compile the provided parser into a specialized parser tree.
+     *
+     * @param parser the parser to compile.
+     * @return       a compiled parser, or the same parser if it cannot be specialized.
+     * @param <T>    the type result of the function.
+     */
+    @NotNull
+    @SuppressWarnings("all")
+    public static <T> TypeParser<T> compile(@NotNull TypeParser<T> parser) {
+        if (parser instanceof CompiledParser) {
+            return parser;
+        } else if (parser instanceof MapParser && !((MapParser<?, ?>) parser).isParallel()) {
+            final MapParser mapParser = (MapParser) parser;
+            return new MapNode(mapParser, compile(mapParser.getKeyParser()), compile(mapParser.getValueParser()));
+        } else if (parser instanceof CollectionParser && !((CollectionParser<?, ?>) parser).isParallel()) {
+            final CollectionParser collectionParser = (CollectionParser) parser;
+            return new CollectionNode(collectionParser, compile(collectionParser.getElementParser()));
+        } else if (parser instanceof NumberParser) {
+            return new NumberNode((NumberParser) parser);
+        } else if (parser == Types.STRING) {
+            return (TypeParser) new StringNode(Types.STRING);
+        }
+        return parser;
+    }
+
+    /**
+     * Constructs a compiled parser with the original parser.
+     *
+     * @param parser the original parser that was compiled.
+     */
+    protected CompiledParser(@NotNull TypeParser<T> parser) {
+        this.parser = parser;
+    }
+
+    /**
+     * Get the original parser that was compiled.
+     *
+     * @return a type parser.
+     */
+    @NotNull
+    public TypeParser<T> getParser() {
+        return parser;
+    }
+
+    @Override
+    public @Nullable Type getType() {
+        return parser.getType();
+    }
+
+    @Override
+    public boolean isInstance(@Nullable Object object) {
+        return parser.isInstance(object);
+    }
+
+    @Override
+    public @Nullable T coerce(@Nullable Object object, boolean inPlace) {
+        return parser.coerce(object, inPlace);
+    }
+
+    @Override
+    public String toString() {
+        return "CompiledParser{" + parser + "}";
+    }
+
+    private static final class MapNode<K, V> extends CompiledParser<Map<K, V>> {
+
+        private final MapParser<K, V> mapParser;
+        private final TypeParser<K> keyParser;
+        private final TypeParser<V> valueParser;
+
+        private MapNode(@NotNull MapParser<K, V> parser, @NotNull TypeParser<K> keyParser, @NotNull TypeParser<V> valueParser) {
+            super(parser);
+            this.mapParser = parser;
+            this.keyParser = keyParser;
+            this.valueParser = valueParser;
+        }
+
+        @Override
+        public @NotNull Map<K, V> parse(@Nullable Object object) {
+            if (!(object instanceof Map) || mapParser.isInstance(object)) {
+                return mapParser.parse(object);
+            }
+            final Map<?, ?> source = (Map<?, ?>) object;
+            final Map<K, V> map = mapParser.create(source.size());
+            for (Map.Entry<?, ?> entry : source.entrySet()) {
+                map.put(keyParser.parse(entry.getKey()), valueParser.parse(entry.getValue()));
+            }
+            return map;
+        }
+    }
+
+    private static final class CollectionNode<C extends Collection<E>, E> extends CompiledParser<C> {
+
+        private final CollectionParser<C, E> collectionParser;
+        private final TypeParser<E> elementParser;
+
+        private CollectionNode(@NotNull CollectionParser<C, E> parser, @NotNull TypeParser<E> elementParser) {
+            super(parser);
+            this.collectionParser = parser;
+            this.elementParser = elementParser;
+        }
+
+        @Override
+        public @NotNull C parse(@Nullable Object object) {
+            if (object instanceof Object[]) {
+                final Object[] array = (Object[]) object;
+                final C collection = collectionParser.create(array.length);
+                for (Object element : array) {
+                    collection.add(elementParser.parse(element));
+                }
+                return collection;
+            } else if (!(object instanceof Collection) || collectionParser.isInstance(object)) {
+                if (object != null && object.getClass().isArray()) {
+                    final int length = ArrayIterator.getLength(object);
+                    final C collection = collectionParser.create(length);
+                    for (int i = 0; i < length; i++) {
+                        collection.add(elementParser.parse(ArrayIterator.getElement(object, i)));
+                    }
+                    return collection;
+                }
+                return collectionParser.parse(object);
+            }
+            final C collection = collectionParser.create(((Collection<?>) object).size());
+            if (object instanceof List && object instanceof RandomAccess) {
+                final List<?> list = (List<?>) object;
+                for (int i = 0; i < list.size(); i++) {
+                    collection.add(elementParser.parse(list.get(i)));
+                }
+            } else {
+                for (Object element : (Collection<?>) object) {
+                    collection.add(elementParser.parse(element));
+                }
+            }
+            return collection;
+        }
+    }
+
+    private static final class NumberNode<N extends Number> extends CompiledParser<N> {
+
+        private final NumberParser<N> numberParser;
+
+        private NumberNode(@NotNull NumberParser<N> parser) {
+            super(parser);
+            this.numberParser = parser;
+        }
+
+        @Override
+        public @Nullable N parse(@NotNull Object object) {
+            if (object instanceof String) {
+                return numberParser.parse((String) object);
+            } else if (object instanceof Number) {
+                return numberParser.parseNumber((Number) object);
+            }
+            return numberParser.parse(object);
+        }
+    }
+
+    private static final class StringNode extends CompiledParser<String> {
+
+        private StringNode(@NotNull TypeParser<String> parser) {
+            super(parser);
+        }
+
+        @Override
+        public @Nullable String parse(@NotNull Object object) {
+            if (object instanceof String) {
+                return (String) object;
+            }
+            return getParser().parse(object);
+        }
+    }
+}
@@ -2,16 +2,23 @@ package com.saicone.types.parser;
 
 import com.saicone.types.AnyIterable;
 import com.saicone.types.TypeParser;
+import com.saicone.types.util.ConcurrentLruCache;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.nio.CharBuffer;
 import java.time.Duration;
 import java.util.concurrent.TimeUnit;
 
 /**
  * Represents a parser that try to convert any object type to Duration.<br>
  * This parser is also compatible with String representations like
- * {@code "<number> <time unit>"} (e.g., {@code "5 SECONDS"}, {@code "10 DAYS"}).
+ * {@code "<number> <time unit>"} (e.g., {@code "5 SECONDS"}, {@code "10 DAYS"}),
+ * compact representations like {@code "1h30m"} or {@code "500ms"} and ISO-8601
+ * representations like {@code "PT1H30M"}.<br>
+ * Recently parsed strings can be cached by creating a parser with {@link #DurationParser(int)}.
  *
  * @author Rubenicos
  */
@@ -22,6 +29,55 @@ public class DurationParser implements TypeParser<Duration> {
      */
     public static final DurationParser INSTANCE = new DurationParser();
 
+    private static final TimeUnit[] UNITS = TimeUnit.values();
+    private static final long NANOS_PER_SECOND = 1_000_000_000L;
+    // Indexed by TimeUnit ordinal
+    private static final long[] UNIT_NANOS = {
+            1L, 1_000L, 1_000_000L, NANOS_PER_SECOND, 60 * NANOS_PER_SECOND, 3_600 * NANOS_PER_SECOND, 86_400 * NANOS_PER_SECOND
+    };
+    private static final String[][] UNIT_NAMES = {
+            { "NS", "NANOS", "NANOSECOND", "NANOSECONDS" },
+            { "US", "MICROS", "MICROSECOND", "MICROSECONDS" },
+            { "MS", "MILLIS", "MILLISECOND", "MILLISECONDS" },
+            { "S", "SEC", "SECS", "SECOND", "SECONDS" },
+            { "M", "MIN", "MINS", "MINUTE", "MINUTES" },
+            { "H", "HR", "HRS", "HOUR", "HOURS" },
+            { "D", "DAY", "DAYS" }
+    };
+    private static final long[] POW10 = {
+            1L, 10L, 100L, 1_000L, 10_000L, 100_000L, 1_000_000L, 10_000_000L, 100_000_000L, 1_000_000_000L,
+            10_000_000_000L, 100_000_000_000L, 1_000_000_000_000L, 10_000_000_000_000L, 100_000_000_000_000L,
+            1_000_000_000_000_000L, 10_000_000_000_000_000L, 100_000_000_000_000_000L, 1_000_000_000_000_000_000L
+    };
+
+    private final ConcurrentLruCache<String, Duration> cache;
+
+    /**
+     * Constructs a duration parser without cache.
+     */
+    public DurationParser() {
+        this(0);
+    }
+
+    /**
+     * Constructs a duration parser that cache the recently parsed strings.
+     *
+     * @param cacheSize the maximum number of cached strings, zero to disable the cache.
+     */
+    public DurationParser(int cacheSize) {
+        this.cache = cacheSize > 0 ? new ConcurrentLruCache<>(cacheSize) : null;
+    }
+
+    /**
+     * Get the cache of recently parsed strings.
+     *
+     * @return a concurrent cache of durations, null if this parser doesn't use cache.
+     */
+    @Nullable
+    public ConcurrentLruCache<String, Duration> getCache() {
+        return cache;
+    }
+
     @Override
     public @Nullable Duration parse(@NotNull Object object) {
         final Object first = AnyIterable.of(object).first();
@@ -35,47 +91,340 @@ public class DurationParser implements TypeParser<Duration> {
             return Duration.ofMillis(((Number) first).longValue());
         }
 
-        final String[] parts;
         if (first instanceof String[]) {
-            parts = (String[]) first;
+            final Reader reader = new Reader();
+            boolean any = false;
+            for (String part : (String[]) first) {
+                any |= reader.read(part, 0, part.length());
+            }
+            return any ? reader.toDuration() : null;
+        } else if (first instanceof CharSequence) {
+            return parseDuration((CharSequence) first);
         } else {
-            parts = String.valueOf(first).split("AND|&&?");
+            return parseDuration(String.valueOf(first));
         }
+    }
 
-        Duration result = null;
-        for (String part : parts) {
-            final String[] split = part.trim().split(" ");
-            if (split.length < 2) {
-                throw new IllegalArgumentException();
+    /**
+     * Parses the given char sequence as Duration.<br>
+     * Multiple {@code "<number> <time unit>"} or compact {@code "<number><unit>"} representations can be joined
+     * with {@code AND}, {@code &&}, {@code &} separators or whitespace, the ISO-8601 format
+     * {@code PnDTnHnMn.nS} is also accepted.
+     *
+     * @param s the char sequence to parse.
+     * @return  a converted Duration, null if the char sequence only contains separators.
+     */
+    @Nullable
+    public Duration parseDuration(@NotNull CharSequence s) {
+        if (s.length() == 0) {
+            throw new IllegalArgumentException();
+        }
+        if (cache != null && s instanceof String) {
+            return cache.computeIfAbsent((String) s, key -> read(key, 0, key.length()));
+        }
+        return read(s, 0, s.length());
+    }
+
+    /**
+     * Parses the given char array window as Duration.
+     *
+     * @see DurationParser#parseDuration(CharSequence)
+     *
+     * @param buf the char array to parse.
+     * @param off the index of the first char to parse.
+     * @param len the number of chars to parse.
+     * @return    a converted Duration, null if the char array window only contains separators.
+     */
+    @Nullable
+    public Duration parseDuration(@NotNull char[] buf, int off, int len) {
+        return parseDuration(CharBuffer.wrap(buf, off, len));
+    }
+
+    @Nullable
+    private static Duration read(@NotNull CharSequence s, int from, int to) {
+        final Reader reader = new Reader();
+        return reader.read(s, from, to) ? reader.toDuration() : null;
+    }
+
+    @NotNull
+    private static TimeUnit unitOf(@NotNull CharSequence s, int from, int to) {
+        final int length = to - from;
+        for (TimeUnit unit : UNITS) {
+            for (String name : UNIT_NAMES[unit.ordinal()]) {
+                if (length == name.length() && matches(s, from, to, name)) {
+                    return unit;
+                }
             }
-            if (!split[1].toUpperCase().endsWith("S")) {
-                split[1] = split[1] + "S";
+        }
+        throw new IllegalArgumentException("No enum constant " + TimeUnit.class.getCanonicalName() + "." + s.subSequence(from, to).toString().toUpperCase());
+    }
+
+    private static boolean matches(@NotNull CharSequence s, int from, int to, @NotNull String uppercase) {
+        for (int i = from; i < to; i++) {
+            if (fold(s.charAt(i)) != uppercase.charAt(i - from)) {
+                return false;
             }
+        }
+        return true;
+    }
+
+    private static char fold(char c) {
+        // Micro sign and greek mu are read as 'U'
+        return c == '\u00B5' || c == '\u03BC' ? 'U' : Character.toUpperCase(c);
+    }
+
+    private static boolean isWhitespace(char c) {
+        return c <= ' ';
+    }
+
+    /**
+     * Single pass reader that accumulate seconds and nanoseconds from duration expressions.
+     */
+    private static final class Reader {
+
+        private CharSequence s;
+        private int index;
+        private int end;
+
+        private long seconds;
+        private long nanos;
 
+        // Last read number
+        private boolean negative;
+        private long whole;
+        private long fraction;
+        private int scale;
+
+        boolean read(@NotNull CharSequence s, int from, int to) {
+            this.s = s;
+            this.index = from;
+            this.end = to;
             try {
-                final String time = split[0].trim();
-                final TimeUnit unit = TimeUnit.valueOf(split[1].trim().toUpperCase());
+                skipWhitespace();
+                while (end > index && isWhitespace(s.charAt(end - 1))) {
+                    end--;
+                }
+                if (isIso()) {
+                    readIso();
+                    return true;
+                }
+                return readExpression();
+            } catch (ArithmeticException e) {
+                throw new IllegalArgumentException(e);
+            }
+        }
 
-                final int point = time.indexOf('.');
-                final Duration duration;
-                if (point >= 0) {
-                    duration = toDuration(Double.parseDouble(time), unit);
-                } else {
-                    duration = toDuration(Long.parseLong(time), unit);
+        private boolean readExpression() {
+            boolean any = false;
+            boolean separated = true;
+            boolean anySeparator = false;
+            while (true) {
+                skipWhitespace();
+                if (index >= end) {
+                    break;
+                }
+                final int separator = separator(index);
+                if (separator > 0) {
+                    // Trailing separators are ignored, any other separator must be preceded by a time
+                    if (separated && !isSeparatorOnly(index)) {
+                        throw new IllegalArgumentException("Cannot parse empty duration part at index " + index + " of '" + s + "'");
+                    }
+                    index += separator;
+                    separated = true;
+                    anySeparator = true;
+                    continue;
                 }
+                readNumber();
+                skipWhitespace();
+                final int start = index;
+                // An upper-case AND suffix is a separator, like "1 hoursAND2 minutes"
+                while (index < end && Character.isLetter(s.charAt(index)) && (index == start || !isUpperAnd(index))) {
+                    index++;
+                }
+                if (start == index) {
+                    throw new IllegalArgumentException("Missing time unit at index " + index + " of '" + s + "'");
+                }
+                add(unitOf(s, start, index), false);
+                any = true;
+                separated = false;
+            }
+            if (!any && !anySeparator) {
+                throw new IllegalArgumentException();
+            }
+            return any;
+        }
 
-                if (result == null) {
-                    result = duration;
+        private int separator(int i) {
+            final char c = s.charAt(i);
+            if (c == '&') {
+                return i + 1 < end && s.charAt(i + 1) == '&' ? 2 : 1;
+            } else if ((c == 'A' || c == 'a')
+                    && i + 3 <= end
+                    && Character.toUpperCase(s.charAt(i + 1)) == 'N'
+                    && Character.toUpperCase(s.charAt(i + 2)) == 'D'
+                    && (i + 3 == end || !Character.isLetter(s.charAt(i + 3)))) {
+                return 3;
+            }
+            return 0;
+        }
+
+        private boolean isUpperAnd(int i) {
+            return i + 3 <= end && s.charAt(i) == 'A' && s.charAt(i + 1) == 'N' && s.charAt(i + 2) == 'D';
+        }
+
+        private boolean isSeparatorOnly(int i) {
+            while (i < end) {
+                if (isWhitespace(s.charAt(i))) {
+                    i++;
+                    continue;
+                }
+                final int separator = separator(i);
+                if (separator == 0) {
+                    return false;
+                }
+                i += separator;
+            }
+            return true;
+        }
+
+        private boolean isIso() {
+            int i = index;
+            if (i < end && (s.charAt(i) == '-' || s.charAt(i) == '+')) {
+                i++;
+            }
+            return i < end && (s.charAt(i) == 'P' || s.charAt(i) == 'p');
+        }
+
+        private void readIso() {
+            boolean negate = false;
+            if (s.charAt(index) == '-' || s.charAt(index) == '+') {
+                negate = s.charAt(index) == '-';
+                index++;
+            }
+            index++;
+            boolean time = false;
+            boolean any = false;
+            while (index < end) {
+                final char c = s.charAt(index);
+                if ((c == 'T' || c == 't') && !time) {
+                    time = true;
+                    index++;
+                    continue;
+                }
+                readNumber();
+                if (index >= end) {
+                    throw new IllegalArgumentException("Text cannot be parsed to a Duration: " + s);
+                }
+                final TimeUnit unit;
+                switch (Character.toUpperCase(s.charAt(index++))) {
+                    case 'D':
+                        unit = time ? null : TimeUnit.DAYS;
+                        break;
+                    case 'H':
+                        unit = time ? TimeUnit.HOURS : null;
+                        break;
+                    case 'M':
+                        unit = time ? TimeUnit.MINUTES : null;
+                        break;
+                    case 'S':
+                        unit = time ? TimeUnit.SECONDS : null;
+                        break;
+                    default:
+                        unit = null;
+                        break;
+                }
+                if (unit == null) {
+                    throw new IllegalArgumentException("Text cannot be parsed to a Duration: " + s);
+                }
+                add(unit, negate);
+                any = true;
+            }
+            final char last = s.charAt(end - 1);
+            if (!any || last == 'T' || last == 't') {
+                throw new IllegalArgumentException("Text cannot be parsed to a Duration: " + s);
+            }
+        }
+
+        private void readNumber() {
+            negative = false;
+            whole = 0;
+            fraction = 0;
+            scale = 0;
+            final int start = index;
+            char c = s.charAt(index);
+            if (c == '-' || c == '+') {
+                negative = c == '-';
+                index++;
+            }
+            int digits = 0;
+            while (index < end && (c = s.charAt(index)) >= '0' && c <= '9') {
+                whole = Math.addExact(Math.multiplyExact(whole, 10), c - '0');
+                digits++;
+                index++;
+            }
+            if (index < end && s.charAt(index) == '.') {
+                index++;
+                while (index < end && (c = s.charAt(index)) >= '0' && c <= '9') {
+                    // Digits after nanoseconds precision of days are ignored
+                    if (scale < 18) {
+                        fraction = fraction * 10 + (c - '0');
+                        scale++;
+                    }
+                    digits++;
+                    index++;
+                }
+            }
+            if (digits == 0) {
+                throw new NumberFormatException("For input string: \"" + s.subSequence(start, index) + "\"");
+            }
+        }
+
+        private void add(@NotNull TimeUnit unit, boolean negate) {
+            final long unitNanos = UNIT_NANOS[unit.ordinal()];
+            long secs;
+            long ns;
+            if (unitNanos >= NANOS_PER_SECOND) {
+                secs = Math.multiplyExact(whole, unitNanos / NANOS_PER_SECOND);
+                ns = 0;
+            } else {
+                final long perSecond = NANOS_PER_SECOND / unitNanos;
+                secs = whole / perSecond;
+                ns = (whole % perSecond) * unitNanos;
+            }
+            if (fraction != 0) {
+                // Fraction is rounded half up to nanoseconds
+                final long fractionNanos;
+                if (fraction <= Long.MAX_VALUE / unitNanos) {
+                    final long product = fraction * unitNanos;
+                    final long pow = POW10[scale];
+                    fractionNanos = product / pow + ((product % pow) * 2 >= pow ? 1 : 0);
                 } else {
-                    result = result.plus(duration);
+                    fractionNanos = BigDecimal.valueOf(fraction, scale).multiply(BigDecimal.valueOf(unitNanos)).setScale(0, RoundingMode.HALF_UP).longValueExact();
                 }
-            } catch (IllegalArgumentException | NullPointerException e) {
-                throw e;
-            } catch (Throwable t) {
-                throw new IllegalArgumentException(t);
+                secs = Math.addExact(secs, fractionNanos / NANOS_PER_SECOND);
+                ns += fractionNanos % NANOS_PER_SECOND;
             }
+            if (negative != negate) {
+                seconds = Math.subtractExact(seconds, secs);
+                nanos -= ns;
+            } else {
+                seconds = Math.addExact(seconds, secs);
+                nanos += ns;
+            }
+            seconds = Math.addExact(seconds, Math.floorDiv(nanos, NANOS_PER_SECOND));
+            nanos = Math.floorMod(nanos, NANOS_PER_SECOND);
+        }
+
+        private void skipWhitespace() {
+            while (index < end && isWhitespace(s.charAt(index))) {
+                index++;
+            }
+        }
+
+        @NotNull
+        Duration toDuration() {
+            return Duration.ofSeconds(seconds, nanos);
         }
-        return result;
     }
 
     /**
@@ -0,0 +1,136 @@
+package com.saicone.types.parser;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Map;
+
+/**
+ * Immutable case-insensitive lookup table of enum names and aliases.<br>
+ * Names are stored in an open-addressing table with linear probing, so any lookup
+ * is done by hashing the provided char sequence without creating intermediate strings.<br>
+ * Names are compared in the same way as {@link String#equalsIgnoreCase(String)} does.
+ *
+ * @author Rubenicos
+ *
+ * @param <T> the enum type.
+ */
+final class EnumIndex<T extends Enum<T>> {
+
+    private final String[] keys;
+    private final int[] hashes;
+    private final Object[] values;
+    private final int mask;
+
+    /**
+     * Create an enum index from the provided enum values and aliases.<br>
+     * If two enum values share the same name ignoring case, the value with the lowest ordinal is used.
+     *
+     * @param type    the enum class type, used to read {@link EnumParser.Alias} annotations.
+     * @param values  the enum values.
+     * @param aliases the additional aliases to be used with enum values.
+     * @throws IllegalArgumentException if an alias is already used by a different enum value.
+     */
+    EnumIndex(@NotNull Class<T> type, @NotNull T[] values, @NotNull Map<String, T> aliases) {
+        final EnumParser.Alias[] annotations = new EnumParser.Alias[values.length];
+        int size = values.length + aliases.size();
+        for (int i = 0; i < values.length; i++) {
+            try {
+                annotations[i] = type.getDeclaredField(values[i].name()).getAnnotation(EnumParser.Alias.class);
+            } catch (NoSuchFieldException e) {
+                continue;
+            }
+            if (annotations[i] != null) {
+                size += annotations[i].value().length;
+            }
+        }
+
+        int capacity = 2;
+        while (capacity < size * 2) {
+            capacity <<= 1;
+        }
+        this.keys = new String[capacity];
+        this.hashes = new int[capacity];
+        this.values = new Object[capacity];
+        this.mask = capacity - 1;
+
+        for (T value : values) {
+            put(value.name(), value, false);
+        }
+        for (int i = 0; i < values.length; i++) {
+            if (annotations[i] != null) {
+                for (String alias : annotations[i].value()) {
+                    put(alias, values[i], true);
+                }
+            }
+        }
+        for (Map.Entry<String, T> entry : aliases.entrySet()) {
+            put(entry.getKey(), entry.getValue(), true);
+        }
+    }
+
+    private void put(@NotNull String key, @NotNull T value, boolean alias) {
+        final int hash = hash(key);
+        int i = hash & mask;
+        while (keys[i] != null) {
+            if (hashes[i] == hash && matches(keys[i], key)) {
+                if (alias && values[i] != value) {
+                    throw new IllegalArgumentException("The alias '" + key + "' of " + value + " is already used by " + values[i]);
+                }
+                return;
+            }
+            i = (i + 1) & mask;
+        }
+        keys[i] = key;
+        hashes[i] = hash;
+        values[i] = value;
+    }
+
+    /**
+     * Get the enum value associated with the provided name or alias, ignoring case.
+     *
+     * @param name the name to find.
+     * @return     an enum value if found, null otherwise.
+     */
+    @Nullable
+    @SuppressWarnings("unchecked")
+    T get(@NotNull CharSequence name) {
+        final int hash = hash(name);
+        int i = hash & mask;
+        String key;
+        while ((key = keys[i]) != null) {
+            if (hashes[i] == hash && matches(key, name)) {
+                return (T) values[i];
+            }
+            i = (i + 1) & mask;
+        }
+        return null;
+    }
+
+    private static int hash(@NotNull CharSequence s) {
+        int h = 0;
+        for (int i = 0; i < s.length(); i++) {
+            h = 31 * h + fold(s.charAt(i));
+        }
+        return h ^ (h >>> 16);
+    }
+
+    private static boolean matches(@NotNull String key, @NotNull CharSequence s) {
+        if (key.length() != s.length()) {
+            return false;
+        }
+        for (int i = 0; i < key.length(); i++) {
+            final char c1 = key.charAt(i);
+            final char c2 = s.charAt(i);
+            if (c1 != c2 && fold(c1) != fold(c2)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static char fold(char c) {
+        // Same char comparison as String#equalsIgnoreCase()
+        return Character.toLowerCase(Character.toUpperCase(c));
+    }
+}
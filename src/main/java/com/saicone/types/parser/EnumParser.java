@@ -6,10 +6,16 @@ import com.saicone.types.Types;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
 import java.lang.reflect.Method;
 import java.lang.reflect.Type;
-import java.util.HashMap;
+import java.util.Collections;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Represents a function that try to parse any type of object to enum type.<br>
@@ -24,7 +30,9 @@ import java.util.Map;
 public interface EnumParser<T extends Enum<T>> extends TypeParser<T> {
 
     /**
-     * Create an enum type parser that convert any object into provided enum class type.
+     * Create an enum type parser that convert any object into provided enum class type.<br>
+     * Parsers are cached by enum type, and any {@link Alias} annotation on enum values
+     * is used as additional name.
      *
      * @param type the associated type with the parser.
      * @return     an enum type parser that return an enum type.
@@ -33,19 +41,32 @@ public interface EnumParser<T extends Enum<T>> extends TypeParser<T> {
     @NotNull
     @SuppressWarnings("unchecked")
     static <T extends Enum<T>> EnumParser<T> of(@NotNull Class<T> type) {
-        EnumParser<?> parser = Static.CACHE.get(type);
-        if (parser == null) {
+        return (EnumParser<T>) Static.CACHE.computeIfAbsent(type, key -> {
             try {
                 final Method method = type.getDeclaredMethod("values");
                 method.setAccessible(true);
                 final T[] values = (T[]) method.invoke(null);
-                parser = of(type, values);
+                return of(type, values);
             } catch (Throwable t) {
                 throw new RuntimeException(t);
             }
-            Static.CACHE.put(type, parser);
-        }
-        return (EnumParser<T>) parser;
+        });
+    }
+
+    /**
+     * Create an enum type parser that convert any object into provided enum class type
+     * using provided aliases as additional names.<br>
+     * Parsers created with aliases are not cached.
+     *
+     * @param type    the associated type with the parser.
+     * @param aliases the aliases to be used with enum values.
+     * @return        an enum type parser that return an enum type.
+     * @param <T>     the enum type result of the function.
+     * @throws IllegalArgumentException if an alias is already used by a different enum value.
+     */
+    @NotNull
+    static <T extends Enum<T>> EnumParser<T> of(@NotNull Class<T> type, @NotNull Map<String, T> aliases) {
+        return of(type, of(type).values(), aliases);
     }
 
     /**
@@ -59,6 +80,23 @@ public interface EnumParser<T extends Enum<T>> extends TypeParser<T> {
      */
     @NotNull
     static <T extends Enum<T>> EnumParser<T> of(@NotNull Class<T> type, @NotNull T[] values) {
+        return of(type, values, Collections.emptyMap());
+    }
+
+    /**
+     * Create an enum type parser that convert any object into provided enum class type
+     * using provided array of enum values and aliases as additional names.
+     *
+     * @param type    the associated type with the parser.
+     * @param values  the enum array values.
+     * @param aliases the aliases to be used with enum values.
+     * @return        an enum type parser that return an enum type.
+     * @param <T>     the enum type result of the function.
+     * @throws IllegalArgumentException if an alias is already used by a different enum value.
+     */
+    @NotNull
+    static <T extends Enum<T>> EnumParser<T> of(@NotNull Class<T> type, @NotNull T[] values, @NotNull Map<String, T> aliases) {
+        final EnumIndex<T> index = new EnumIndex<>(type, values, aliases);
         return new EnumParser<T>() {
             @Override
             public @NotNull Type getType() {
@@ -69,6 +107,11 @@ public interface EnumParser<T extends Enum<T>> extends TypeParser<T> {
             public @NotNull T[] values() {
                 return values;
             }
+
+            @Override
+            public @Nullable T parseName(@NotNull CharSequence name) {
+                return index.get(name);
+            }
         };
     }
 
@@ -98,23 +141,33 @@ public interface EnumParser<T extends Enum<T>> extends TypeParser<T> {
             // enum -> enum
             return parse(((Enum<?>) first).ordinal());
         } else {
-            try {
-                final Integer ordinal = Types.INTEGER.parse(first);
-                if (ordinal != null) {
-                    return parse(ordinal);
-                }
-            } catch (NumberFormatException ignored) { }
-
-            final String name = String.valueOf(first);
-            for (T value : values()) {
-                if (value.name().equalsIgnoreCase(name)) {
-                    return value;
-                }
+            final T value = parseName(first instanceof CharSequence ? (CharSequence) first : String.valueOf(first));
+            if (value != null) {
+                return value;
             }
-            return null;
+
+            final Integer ordinal = Types.INTEGER.tryParse(first).getValue();
+            return ordinal == null ? null : parse(ordinal);
         }
     }
 
+    /**
+     * Parses the given name as required enum type, ignoring case.
+     *
+     * @param name the name or alias that represent an enum value.
+     * @return     the parsed enum value if name is valid, null otherwise.
+     */
+    @Nullable
+    default T parseName(@NotNull CharSequence name) {
+        final String s = name.toString();
+        for (T value : values()) {
+            if (value.name().equalsIgnoreCase(s)) {
+                return value;
+            }
+        }
+        return null;
+    }
+
     /**
      * Parses the given ordinal number as required enum type.
      *
@@ -130,8 +183,24 @@ public interface EnumParser<T extends Enum<T>> extends TypeParser<T> {
         return null;
     }
 
+    /**
+     * Define additional names for an enum value, any alias is compared ignoring case.
+     */
+    @Documented
+    @Retention(RetentionPolicy.RUNTIME)
+    @Target(ElementType.FIELD)
+    @interface Alias {
+
+        /**
+         * Get the aliases of the annotated enum value.
+         *
+         * @return an array of aliases.
+         */
+        String[] value();
+    }
+
     final class Static {
 
-        private static final Map<Class<?>, EnumParser<?>> CACHE = new HashMap<>();
+        private static final Map<Class<?>, EnumParser<?>> CACHE = new ConcurrentHashMap<>();
     }
 }
@@ -0,0 +1,185 @@
+package com.saicone.types.parser;
+
+import java.math.BigInteger;
+
+/**
+ * Decimal to binary floating-point conversion using the Eisel-Lemire algorithm.<br>
+ * A decimal significand and power of ten are multiplied by a truncated 128-bit approximation
+ * of the power of ten, and the result is only returned when the approximation is known to
+ * produce the correctly rounded value, in any other case the caller must fallback to
+ * {@link Double#parseDouble(String)} or {@link Float#parseFloat(String)}.
+ *
+ * @author Rubenicos
+ */
+final class FastDecimal {
+
+    static final int MIN_EXPONENT = -348;
+    static final int MAX_EXPONENT = 347;
+
+    // Powers of ten that can be exactly represented as double or float
+    private static final double[] DOUBLE_POW10 = {
+            1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10,
+            1e11, 1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22
+    };
+    private static final float[] FLOAT_POW10 = { 1e0f, 1e1f, 1e2f, 1e3f, 1e4f, 1e5f, 1e6f, 1e7f, 1e8f, 1e9f, 1e10f };
+
+    // 128-bit approximations of powers of ten (rounded down), with the most significant bit set
+    private static final long[] POW10_HIGH = new long[MAX_EXPONENT - MIN_EXPONENT + 1];
+    private static final long[] POW10_LOW = new long[MAX_EXPONENT - MIN_EXPONENT + 1];
+
+    static {
+        final BigInteger mask = BigInteger.ONE.shiftLeft(64).subtract(BigInteger.ONE);
+        for (int q = MIN_EXPONENT; q <= MAX_EXPONENT; q++) {
+            BigInteger value;
+            if (q >= 0) {
+                value = BigInteger.TEN.pow(q);
+            } else {
+                final BigInteger divisor = BigInteger.TEN.pow(-q);
+                value = BigInteger.ONE.shiftLeft(divisor.bitLength() + 128).divide(divisor);
+            }
+            final int shift = value.bitLength() - 128;
+            value = shift > 0 ? value.shiftRight(shift) : value.shiftLeft(-shift);
+            POW10_HIGH[q - MIN_EXPONENT] = value.shiftRight(64).longValue();
+            POW10_LOW[q - MIN_EXPONENT] = value.and(mask).longValue();
+        }
+    }
+
+    private FastDecimal() {
+    }
+
+    /**
+     * Convert the provided decimal number into the nearest double.
+     *
+     * @param significand the decimal significand, interpreted as unsigned.
+     * @param exponent    the power of ten to multiply the significand.
+     * @param truncated   true if the significand was truncated from a longer sequence of digits.
+     * @return            a positive double, {@link Double#NaN} if the value cannot be exactly computed.
+     */
+    static double toDouble(long significand, int exponent, boolean truncated) {
+        if (significand == 0) {
+            return 0.0d;
+        }
+        if (!truncated && significand > 0 && significand <= 1L << 53 && exponent >= -22 && exponent <= 22) {
+            // Both operands are exact, so the operation is correctly rounded
+            return exponent < 0 ? significand / DOUBLE_POW10[-exponent] : significand * DOUBLE_POW10[exponent];
+        } else if (exponent > 308) {
+            return Double.POSITIVE_INFINITY;
+        } else if (exponent < -343) {
+            // Less than half of the smallest subnormal double, even with 19 digits
+            return 0.0d;
+        }
+        final long bits = eiselLemire(significand, exponent, 52, 0x7FF);
+        if (bits < 0) {
+            return Double.NaN;
+        }
+        if (truncated && eiselLemire(significand + 1, exponent, 52, 0x7FF) != bits) {
+            // The omitted digits may change the rounding
+            return Double.NaN;
+        }
+        return Double.longBitsToDouble(bits);
+    }
+
+    /**
+     * Convert the provided decimal number into the nearest float.
+     *
+     * @param significand the decimal significand, interpreted as unsigned.
+     * @param exponent    the power of ten to multiply the significand.
+     * @param truncated   true if the significand was truncated from a longer sequence of digits.
+     * @return            a positive float, {@link Float#NaN} if the value cannot be exactly computed.
+     */
+    static float toFloat(long significand, int exponent, boolean truncated) {
+        if (significand == 0) {
+            return 0.0f;
+        }
+        if (!truncated && significand > 0 && significand <= 1L << 24 && exponent >= -10 && exponent <= 10) {
+            return exponent < 0 ? (float) significand / FLOAT_POW10[-exponent] : (float) significand * FLOAT_POW10[exponent];
+        } else if (exponent > 38) {
+            return Float.POSITIVE_INFINITY;
+        } else if (exponent < -65) {
+            // Less than half of the smallest subnormal float, even with 19 digits
+            return 0.0f;
+        }
+        final long bits = eiselLemire(significand, exponent, 23, 0xFF);
+        if (bits < 0) {
+            return Float.NaN;
+        }
+        if (truncated && eiselLemire(significand + 1, exponent, 23, 0xFF) != bits) {
+            return Float.NaN;
+        }
+        return Float.intBitsToFloat((int) bits);
+    }
+
+    private static long eiselLemire(long significand, int exponent, int mantissaBits, int maxExponent) {
+        if (exponent < MIN_EXPONENT || exponent > MAX_EXPONENT) {
+            return -1L;
+        }
+        // Normalization
+        final int clz = Long.numberOfLeadingZeros(significand);
+        final long man = significand << clz;
+        final int bias = maxExponent >> 1;
+        long retExp2 = ((217706L * exponent) >> 16) + 64 + bias - clz;
+
+        // Multiplication
+        final int index = exponent - MIN_EXPONENT;
+        final int lowBits = 63 - mantissaBits - 2;
+        final long lowMask = (1L << lowBits) - 1;
+        long xHi = multiplyHigh(man, POW10_HIGH[index]);
+        long xLo = man * POW10_HIGH[index];
+
+        // Wider approximation
+        if ((xHi & lowMask) == lowMask && Long.compareUnsigned(xLo + man, man) < 0) {
+            final long yHi = multiplyHigh(man, POW10_LOW[index]);
+            final long yLo = man * POW10_LOW[index];
+            long mergedHi = xHi;
+            final long mergedLo = xLo + yHi;
+            if (Long.compareUnsigned(mergedLo, xLo) < 0) {
+                mergedHi++;
+            }
+            if ((mergedHi & lowMask) == lowMask && mergedLo + 1 == 0 && Long.compareUnsigned(yLo + man, man) < 0) {
+                return -1L;
+            }
+            xHi = mergedHi;
+            xLo = mergedLo;
+        }
+
+        // Shifting to mantissa bits plus two
+        final long msb = xHi >>> 63;
+        long retMantissa = xHi >>> (msb + lowBits);
+        retExp2 -= 1 ^ msb;
+
+        // Half-way ambiguity
+        if (xLo == 0 && (xHi & lowMask) == 0 && (retMantissa & 3) == 1) {
+            return -1L;
+        }
+
+        // Round to mantissa bits plus one
+        retMantissa += retMantissa & 1;
+        retMantissa >>>= 1;
+        if (retMantissa >>> (mantissaBits + 1) > 0) {
+            retMantissa >>>= 1;
+            retExp2++;
+        }
+        // Subnormal, infinite and NaN values are not handled
+        if (retExp2 <= 0 || retExp2 >= maxExponent) {
+            return -1L;
+        }
+        return retExp2 << mantissaBits | retMantissa & ((1L << mantissaBits) - 1);
+    }
+
+    /**
+     * Get the high 64 bits of the unsigned 128-bit product of two longs.
+     *
+     * @param x the first value, interpreted as unsigned.
+     * @param y the second value, interpreted as unsigned.
+     * @return  the most significant bits of the product.
+     */
+    static long multiplyHigh(long x, long y) {
+        final long x0 = x & 0xFFFFFFFFL;
+        final long x1 = x >>> 32;
+        final long y0 = y & 0xFFFFFFFFL;
+        final long y1 = y >>> 32;
+        final long t = x1 * y0 + ((x0 * y0) >>> 32);
+        final long w = (t & 0xFFFFFFFFL) + x0 * y1;
+        return x1 * y1 + (t >>> 32) + (w >>> 32);
+    }
+}
@@ -1,13 +1,15 @@
 package com.saicone.types.parser;
 
 import com.saicone.types.TypeParser;
+import com.saicone.types.util.ConcurrentLruCache;
+import com.saicone.types.util.ParsedList;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 import java.lang.reflect.Type;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Map;
-import java.util.WeakHashMap;
+import java.util.concurrent.ForkJoinPool;
 import java.util.function.Function;
 import java.util.function.Supplier;
 
@@ -21,7 +23,17 @@ import java.util.function.Supplier;
 public class ListParser<E> extends CollectionParser<List<E>, E> {
 
     private static final Function<Integer, List<?>> LIST_SUPPLIER = capacity -> capacity == null ? new ArrayList<>() : new ArrayList<>(capacity);
-    private static final Map<Integer, ListParser<?>> PARSERS = new WeakHashMap<>();
+    private static final ConcurrentLruCache<TypeParser<?>, ListParser<?>> PARSERS = new ConcurrentLruCache<>(512);
+
+    /**
+     * Get the cache of list parsers created by {@link #of(TypeParser)}.
+     *
+     * @return a concurrent cache of list parsers.
+     */
+    @NotNull
+    public static ConcurrentLruCache<TypeParser<?>, ListParser<?>> getCache() {
+        return PARSERS;
+    }
 
     /**
      * Create a list parser using element parser.
@@ -33,13 +45,7 @@ public class ListParser<E> extends CollectionParser<List<E>, E> {
     @NotNull
     @SuppressWarnings("unchecked")
     public static <E> ListParser<E> of(@NotNull TypeParser<E> elementParser) {
-        final int key = elementParser.hashCode();
-        ListParser<?> parser = PARSERS.get(key);
-        if (parser == null) {
-            parser = new ListParser(LIST_SUPPLIER, elementParser);
-            PARSERS.put(key, parser);
-        }
-        return (ListParser<E>) parser;
+        return (ListParser<E>) PARSERS.computeIfAbsent(elementParser, key -> new ListParser(LIST_SUPPLIER, elementParser));
     }
 
     /**
@@ -62,8 +68,35 @@ public class ListParser<E> extends CollectionParser<List<E>, E> {
         super(supplier, elementParser);
     }
 
+    /**
+     * Construct a list parser with defined supplier, element parser and parallel parsing mode.
+     *
+     * @param supplier      the function that generate a list with allocated size.
+     * @param elementParser the type parser to parse elements.
+     * @param pool          the fork/join pool used to parse elements in parallel, null to parse sequentially.
+     * @param threshold     the minimum number of elements to parse in parallel.
+     */
+    public ListParser(@NotNull Function<Integer, List<E>> supplier, @NotNull TypeParser<E> elementParser, @Nullable ForkJoinPool pool, int threshold) {
+        super(supplier, elementParser, pool, threshold);
+    }
+
     @Override
     public @NotNull Type getType() {
         return List.class;
     }
+
+    @Override
+    public @NotNull List<E> view(@Nullable Object object) {
+        return view(object, true);
+    }
+
+    @Override
+    public @NotNull List<E> view(@Nullable Object object, boolean memoize) {
+        return new ParsedList<>(object, getElementParser(), memoize);
+    }
+
+    @Override
+    public @NotNull ListParser<E> parallel(@NotNull ForkJoinPool pool, int threshold) {
+        return new ListParser<>(getSupplier(), getElementParser(), pool, threshold);
+    }
 }
@@ -2,14 +2,19 @@ package com.saicone.types.parser;
 
 import com.saicone.types.AnyIterable;
 import com.saicone.types.TypeParser;
+import com.saicone.types.util.ConcurrentLruCache;
+import com.saicone.types.util.ParsedMap;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 import java.lang.reflect.Type;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
-import java.util.Objects;
-import java.util.WeakHashMap;
+import java.util.concurrent.ForkJoinPool;
 import java.util.function.BiFunction;
 import java.util.function.Function;
 import java.util.function.Supplier;
@@ -25,7 +30,17 @@ import java.util.function.Supplier;
 public class MapParser<K, V> extends AllocParser<Map<K, V>> {
 
     private static final Function<Integer, Map<?, ?>> MAP_SUPPLIER = capacity -> capacity == null ? new HashMap<>() : new HashMap<>(capacity);
-    private static final Map<Integer, MapParser<?, ?>> PARSERS = new WeakHashMap<>();
+    private static final ConcurrentLruCache<List<TypeParser<?>>, MapParser<?, ?>> PARSERS = new ConcurrentLruCache<>(512);
+
+    /**
+     * Get the cache of map parsers created by {@link #of(TypeParser, TypeParser)}.
+     *
+     * @return a concurrent cache of map parsers.
+     */
+    @NotNull
+    public static ConcurrentLruCache<List<TypeParser<?>>, MapParser<?, ?>> getCache() {
+        return PARSERS;
+    }
 
     /**
      * Create a map parser using key and value parser.
@@ -39,13 +54,7 @@ public class MapParser<K, V> extends AllocParser<Map<K, V>> {
     @NotNull
     @SuppressWarnings("unchecked")
     public static <K, V> MapParser<K, V> of(@NotNull TypeParser<K> keyParser, @NotNull TypeParser<V> valueParser) {
-        final int key = Objects.hash(keyParser, valueParser);
-        MapParser<?, ?> parser = PARSERS.get(key);
-        if (parser == null) {
-            parser = new MapParser(MAP_SUPPLIER, keyParser, valueParser);
-            PARSERS.put(key, parser);
-        }
-        return (MapParser<K, V>) parser;
+        return (MapParser<K, V>) PARSERS.computeIfAbsent(Arrays.asList(keyParser, valueParser), key -> new MapParser(MAP_SUPPLIER, keyParser, valueParser));
     }
 
     private final TypeParser<K> keyParser;
@@ -75,6 +84,21 @@ public class MapParser<K, V> extends AllocParser<Map<K, V>> {
         this.valueParser = valueParser;
     }
 
+    /**
+     * Constructs a map parser with defined parameters and parallel parsing mode.
+     *
+     * @param supplier    the function that generate a map with allocated size.
+     * @param keyParser   the type parser to parse keys.
+     * @param valueParser the type parser to parse values.
+     * @param pool        the fork/join pool used to parse entries in parallel, null to parse sequentially.
+     * @param threshold   the minimum number of entries to parse in parallel.
+     */
+    public MapParser(@NotNull Function<Integer, Map<K, V>> supplier, @NotNull TypeParser<K> keyParser, @NotNull TypeParser<V> valueParser, @Nullable ForkJoinPool pool, int threshold) {
+        super(supplier, pool, threshold);
+        this.keyParser = keyParser;
+        this.valueParser = valueParser;
+    }
+
     @Override
     public @Nullable Type getType() {
         return Map.class;
@@ -120,6 +144,20 @@ public class MapParser<K, V> extends AllocParser<Map<K, V>> {
         return valueParser;
     }
 
+    /**
+     * Get a copy of this map parser that parse entries in parallel.<br>
+     * Maps with a size greater or equal than threshold are split into chunks of entries
+     * and parsed using the provided fork/join pool, the entries are put into resulting map in iteration order.
+     *
+     * @param pool      the fork/join pool to use.
+     * @param threshold the minimum number of entries to parse in parallel.
+     * @return          a map parser in parallel mode.
+     */
+    @NotNull
+    public MapParser<K, V> parallel(@NotNull ForkJoinPool pool, int threshold) {
+        return new MapParser<>(getSupplier(), keyParser, valueParser, pool, threshold);
+    }
+
     @Override
     public boolean isInstance(@Nullable Object object) {
         if (super.isInstance(object)) {
@@ -162,6 +200,100 @@ public class MapParser<K, V> extends AllocParser<Map<K, V>> {
         return parseEach(object, (key, parser) -> parser.parse(key), (value, parser) -> parser.parse(value));
     }
 
+    /**
+     * {@inheritDoc}<br>
+     * Every entry of a compatible map is coerced, the map is returned as-is if none of its entries changed.
+     * Otherwise, if only values changed and in place mode is enabled, values are replaced inside the map,
+     * or a new map is created reusing the unchanged keys and values.
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public @NotNull Map<K, V> coerce(@Nullable Object object, boolean inPlace) {
+        if (object == null) {
+            return create();
+        } else if (!(object instanceof Map) || !super.isInstance(object)) {
+            return parseEach(object, (key, parser) -> parser.coerce(key, inPlace), (value, parser) -> parser.coerce(value, inPlace));
+        }
+        final Map<Object, Object> map = (Map<Object, Object>) object;
+        Object[] keys = null;
+        Object[] values = null;
+        boolean keysChanged = false;
+        int i = 0;
+        for (Map.Entry<Object, Object> entry : map.entrySet()) {
+            final Object key = keyParser.coerce(entry.getKey(), inPlace);
+            final Object value = valueParser.coerce(entry.getValue(), inPlace);
+            if (keys == null && (key != entry.getKey() || value != entry.getValue())) {
+                keys = new Object[map.size()];
+                values = new Object[map.size()];
+                final Iterator<Map.Entry<Object, Object>> iterator = map.entrySet().iterator();
+                for (int j = 0; j < i; j++) {
+                    final Map.Entry<Object, Object> previous = iterator.next();
+                    keys[j] = previous.getKey();
+                    values[j] = previous.getValue();
+                }
+            }
+            if (keys != null) {
+                keys[i] = key;
+                values[i] = value;
+                keysChanged |= key != entry.getKey();
+            }
+            i++;
+        }
+        if (keys == null) {
+            return (Map<K, V>) object;
+        }
+
+        if (inPlace && !keysChanged) {
+            try {
+                int j = 0;
+                for (Map.Entry<Object, Object> entry : map.entrySet()) {
+                    if (entry.getValue() != values[j]) {
+                        entry.setValue(values[j]);
+                    }
+                    j++;
+                }
+                return (Map<K, V>) object;
+            } catch (UnsupportedOperationException ignored) {
+                // Unmodifiable map, so a new map is created
+            }
+        }
+        final Map<K, V> result = create(keys.length);
+        for (int j = 0; j < keys.length; j++) {
+            result.put((K) keys[j], (V) values[j]);
+        }
+        return result;
+    }
+
+    /**
+     * Get a read-only view of the provided object, where values are parsed on access and memoized.
+     *
+     * @param object the object to represent.
+     * @return       a map view backed by the provided object.
+     */
+    @NotNull
+    public Map<K, V> view(@Nullable Object object) {
+        return view(object, true);
+    }
+
+    /**
+     * Get a read-only view of the provided object, where values are parsed on access.<br>
+     * Keys are parsed on view creation, so the view can be used for key lookups.
+     * Any object that is not a map is eagerly parsed using {@link #parse(Object)}.
+     *
+     * @param object  the object to represent.
+     * @param memoize true to keep parsed values.
+     * @return        a map view backed by the provided object.
+     */
+    @NotNull
+    public Map<K, V> view(@Nullable Object object, boolean memoize) {
+        if (object == null) {
+            return Collections.emptyMap();
+        } else if (object instanceof Map) {
+            return new ParsedMap<>((Map<?, ?>) object, keyParser, valueParser, memoize);
+        }
+        return Collections.unmodifiableMap(parse(object));
+    }
+
     /**
      * Parse the provided object into required type by converting each applicable entry using defined function.
      *
@@ -178,6 +310,22 @@ public class MapParser<K, V> extends AllocParser<Map<K, V>> {
         } else if (isInstance(object)) {
             return (Map<K, V>) object;
         }
+        if (object instanceof Map && isParallel(((Map<?, ?>) object).size())) {
+            final Object[] entries = ((Map<?, ?>) object).entrySet().toArray();
+            final Object[] keys = new Object[entries.length];
+            final Object[] values = new Object[entries.length];
+            ParallelTask.invoke(getPool(), entries, (element, index) -> {
+                final Map.Entry<?, ?> entry = (Map.Entry<?, ?>) element;
+                keys[index] = keyFunction.apply(entry.getKey(), keyParser);
+                values[index] = valueFunction.apply(entry.getValue(), valueParser);
+            });
+
+            final Map<K, V> map = create(entries.length);
+            for (int i = 0; i < entries.length; i++) {
+                map.put((K) keys[i], (V) values[i]);
+            }
+            return map;
+        }
         final AnyIterable<Object> iterable = AnyIterable.of(object);
         final Map<K, V> map = create(iterable.size());
 
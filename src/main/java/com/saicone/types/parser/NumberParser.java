@@ -1,6 +1,7 @@
 package com.saicone.types.parser;
 
 import com.saicone.types.AnyIterable;
+import com.saicone.types.ParseResult;
 import com.saicone.types.TypeParser;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
@@ -8,6 +9,8 @@ import org.jetbrains.annotations.Nullable;
 import java.lang.reflect.Type;
 import java.math.BigDecimal;
 import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
 import java.util.function.BiFunction;
 import java.util.function.Function;
 
@@ -85,6 +88,13 @@ public interface NumberParser<T extends Number> extends TypeParser<T> {
                 } else {
                     if (s.length() - start > 19) {
                         return function.apply(BIG_INTEGER, s);
+                    } else if (s.length() - start == 19) {
+                        try {
+                            return function.apply(LONG, s);
+                        } catch (NumberFormatException e) {
+                            // Long overflow
+                            return function.apply(BIG_INTEGER, s);
+                        }
                     }
                     return function.apply(LONG, s);
                 }
@@ -302,6 +312,11 @@ public interface NumberParser<T extends Number> extends TypeParser<T> {
         public @NotNull Integer parseUnsignedNumber(@NotNull String s, int radix) throws NumberFormatException {
             return Integer.parseUnsignedInt(s, radix);
         }
+
+        @Override
+        public @Nullable Integer parse(@NotNull CharSequence s, int from, int to) throws NumberFormatException {
+            return parseInt(s, from, to);
+        }
     };
 
     /**
@@ -320,7 +335,7 @@ public interface NumberParser<T extends Number> extends TypeParser<T> {
 
         @Override
         public @NotNull Float getMinValue() {
-            return Float.MIN_VALUE;
+            return -Float.MAX_VALUE;
         }
 
         @Override
@@ -428,6 +443,11 @@ public interface NumberParser<T extends Number> extends TypeParser<T> {
         public @NotNull Long parseUnsignedNumber(@NotNull String s, int radix) throws NumberFormatException {
             return Long.parseUnsignedLong(s, radix);
         }
+
+        @Override
+        public @Nullable Long parse(@NotNull CharSequence s, int from, int to) throws NumberFormatException {
+            return parseLong(s, from, to);
+        }
     };
 
     /**
@@ -446,7 +466,7 @@ public interface NumberParser<T extends Number> extends TypeParser<T> {
 
         @Override
         public @NotNull Double getMinValue() {
-            return Double.MIN_VALUE;
+            return -Double.MAX_VALUE;
         }
 
         @Override
@@ -483,6 +503,11 @@ public interface NumberParser<T extends Number> extends TypeParser<T> {
         public @NotNull Double parseNumber(@NotNull String s) throws NumberFormatException {
             return Double.parseDouble(s);
         }
+
+        @Override
+        public @Nullable Double parse(@NotNull CharSequence s, int from, int to) throws NumberFormatException {
+            return parseDouble(s, from, to);
+        }
     };
 
     /**
@@ -659,6 +684,208 @@ public interface NumberParser<T extends Number> extends TypeParser<T> {
         };
     }
 
+    /**
+     * Parses the given char sequence argument as int number.<br>
+     * This method allows the same number formats as {@link #parse(String)} with {@code i} as type suffix,
+     * without creating intermediate objects.
+     *
+     * @param s the char sequence to parse.
+     * @return  a converted int number.
+     * @throws NumberFormatException if the char sequence does not contain a parsable int.
+     */
+    static int parseInt(@NotNull CharSequence s) throws NumberFormatException {
+        return parseInt(s, 0, s.length());
+    }
+
+    /**
+     * Parses the given char sequence range as int number.<br>
+     * This method allows the same number formats as {@link #parse(String)} with {@code i} as type suffix,
+     * without creating intermediate objects.
+     *
+     * @param s    the char sequence to parse.
+     * @param from the start index, inclusive.
+     * @param to   the end index, exclusive.
+     * @return     a converted int number.
+     * @throws NumberFormatException if the range does not contain a parsable int.
+     */
+    static int parseInt(@NotNull CharSequence s, int from, int to) throws NumberFormatException {
+        final int header = NumberScanner.header(s, from, to, 'i');
+        final int start = NumberScanner.start(header, from);
+        final int end = NumberScanner.end(header, to);
+        final int radix = NumberScanner.radix(header);
+        if (NumberScanner.isUnsigned(header)) {
+            return (int) NumberScanner.parseUnsigned(s, start, end, radix, 0xFFFFFFFFL);
+        }
+        return (int) NumberScanner.parseSigned(s, start, end, radix, NumberScanner.isNegative(header), Integer.MAX_VALUE);
+    }
+
+    /**
+     * Parses the given char sequence argument as long number.<br>
+     * This method allows the same number formats as {@link #parse(String)} with {@code l} as type suffix,
+     * without creating intermediate objects.
+     *
+     * @param s the char sequence to parse.
+     * @return  a converted long number.
+     * @throws NumberFormatException if the char sequence does not contain a parsable long.
+     */
+    static long parseLong(@NotNull CharSequence s) throws NumberFormatException {
+        return parseLong(s, 0, s.length());
+    }
+
+    /**
+     * Parses the given char sequence range as long number.<br>
+     * This method allows the same number formats as {@link #parse(String)} with {@code l} as type suffix,
+     * without creating intermediate objects.
+     *
+     * @param s    the char sequence to parse.
+     * @param from the start index, inclusive.
+     * @param to   the end index, exclusive.
+     * @return     a converted long number.
+     * @throws NumberFormatException if the range does not contain a parsable long.
+     */
+    static long parseLong(@NotNull CharSequence s, int from, int to) throws NumberFormatException {
+        final int header = NumberScanner.header(s, from, to, 'l');
+        final int start = NumberScanner.start(header, from);
+        final int end = NumberScanner.end(header, to);
+        final int radix = NumberScanner.radix(header);
+        if (NumberScanner.isUnsigned(header)) {
+            return NumberScanner.parseUnsigned(s, start, end, radix, -1L);
+        }
+        return NumberScanner.parseSigned(s, start, end, radix, NumberScanner.isNegative(header), Long.MAX_VALUE);
+    }
+
+    /**
+     * Parses the given char sequence argument as double number.<br>
+     * This method allows the same number formats as {@link #parse(String)} with {@code d} as type suffix,
+     * plain decimal numbers are parsed without creating intermediate objects.
+     *
+     * @param s the char sequence to parse.
+     * @return  a converted double number.
+     * @throws NumberFormatException if the char sequence does not contain a parsable double.
+     */
+    static double parseDouble(@NotNull CharSequence s) throws NumberFormatException {
+        return parseDouble(s, 0, s.length());
+    }
+
+    /**
+     * Parses the given char sequence range as double number.<br>
+     * This method allows the same number formats as {@link #parse(String)} with {@code d} as type suffix,
+     * plain decimal numbers are parsed without creating intermediate objects.
+     *
+     * @param s    the char sequence to parse.
+     * @param from the start index, inclusive.
+     * @param to   the end index, exclusive.
+     * @return     a converted double number.
+     * @throws NumberFormatException if the range does not contain a parsable double.
+     */
+    static double parseDouble(@NotNull CharSequence s, int from, int to) throws NumberFormatException {
+        final int header = NumberScanner.header(s, from, to, 'd');
+        final int start = NumberScanner.start(header, from);
+        final int end = NumberScanner.end(header, to);
+        final int radix = NumberScanner.radix(header);
+        final boolean negative = NumberScanner.isNegative(header);
+        if (radix != 10) {
+            return NumberScanner.parseSigned(s, start, end, radix, negative, Long.MAX_VALUE);
+        }
+        final double d = NumberScanner.parseDecimal(s, start, end);
+        if (d == d) {
+            return negative ? -d : d;
+        }
+        // Not a plain decimal, fallback to Java implementation
+        final String str = s.subSequence(start, end).toString();
+        return Double.parseDouble(negative ? "-" + str : str);
+    }
+
+    /**
+     * Parses the given ASCII byte array window as int number.<br>
+     * This method allows the same number formats as {@link #parseInt(CharSequence)},
+     * bytes are read as chars without any charset decoding.
+     *
+     * @param buf the byte array to parse.
+     * @param off the index of the first byte to parse.
+     * @param len the number of bytes to parse.
+     * @return    a converted int number.
+     * @throws NumberFormatException if the window does not contain a parsable int.
+     */
+    static int parseInt(@NotNull byte[] buf, int off, int len) throws NumberFormatException {
+        return parseInt(new AsciiSequence(buf, off, len), 0, len);
+    }
+
+    /**
+     * Parses the given ASCII byte buffer window as int number.<br>
+     * This method allows the same number formats as {@link #parseInt(CharSequence)},
+     * bytes are read as chars without any charset decoding and the buffer position is not modified.
+     *
+     * @param buf the byte buffer to parse.
+     * @param off the absolute index of the first byte to parse.
+     * @param len the number of bytes to parse.
+     * @return    a converted int number.
+     * @throws NumberFormatException if the window does not contain a parsable int.
+     */
+    static int parseInt(@NotNull ByteBuffer buf, int off, int len) throws NumberFormatException {
+        return parseInt(new AsciiSequence(buf, off, len), 0, len);
+    }
+
+    /**
+     * Parses the given ASCII byte array window as long number.<br>
+     * This method allows the same number formats as {@link #parseLong(CharSequence)},
+     * bytes are read as chars without any charset decoding.
+     *
+     * @param buf the byte array to parse.
+     * @param off the index of the first byte to parse.
+     * @param len the number of bytes to parse.
+     * @return    a converted long number.
+     * @throws NumberFormatException if the window does not contain a parsable long.
+     */
+    static long parseLong(@NotNull byte[] buf, int off, int len) throws NumberFormatException {
+        return parseLong(new AsciiSequence(buf, off, len), 0, len);
+    }
+
+    /**
+     * Parses the given ASCII byte buffer window as long number.<br>
+     * This method allows the same number formats as {@link #parseLong(CharSequence)},
+     * bytes are read as chars without any charset decoding and the buffer position is not modified.
+     *
+     * @param buf the byte buffer to parse.
+     * @param off the absolute index of the first byte to parse.
+     * @param len the number of bytes to parse.
+     * @return    a converted long number.
+     * @throws NumberFormatException if the window does not contain a parsable long.
+     */
+    static long parseLong(@NotNull ByteBuffer buf, int off, int len) throws NumberFormatException {
+        return parseLong(new AsciiSequence(buf, off, len), 0, len);
+    }
+
+    /**
+     * Parses the given ASCII byte array window as double number.<br>
+     * This method allows the same number formats as {@link #parseDouble(CharSequence)},
+     * bytes are read as chars without any charset decoding.
+     *
+     * @param buf the byte array to parse.
+     * @param off the index of the first byte to parse.
+     * @param len the number of bytes to parse.
+     * @return    a converted double number.
+     * @throws NumberFormatException if the window does not contain a parsable double.
+     */
+    static double parseDouble(@NotNull byte[] buf, int off, int len) throws NumberFormatException {
+        return parseDouble(new AsciiSequence(buf, off, len), 0, len);
+    }
+
+    /**
+     * Parses the given ASCII byte buffer window as double number.<br>
+     * This method allows the same number formats as {@link #parseDouble(CharSequence)},
+     * bytes are read as chars without any charset decoding and the buffer position is not modified.
+     *
+     * @param buf the byte buffer to parse.
+     * @param off the absolute index of the first byte to parse.
+     * @param len the number of bytes to parse.
+     * @return    a converted double number.
+     * @throws NumberFormatException if the window does not contain a parsable double.
+     */
+    static double parseDouble(@NotNull ByteBuffer buf, int off, int len) throws NumberFormatException {
+        return parseDouble(new AsciiSequence(buf, off, len), 0, len);
+    }
+
     /**
      * Get the lowercase number suffix represented by this parser.
      *
@@ -740,11 +967,99 @@ public interface NumberParser<T extends Number> extends TypeParser<T> {
             return parseNumber((Boolean) first);
         } else if (object instanceof Enum) {
             return parseNumber((Enum<?>) first);
+        } else if (first instanceof String) {
+            return parse((String) first);
+        } else if (first instanceof CharSequence) {
+            return parse((CharSequence) first);
         } else {
             return parse(String.valueOf(first));
         }
     }
 
+    @Override
+    default @NotNull ParseResult<T> tryParse(@Nullable Object object) {
+        final Object first = object == null ? null : AnyIterable.of(object).first();
+        if (first == null) {
+            return ParseResult.empty();
+        }
+        if (first instanceof Number) {
+            final Number number = (Number) first;
+            if (getMinValue().getClass() != number.getClass() && !isBigHolder() && !isInRange(number)) {
+                return ParseResult.failure();
+            }
+            if (isNonFinite(number) && (getType() == BigDecimal.class || getType() == BigInteger.class)) {
+                // NaN and infinite decimals cannot be represented by big numbers
+                return ParseResult.failure();
+            }
+            try {
+                return ParseResult.of(parseNumber(number));
+            } catch (NumberFormatException e) {
+                return ParseResult.failure(e);
+            }
+        } else if (first instanceof CharSequence) {
+            final CharSequence s = (CharSequence) first;
+            return tryParse(s, 0, s.length());
+        } else if (first instanceof Boolean || object instanceof Enum) {
+            return TypeParser.super.tryParse(object);
+        } else {
+            final String s = String.valueOf(first);
+            return tryParse(s, 0, s.length());
+        }
+    }
+
+    /**
+     * Check if the given number is a NaN or infinite floating-point number.
+     *
+     * @param number the number to check.
+     * @return       true if the number is a non-finite double or float.
+     */
+    static boolean isNonFinite(@NotNull Number number) {
+        if (number instanceof Double) {
+            final double d = (Double) number;
+            return Double.isNaN(d) || Double.isInfinite(d);
+        } else if (number instanceof Float) {
+            final float f = (Float) number;
+            return Float.isNaN(f) || Float.isInfinite(f);
+        }
+        return false;
+    }
+
+    /**
+     * Parses the given char sequence range as required number type without throwing any exception.<br>
+     * This method allows various types of number formats, built-in parsers validate the range before
+     * conversion, so invalid numbers are reported as failed result.
+     *
+     * @param s    the char sequence to parse.
+     * @param from the start index, inclusive.
+     * @param to   the end index, exclusive.
+     * @return     a parse result that contains the converted number type if present.
+     */
+    @NotNull
+    @SuppressWarnings("unchecked")
+    default ParseResult<T> tryParse(@NotNull CharSequence s, int from, int to) {
+        if (!NumberScanner.isBuiltIn(this)) {
+            try {
+                return ParseResult.of(parse(s, from, to));
+            } catch (Throwable t) {
+                return ParseResult.failure(t);
+            }
+        }
+        final int header = NumberScanner.scanHeader(s, from, to, getSuffix());
+        if (header < 0) {
+            return ParseResult.failure();
+        }
+        final Number number = NumberScanner.tryParse(
+                this,
+                s,
+                NumberScanner.start(header, from),
+                NumberScanner.end(header, to),
+                NumberScanner.radix(header),
+                NumberScanner.isNegative(header),
+                NumberScanner.isUnsigned(header)
+        );
+        return number == null ? ParseResult.failure() : ParseResult.of((T) number);
+    }
+
     /**
      * Parses the given string argument as required number type.<br>
      * This method allows various types of number formats.
@@ -755,118 +1070,101 @@ public interface NumberParser<T extends Number> extends TypeParser<T> {
      */
     @Nullable
     default T parse(@NotNull String s) throws NumberFormatException {
-        if (s.trim().isEmpty()) {
-            throw new IllegalArgumentException("Cannot parse empty string");
-        }
-
-        int start = 0;
-        int end = s.length();
-
-        char last = s.charAt(end - 1);
-
-        if (getSuffix() != '\0' && last == getSuffix() || last == Character.toUpperCase(getSuffix())) {
-            if (--end == start) {
-                throw new NumberFormatException("For input string: \"" + s + "\"");
-            }
-            last = s.charAt(end - 1);
-        }
+        return parse(s, 0, s.length());
+    }
 
-        char first = s.charAt(start);
+    /**
+     * Parses the given char sequence argument as required number type.<br>
+     * This method allows various types of number formats.
+     *
+     * @param s the char sequence to parse.
+     * @return  a converted number type.
+     * @throws NumberFormatException if the char sequence does not contain a parsable number type
+     */
+    @Nullable
+    default T parse(@NotNull CharSequence s) throws NumberFormatException {
+        return parse(s, 0, s.length());
+    }
 
-        final boolean unsigned;
-        final boolean negative;
-        if (last == 'u' || last == 'U') {
-            if (--end == 0) {
-                throw new NumberFormatException("For input string: \"" + s + "\"");
-            }
-            if (first == '-') {
-                throw new IllegalArgumentException("Cannot parse negative unsigned number: '" + s + "'");
-            } else if (first == '+') {
-                if (++start == end) {
-                    throw new NumberFormatException("For input string: \"" + s + "\"");
-                } else {
-                    first = s.charAt(start);
-                }
-            }
+    /**
+     * Parses the given char array window as required number type.<br>
+     * This method allows various types of number formats.
+     *
+     * @param buf the char array to parse.
+     * @param off the index of the first char to parse.
+     * @param len the number of chars to parse.
+     * @return    a converted number type.
+     * @throws NumberFormatException if the window does not contain a parsable number type
+     */
+    @Nullable
+    default T parse(@NotNull char[] buf, int off, int len) throws NumberFormatException {
+        return parse(CharBuffer.wrap(buf), off, off + len);
+    }
 
-            unsigned = true;
-            negative = false;
-        } else {
-            unsigned = false;
-            if (first == '-') {
-                if (++start == end) {
-                    throw new NumberFormatException("For input string: \"" + s + "\"");
-                } else {
-                    first = s.charAt(start);
-                }
-                negative = true;
-            } else {
-                if (first == '+' && ++start == end) {
-                    throw new NumberFormatException("For input string: \"" + s + "\"");
-                } else {
-                    first = s.charAt(start);
-                }
+    /**
+     * Parses the given ASCII byte array window as required number type.<br>
+     * This method allows various types of number formats, bytes are read as chars
+     * without any charset decoding.
+     *
+     * @param buf the byte array to parse.
+     * @param off the index of the first byte to parse.
+     * @param len the number of bytes to parse.
+     * @return    a converted number type.
+     * @throws NumberFormatException if the window does not contain a parsable number type
+     */
+    @Nullable
+    default T parse(@NotNull byte[] buf, int off, int len) throws NumberFormatException {
+        return parse(new AsciiSequence(buf, off, len), 0, len);
+    }
 
-                negative = false;
-            }
-        }
+    /**
+     * Parses the given ASCII byte buffer window as required number type.<br>
+     * This method allows various types of number formats, bytes are read as chars
+     * without any charset decoding and the buffer position is not modified.
+     *
+     * @param buf the byte buffer to parse.
+     * @param off the absolute index of the first byte to parse.
+     * @param len the number of bytes to parse.
+     * @return    a converted number type.
+     * @throws NumberFormatException if the window does not contain a parsable number type
+     */
+    @Nullable
+    default T parse(@NotNull ByteBuffer buf, int off, int len) throws NumberFormatException {
+        return parse(new AsciiSequence(buf, off, len), 0, len);
+    }
 
-        int radix = 10;
-
-        if (first == '0') {
-            if (start + 1 < end) {
-                final char second = s.charAt(start + 1);
-                switch (second) {
-                    case 'x':
-                    case 'X':
-                        // hex
-                        radix = 16;
-                        start += 2;
-                        break;
-                    case 'b':
-                    case 'B':
-                        // binary
-                        radix = 2;
-                        start += 2;
-                        break;
-                    case 'o':
-                    case 'O':
-                        // octal
-                        radix = 8;
-                        start += 2;
-                        break;
-                    default:
-                        // detect octal
-                        boolean octal = true;
-                        for (int i = start + 1; i < end; i++) {
-                            final char c = s.charAt(i);
-                            if (c == '8' || c == '9' || !Character.isDigit(c)) {
-                                octal = false;
-                                break;
-                            }
-                        }
-                        if (octal) {
-                            radix = 8;
-                            start += 1;
-                        }
-                        break;
-                }
+    /**
+     * Parses the given char sequence range as required number type.<br>
+     * This method allows various types of number formats.
+     *
+     * @param s    the char sequence to parse.
+     * @param from the start index, inclusive.
+     * @param to   the end index, exclusive.
+     * @return     a converted number type.
+     * @throws NumberFormatException if the range does not contain a parsable number type
+     */
+    @Nullable
+    @SuppressWarnings("unchecked")
+    default T parse(@NotNull CharSequence s, int from, int to) throws NumberFormatException {
+        final int header = NumberScanner.header(s, from, to, getSuffix());
+        final int start = NumberScanner.start(header, from);
+        final int end = NumberScanner.end(header, to);
+        final int radix = NumberScanner.radix(header);
+
+        if (NumberScanner.isBuiltIn(this)) {
+            // Digits are accumulated in place, the string conversion is only used to report a malformed number
+            final Number number = NumberScanner.tryParse(this, s, start, end, radix, NumberScanner.isNegative(header), NumberScanner.isUnsigned(header));
+            if (number != null) {
+                return (T) number;
             }
-        } else if (first == '#') { // hex
-            radix = 16;
-            start++;
-        }
-
-        if (start == end) {
-            throw new NumberFormatException("For input string: \"" + s + "\"" + (radix == 10 ? "" : " under radix " + radix));
         }
 
-        s = (negative ? "-" : "") + s.substring(start, end);
+        final String str = (NumberScanner.isNegative(header) ? "-" : "") + s.subSequence(start, end);
 
-        if (unsigned) {
-            return parseUnsignedNumber(s, radix);
+        if (NumberScanner.isUnsigned(header)) {
+            return parseUnsignedNumber(str, radix);
         } else {
-            return radix == 10 ? parseNumber(s) : parseNumber(s, radix);
+            return radix == 10 ? parseNumber(str) : parseNumber(str, radix);
         }
     }
 
@@ -0,0 +1,795 @@
+package com.saicone.types.parser;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+
+/**
+ * Number scanning methods used by primitive {@link NumberParser} methods.<br>
+ * The same number grammar from {@link NumberParser#parse(String)} is supported, but any
+ * char sequence range is read in place, without intermediate strings or boxed numbers.
+ *
+ * @author Rubenicos
+ */
+final class NumberScanner {
+
+    // Header errors
+    static final int MALFORMED = -1;
+    static final int EMPTY = -2;
+    static final int NEGATIVE_UNSIGNED = -3;
+
+    // Accumulation error, any other accumulated value is zero or negative
+    static final long INVALID = 1L;
+
+    // Header layout: [unsigned:1][negative:1][radix:8][unused:3][end offset:2][start offset:3]
+    private static final int START_MASK = 0x7;
+    private static final int END_SHIFT = 3;
+    private static final int END_MASK = 0x3;
+    private static final int RADIX_SHIFT = 8;
+    private static final int RADIX_MASK = 0xFF;
+    private static final int NEGATIVE = 1 << 16;
+    private static final int UNSIGNED = 1 << 17;
+
+    private NumberScanner() {
+    }
+
+    /**
+     * Read the number header from the given range, this includes the type suffix, unsigned suffix,
+     * leading sign and radix prefix.
+     *
+     * @param s      the char sequence to read.
+     * @param from   the start index, inclusive.
+     * @param to     the end index, exclusive.
+     * @param suffix the type suffix to ignore.
+     * @return       a packed header that can be read with other methods from this class.
+     * @throws NumberFormatException if the range does not contain a parsable number.
+     */
+    static int header(@NotNull CharSequence s, int from, int to, char suffix) throws NumberFormatException {
+        final int header = scanHeader(s, from, to, suffix);
+        switch (header) {
+            case EMPTY:
+                throw new IllegalArgumentException("Cannot parse empty string");
+            case NEGATIVE_UNSIGNED:
+                throw new IllegalArgumentException("Cannot parse negative unsigned number: '" + s.subSequence(from, to) + "'");
+            case MALFORMED:
+                throw forInput(s, from, to);
+            default:
+                return header;
+        }
+    }
+
+    /**
+     * Read the number header from the given range without throwing any exception.
+     *
+     * @see NumberScanner#header(CharSequence, int, int, char)
+     *
+     * @param s      the char sequence to read.
+     * @param from   the start index, inclusive.
+     * @param to     the end index, exclusive.
+     * @param suffix the type suffix to ignore.
+     * @return       a packed header, or a negative error code if the range does not contain a parsable number.
+     */
+    static int scanHeader(@NotNull CharSequence s, int from, int to, char suffix) {
+        if (from < 0 || from > to || to > s.length()) {
+            throw new IndexOutOfBoundsException("Invalid range [" + from + ", " + to + ") for length " + s.length());
+        }
+        if (isBlank(s, from, to)) {
+            return EMPTY;
+        }
+
+        int start = from;
+        int end = to;
+
+        char last = s.charAt(end - 1);
+
+        if (suffix != '\0' && last == suffix || last == Character.toUpperCase(suffix)) {
+            if (--end == start) {
+                return MALFORMED;
+            }
+            last = s.charAt(end - 1);
+        }
+
+        char first = s.charAt(start);
+
+        final boolean unsigned;
+        boolean negative;
+        if (last == 'u' || last == 'U') {
+            if (--end == from) {
+                return MALFORMED;
+            }
+            if (first == '-') {
+                return NEGATIVE_UNSIGNED;
+            } else if (first == '+') {
+                if (++start == end) {
+                    return MALFORMED;
+                } else {
+                    first = s.charAt(start);
+                }
+            }
+
+            unsigned = true;
+            negative = false;
+        } else {
+            unsigned = false;
+            if (first == '-') {
+                if (++start == end) {
+                    return MALFORMED;
+                } else {
+                    first = s.charAt(start);
+                }
+                negative = true;
+            } else {
+                if (first == '+' && ++start == end) {
+                    return MALFORMED;
+                } else {
+                    first = s.charAt(start);
+                }
+
+                negative = false;
+            }
+        }
+
+        int radix = 10;
+
+        if (first == '0') {
+            if (start + 1 < end) {
+                final char second = s.charAt(start + 1);
+                switch (second) {
+                    case 'x':
+                    case 'X':
+                        // hex
+                        radix = 16;
+                        start += 2;
+                        break;
+                    case 'b':
+                    case 'B':
+                        // binary
+                        radix = 2;
+                        start += 2;
+                        break;
+                    case 'o':
+                    case 'O':
+                        // octal
+                        radix = 8;
+                        start += 2;
+                        break;
+                    default:
+                        // detect octal
+                        boolean octal = true;
+                        for (int i = start + 1; i < end; i++) {
+                            final char c = s.charAt(i);
+                            if (c == '8' || c == '9' || !Character.isDigit(c)) {
+                                octal = false;
+                                break;
+                            }
+                        }
+                        if (octal) {
+                            radix = 8;
+                            start += 1;
+                        }
+                        break;
+                }
+            }
+        } else if (first == '#') { // hex
+            radix = 16;
+            start++;
+        }
+
+        if (start == end) {
+            return MALFORMED;
+        }
+
+        // Java number parsing also accepts a sign after the radix prefix
+        if (!negative && start + 1 < end && s.charAt(start + 1) > ' ') {
+            final char sign = s.charAt(start);
+            if (sign == '-') {
+                if (unsigned) {
+                    return MALFORMED;
+                }
+                negative = true;
+                start++;
+            } else if (sign == '+') {
+                start++;
+            }
+        }
+
+        return (start - from)
+                | (to - end) << END_SHIFT
+                | radix << RADIX_SHIFT
+                | (negative ? NEGATIVE : 0)
+                | (unsigned ? UNSIGNED : 0);
+    }
+
+    static int start(int header, int from) {
+        return from + (header & START_MASK);
+    }
+
+    static int end(int header, int to) {
+        return to - (header >>> END_SHIFT & END_MASK);
+    }
+
+    static int radix(int header) {
+        return header >>> RADIX_SHIFT & RADIX_MASK;
+    }
+
+    static boolean isNegative(int header) {
+        return (header & NEGATIVE) != 0;
+    }
+
+    static boolean isUnsigned(int header) {
+        return (header & UNSIGNED) != 0;
+    }
+
+    /**
+     * Parse the digits from the given range as signed number, in the same way as
+     * {@link Long#parseLong(String, int)} does with an optional leading sign.
+     *
+     * @param s        the char sequence to read.
+     * @param start    the start index, inclusive.
+     * @param end      the end index, exclusive.
+     * @param radix    the radix to be used.
+     * @param negative true if the number was already marked as negative.
+     * @param max      the maximum allowed value, the minimum value is {@code -max - 1}.
+     * @return         a parsed number.
+     * @throws NumberFormatException if the range does not contain a parsable number.
+     */
+    static long parseSigned(@NotNull CharSequence s, int start, int end, int radix, boolean negative, long max) throws NumberFormatException {
+        int i = start;
+        if (!negative && i < end) {
+            final char first = s.charAt(i);
+            if (first == '-' || first == '+') {
+                negative = first == '-';
+                i++;
+            }
+        }
+        final long result = accumulate(s, i, end, radix, negative, max);
+        if (result == INVALID) {
+            throw forInput(s, start, end, negative && i == start, radix);
+        }
+        return negative ? result : -result;
+    }
+
+    /**
+     * Accumulate the digits from the given range negatively, in this way the minimum value
+     * can be reached without overflow.
+     *
+     * @param s        the char sequence to read.
+     * @param start    the start index, inclusive.
+     * @param end      the end index, exclusive.
+     * @param radix    the radix to be used.
+     * @param negative true if the number is negative.
+     * @param max      the maximum allowed value, the minimum value is {@code -max - 1}.
+     * @return         the negated number if it's not negative, {@link #INVALID} if the range is not a valid number.
+     */
+    static long accumulate(@NotNull CharSequence s, int start, int end, int radix, boolean negative, long max) {
+        if (start >= end) {
+            return INVALID;
+        }
+        final long limit = negative ? -max - 1 : -max;
+        final long multmin = limit / radix;
+        long result = 0;
+        for (int i = start; i < end; i++) {
+            final int digit = Character.digit(s.charAt(i), radix);
+            if (digit < 0 || result < multmin) {
+                return INVALID;
+            }
+            result *= radix;
+            if (result < limit + digit) {
+                return INVALID;
+            }
+            result -= digit;
+        }
+        return result;
+    }
+
+    /**
+     * Parse the digits from the given range as unsigned number, in the same way as
+     * {@link Long#parseUnsignedLong(String, int)} does with an optional leading plus sign.
+     *
+     * @param s     the char sequence to read.
+     * @param start the start index, inclusive.
+     * @param end   the end index, exclusive.
+     * @param radix the radix to be used.
+     * @param max   the maximum allowed value as unsigned number.
+     * @return      a parsed number that must be interpreted as unsigned.
+     * @throws NumberFormatException if the range does not contain a parsable number.
+     */
+    static long parseUnsigned(@NotNull CharSequence s, int start, int end, int radix, long max) throws NumberFormatException {
+        int i = start;
+        if (i < end) {
+            final char first = s.charAt(i);
+            if (first == '-') {
+                throw new NumberFormatException("Illegal leading minus sign on unsigned string " + s.subSequence(start, end) + ".");
+            } else if (first == '+') {
+                i++;
+            }
+        }
+        if (!isUnsigned(s, i, end, radix, max)) {
+            for (int j = i; j < end; j++) {
+                if (Character.digit(s.charAt(j), radix) < 0) {
+                    throw forInput(s, start, end, false, radix);
+                }
+            }
+            throw i == end ? forInput(s, start, end, false, radix) : outOfRange(s, start, end);
+        }
+        return accumulateUnsigned(s, i, end, radix);
+    }
+
+    /**
+     * Check if the given range only contains digits of an unsigned number that doesn't exceed the provided maximum value.
+     *
+     * @param s     the char sequence to read.
+     * @param start the start index, inclusive.
+     * @param end   the end index, exclusive.
+     * @param radix the radix to be used.
+     * @param max   the maximum allowed value as unsigned number.
+     * @return      true if the range is a valid unsigned number.
+     */
+    static boolean isUnsigned(@NotNull CharSequence s, int start, int end, int radix, long max) {
+        if (start >= end) {
+            return false;
+        }
+        final long multmax = Long.divideUnsigned(max, radix);
+        long result = 0;
+        for (int i = start; i < end; i++) {
+            final int digit = Character.digit(s.charAt(i), radix);
+            if (digit < 0 || Long.compareUnsigned(result, multmax) > 0) {
+                return false;
+            }
+            result *= radix;
+            if (Long.compareUnsigned(result, max - digit) > 0) {
+                return false;
+            }
+            result += digit;
+        }
+        return true;
+    }
+
+    /**
+     * Accumulate the digits from the given range as unsigned number, the range must be validated first.
+     *
+     * @see NumberScanner#isUnsigned(CharSequence, int, int, int, long)
+     *
+     * @param s     the char sequence to read.
+     * @param start the start index, inclusive.
+     * @param end   the end index, exclusive.
+     * @param radix the radix to be used.
+     * @return      a number that must be interpreted as unsigned.
+     */
+    static long accumulateUnsigned(@NotNull CharSequence s, int start, int end, int radix) {
+        long result = 0;
+        for (int i = start; i < end; i++) {
+            result = result * radix + Character.digit(s.charAt(i), radix);
+        }
+        return result;
+    }
+
+    /**
+     * Parse the given range as decimal number without sign.<br>
+     * Only plain decimals with optional exponent are handled, and only if they can be
+     * converted with {@link FastDecimal} into the correctly rounded double.
+     *
+     * @param s     the char sequence to read.
+     * @param start the start index, inclusive.
+     * @param end   the end index, exclusive.
+     * @return      a parsed double, {@link Double#NaN} if the range must be parsed by {@link Double#parseDouble(String)}.
+     */
+    static double parseDecimal(@NotNull CharSequence s, int start, int end) {
+        return parseDecimal(s, start, end, false);
+    }
+
+    /**
+     * Parse the given range as decimal number without sign.<br>
+     * Only plain decimals with optional exponent are handled, and only if they can be
+     * converted with {@link FastDecimal} into the correctly rounded double or float.
+     *
+     * @param s      the char sequence to read.
+     * @param start  the start index, inclusive.
+     * @param end    the end index, exclusive.
+     * @param single true to round the number as float instead of double.
+     * @return       a parsed number, {@link Double#NaN} if the range must be parsed by Java implementation.
+     */
+    static double parseDecimal(@NotNull CharSequence s, int start, int end, boolean single) {
+        long significand = 0;
+        int digits = 0;
+        int exponent = 0;
+        boolean point = false;
+        boolean any = false;
+        boolean truncated = false;
+
+        int i = start;
+        for (; i < end; i++) {
+            final char c = s.charAt(i);
+            if (c >= '0' && c <= '9') {
+                any = true;
+                if (significand == 0 && c == '0') {
+                    if (point) {
+                        exponent--;
+                    }
+                    continue;
+                }
+                if (++digits > 19) {
+                    // Only the first 19 digits fit into significand
+                    truncated |= c != '0';
+                    if (!point) {
+                        exponent++;
+                    }
+                    continue;
+                }
+                significand = significand * 10 + (c - '0');
+                if (point) {
+                    exponent--;
+                }
+            } else if (c == '.' && !point) {
+                point = true;
+            } else {
+                break;
+            }
+        }
+        if (!any) {
+            return Double.NaN;
+        }
+
+        if (i < end) {
+            final char c = s.charAt(i);
+            if (c != 'e' && c != 'E' || ++i == end) {
+                return Double.NaN;
+            }
+            final char sign = s.charAt(i);
+            final boolean negative = sign == '-';
+            if ((negative || sign == '+') && ++i == end) {
+                return Double.NaN;
+            }
+            int exp = 0;
+            for (; i < end; i++) {
+                final char e = s.charAt(i);
+                if (e < '0' || e > '9') {
+                    return Double.NaN;
+                }
+                if (exp < 1000) {
+                    exp = exp * 10 + (e - '0');
+                }
+            }
+            exponent += negative ? -exp : exp;
+        }
+
+        return single ? FastDecimal.toFloat(significand, exponent, truncated) : FastDecimal.toDouble(significand, exponent, truncated);
+    }
+
+    /**
+     * Check if the provided parser is a built-in number parser that can be handled by
+     * {@link #tryParse(NumberParser, CharSequence, int, int, int, boolean, boolean)}.
+     *
+     * @param parser the parser to check.
+     * @return       true if the parser is a built-in number parser.
+     */
+    static boolean isBuiltIn(@NotNull NumberParser<?> parser) {
+        return parser == NumberParser.NUMBER
+                || parser == NumberParser.BYTE
+                || parser == NumberParser.SHORT
+                || parser == NumberParser.INTEGER
+                || parser == NumberParser.FLOAT
+                || parser == NumberParser.LONG
+                || parser == NumberParser.DOUBLE
+                || parser == NumberParser.BIG_INTEGER
+                || parser == NumberParser.BIG_DECIMAL;
+    }
+
+    /**
+     * Parse the digits from the given range using a built-in number parser without throwing any exception.<br>
+     * Every range is validated before conversion, the same number types that are returned
+     * by {@link NumberParser#parse(String)} are returned by this method.
+     *
+     * @param parser   the built-in number parser.
+     * @param s        the char sequence to read.
+     * @param start    the start index after number header, inclusive.
+     * @param end      the end index before number suffixes, exclusive.
+     * @param radix    the radix to be used.
+     * @param negative true if the number is negative.
+     * @param unsigned true if the number is unsigned.
+     * @return         a parsed number, null if the range does not contain a parsable number.
+     */
+    @Nullable
+    static Number tryParse(@NotNull NumberParser<?> parser, @NotNull CharSequence s, int start, int end, int radix, boolean negative, boolean unsigned) {
+        if (parser == NumberParser.INTEGER) {
+            if (unsigned) {
+                return isUnsigned(s, start, end, radix, 0xFFFFFFFFL) ? (int) accumulateUnsigned(s, start, end, radix) : null;
+            }
+            final long result = accumulate(s, start, end, radix, negative, Integer.MAX_VALUE);
+            return result == INVALID ? null : (int) (negative ? result : -result);
+        } else if (parser == NumberParser.LONG) {
+            if (unsigned) {
+                return isUnsigned(s, start, end, radix, -1L) ? accumulateUnsigned(s, start, end, radix) : null;
+            }
+            final long result = accumulate(s, start, end, radix, negative, Long.MAX_VALUE);
+            return result == INVALID ? null : negative ? result : -result;
+        } else if (parser == NumberParser.BYTE) {
+            final long result = accumulate(s, start, end, radix, negative, Byte.MAX_VALUE);
+            return result == INVALID ? null : (byte) (negative ? result : -result);
+        } else if (parser == NumberParser.SHORT) {
+            final long result = accumulate(s, start, end, radix, negative, Short.MAX_VALUE);
+            return result == INVALID ? null : (short) (negative ? result : -result);
+        } else if (parser == NumberParser.FLOAT) {
+            if (radix != 10) {
+                final long result = accumulate(s, start, end, radix, negative, Integer.MAX_VALUE);
+                return result == INVALID ? null : (float) (negative ? result : -result);
+            }
+            final double d = parseDecimal(s, start, end, true);
+            if (d == d) {
+                return (float) (negative ? -d : d);
+            }
+            if (!isDecimal(s, start, end, negative)) {
+                return null;
+            }
+            try {
+                return Float.parseFloat(toString(s, start, end, negative));
+            } catch (NumberFormatException e) {
+                return null;
+            }
+        } else if (parser == NumberParser.DOUBLE) {
+            if (radix != 10) {
+                final long result = accumulate(s, start, end, radix, negative, Long.MAX_VALUE);
+                return result == INVALID ? null : (double) (negative ? result : -result);
+            }
+            final double d = parseDecimal(s, start, end);
+            if (d == d) {
+                return negative ? -d : d;
+            }
+            if (!isDecimal(s, start, end, negative)) {
+                return null;
+            }
+            try {
+                return Double.parseDouble(toString(s, start, end, negative));
+            } catch (NumberFormatException e) {
+                return null;
+            }
+        } else if (parser == NumberParser.BIG_INTEGER) {
+            return isDigits(s, start, end, radix) ? new BigInteger(toString(s, start, end, negative), radix) : null;
+        } else if (parser == NumberParser.BIG_DECIMAL) {
+            if (radix != 10) {
+                return isDigits(s, start, end, radix) ? new BigDecimal(new BigInteger(toString(s, start, end, negative), radix)) : null;
+            }
+            if (!isBigDecimal(s, start, end)) {
+                return null;
+            }
+            try {
+                return new BigDecimal(toString(s, start, end, negative));
+            } catch (NumberFormatException e) {
+                // Exponent overflow
+                return null;
+            }
+        } else if (parser == NumberParser.NUMBER) {
+            return tryParseNumber(s, start, end, radix, negative, unsigned);
+        }
+        throw new IllegalArgumentException("The parser " + parser.getType() + " is not a built-in number parser");
+    }
+
+    @Nullable
+    private static Number tryParseNumber(@NotNull CharSequence s, int start, int end, int radix, boolean negative, boolean unsigned) {
+        // Same type detection as NumberParser.NUMBER, but using the range instead of a string
+        final char last = s.charAt(end - 1);
+        if (Character.isDigit(last)) {
+            final int length = end - start + (negative ? 1 : 0);
+            final char first = s.charAt(start);
+            final int offset = negative || first == '+' || first == '-' ? 1 : 0;
+            int point = -1;
+            for (int i = start; i < end; i++) {
+                if (s.charAt(i) == '.') {
+                    point = i - start + (negative ? 1 : 0);
+                    break;
+                }
+            }
+
+            if (point > 0) {
+                if (point - offset > 309 || length - point + 1 > 17) {
+                    return tryParse(NumberParser.BIG_DECIMAL, s, start, end, radix, negative, unsigned);
+                }
+                return tryParse(NumberParser.DOUBLE, s, start, end, radix, negative, unsigned);
+            } else {
+                if (length - offset > 19) {
+                    return tryParse(NumberParser.BIG_INTEGER, s, start, end, radix, negative, unsigned);
+                }
+                final Number number = tryParse(NumberParser.LONG, s, start, end, radix, negative, unsigned);
+                if (number == null && length - offset == 19) {
+                    // Long overflow
+                    return tryParse(NumberParser.BIG_INTEGER, s, start, end, radix, negative, unsigned);
+                }
+                return number;
+            }
+        } else if (end - start < 2) {
+            return null;
+        }
+
+        switch (last) {
+            case 'b':
+            case 'B':
+                return tryParse(NumberParser.BYTE, s, start, end - 1, radix, negative, unsigned);
+            case 's':
+            case 'S':
+                return tryParse(NumberParser.SHORT, s, start, end - 1, radix, negative, unsigned);
+            case 'i':
+            case 'I':
+                return tryParse(NumberParser.INTEGER, s, start, end - 1, radix, negative, unsigned);
+            case 'f':
+            case 'F':
+                return tryParse(NumberParser.FLOAT, s, start, end - 1, radix, negative, unsigned);
+            case 'l':
+            case 'L':
+                return tryParse(NumberParser.LONG, s, start, end - 1, radix, negative, unsigned);
+            case 'd':
+            case 'D':
+                return tryParse(NumberParser.DOUBLE, s, start, end - 1, radix, negative, unsigned);
+            default:
+                return null;
+        }
+    }
+
+    /**
+     * Check if the given range only contains digits from the provided radix.
+     *
+     * @param s     the char sequence to read.
+     * @param start the start index, inclusive.
+     * @param end   the end index, exclusive.
+     * @param radix the radix to be used.
+     * @return      true if the range is not empty and every char is a digit.
+     */
+    static boolean isDigits(@NotNull CharSequence s, int start, int end, int radix) {
+        if (start >= end) {
+            return false;
+        }
+        for (int i = start; i < end; i++) {
+            if (Character.digit(s.charAt(i), radix) < 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Check if the given range is accepted by {@link Double#parseDouble(String)}.<br>
+     * Hexadecimal floating point numbers are not checked, so they must be parsed carefully.
+     *
+     * @param s        the char sequence to read.
+     * @param start    the start index, inclusive.
+     * @param end      the end index, exclusive.
+     * @param negative true if the number was already marked as negative.
+     * @return         true if the range is a decimal number.
+     */
+    static boolean isDecimal(@NotNull CharSequence s, int start, int end, boolean negative) {
+        int i = start;
+        if (!negative) {
+            while (i < end && s.charAt(i) <= ' ') {
+                i++;
+            }
+            if (i < end && (s.charAt(i) == '+' || s.charAt(i) == '-')) {
+                i++;
+            }
+        }
+        while (end > i && s.charAt(end - 1) <= ' ') {
+            end--;
+        }
+        if (i >= end) {
+            return false;
+        }
+
+        if (matches(s, i, end, "NaN") || matches(s, i, end, "Infinity")) {
+            return true;
+        } else if (end - i > 1 && s.charAt(i) == '0' && (s.charAt(i + 1) == 'x' || s.charAt(i + 1) == 'X')) {
+            // Hexadecimal floating point
+            return true;
+        }
+
+        final char last = s.charAt(end - 1);
+        if (last == 'f' || last == 'F' || last == 'd' || last == 'D') {
+            end--;
+        }
+
+        boolean digits = false;
+        boolean point = false;
+        for (; i < end; i++) {
+            final char c = s.charAt(i);
+            if (c >= '0' && c <= '9') {
+                digits = true;
+            } else if (c == '.' && !point) {
+                point = true;
+            } else {
+                break;
+            }
+        }
+        if (!digits) {
+            return false;
+        }
+        return i == end || isExponent(s, i, end);
+    }
+
+    /**
+     * Check if the given range is accepted by {@link BigDecimal#BigDecimal(String)}.
+     *
+     * @param s     the char sequence to read.
+     * @param start the start index, inclusive.
+     * @param end   the end index, exclusive.
+     * @return      true if the range is a big decimal number.
+     */
+    static boolean isBigDecimal(@NotNull CharSequence s, int start, int end) {
+        boolean digits = false;
+        boolean point = false;
+        int i = start;
+        for (; i < end; i++) {
+            final char c = s.charAt(i);
+            if (Character.isDigit(c)) {
+                digits = true;
+            } else if (c == '.' && !point) {
+                point = true;
+            } else {
+                break;
+            }
+        }
+        if (!digits) {
+            return false;
+        }
+        return i == end || isExponent(s, i, end);
+    }
+
+    private static boolean isExponent(@NotNull CharSequence s, int start, int end) {
+        int i = start;
+        final char c = s.charAt(i);
+        if (c != 'e' && c != 'E' || ++i == end) {
+            return false;
+        }
+        final char sign = s.charAt(i);
+        if ((sign == '+' || sign == '-') && ++i == end) {
+            return false;
+        }
+        for (; i < end; i++) {
+            final char e = s.charAt(i);
+            if (e < '0' || e > '9') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean matches(@NotNull CharSequence s, int start, int end, @NotNull String word) {
+        if (end - start != word.length()) {
+            return false;
+        }
+        for (int i = 0; i < word.length(); i++) {
+            if (s.charAt(start + i) != word.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @NotNull
+    private static String toString(@NotNull CharSequence s, int start, int end, boolean negative) {
+        final String str = s.subSequence(start, end).toString();
+        return negative ? "-" + str : str;
+    }
+
+    private static boolean isBlank(@NotNull CharSequence s, int from, int to) {
+        for (int i = from; i < to; i++) {
+            if (s.charAt(i) > ' ') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @NotNull
+    private static NumberFormatException forInput(@NotNull CharSequence s, int from, int to) {
+        return new NumberFormatException("For input string: \"" + s.subSequence(from, to) + "\"");
+    }
+
+    @NotNull
+    private static NumberFormatException forInput(@NotNull CharSequence s, int from, int to, boolean negative, int radix) {
+        return new NumberFormatException("For input string: \"" + (negative ? "-" : "") + s.subSequence(from, to) + "\"" + (radix == 10 ? "" : " under radix " + radix));
+    }
+
+    @NotNull
+    private static NumberFormatException outOfRange(@NotNull CharSequence s, int from, int to) {
+        return new NumberFormatException("String value " + s.subSequence(from, to) + " exceeds range of unsigned number.");
+    }
+}
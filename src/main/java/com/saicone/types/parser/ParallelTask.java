@@ -0,0 +1,101 @@
+package com.saicone.types.parser;
+
+import com.saicone.types.iterator.ArrayIterator;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.ObjIntConsumer;
+
+/**
+ * Fork/join task that process the elements of an indexed source in parallel.<br>
+ * The source is recursively split by index range until every chunk is small enough,
+ * so each element is consumed with its original index and the caller can assemble
+ * the result in order.
+ *
+ * @author Rubenicos
+ */
+final class ParallelTask extends RecursiveAction {
+
+    private final Object source;
+    private final ObjIntConsumer<Object> action;
+    private final int from;
+    private final int to;
+    private final int chunk;
+
+    /**
+     * Check if the provided object can be split by index range.
+     *
+     * @param object the object to check.
+     * @return       true if the object is a list or an array.
+     */
+    static boolean isSplittable(@Nullable Object object) {
+        return object instanceof List || (object != null && object.getClass().isArray());
+    }
+
+    /**
+     * Get the number of elements of a splittable object.
+     *
+     * @param object the splittable object.
+     * @return       the object size.
+     */
+    static int size(@NotNull Object object) {
+        if (object instanceof List) {
+            return ((List<?>) object).size();
+        }
+        return ArrayIterator.getLength(object);
+    }
+
+    /**
+     * Consume every element of a splittable object in parallel and wait until all the elements are consumed.
+     *
+     * @param pool   the fork/join pool to use.
+     * @param object the splittable object.
+     * @param action the action that consume an element and its index.
+     */
+    static void invoke(@NotNull ForkJoinPool pool, @NotNull Object object, @NotNull ObjIntConsumer<Object> action) {
+        // Linked lists are copied once instead of being traversed by every chunk
+        final Object source = object instanceof List && !(object instanceof RandomAccess) ? ((List<?>) object).toArray() : object;
+        final int size = size(source);
+        if (size == 0) {
+            return;
+        }
+        final int chunk = Math.max(1, size / (pool.getParallelism() << 2));
+        pool.invoke(new ParallelTask(source, action, 0, size, chunk));
+    }
+
+    private ParallelTask(@NotNull Object source, @NotNull ObjIntConsumer<Object> action, int from, int to, int chunk) {
+        this.source = source;
+        this.action = action;
+        this.from = from;
+        this.to = to;
+        this.chunk = chunk;
+    }
+
+    @Override
+    protected void compute() {
+        if (to - from <= chunk) {
+            if (source instanceof Object[]) {
+                final Object[] array = (Object[]) source;
+                for (int i = from; i < to; i++) {
+                    action.accept(array[i], i);
+                }
+            } else if (source instanceof List) {
+                final List<?> list = (List<?>) source;
+                for (int i = from; i < to; i++) {
+                    action.accept(list.get(i), i);
+                }
+            } else {
+                for (int i = from; i < to; i++) {
+                    action.accept(ArrayIterator.getElement(source, i), i);
+                }
+            }
+            return;
+        }
+        final int middle = (from + to) >>> 1;
+        invokeAll(new ParallelTask(source, action, from, middle, chunk), new ParallelTask(source, action, middle, to, chunk));
+    }
+}
@@ -1,13 +1,14 @@
 package com.saicone.types.parser;
 
 import com.saicone.types.TypeParser;
+import com.saicone.types.util.ConcurrentLruCache;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 import java.lang.reflect.Type;
 import java.util.HashSet;
-import java.util.Map;
 import java.util.Set;
-import java.util.WeakHashMap;
+import java.util.concurrent.ForkJoinPool;
 import java.util.function.Function;
 import java.util.function.Supplier;
 
@@ -21,7 +22,17 @@ import java.util.function.Supplier;
 public class SetParser<E> extends CollectionParser<Set<E>, E> {
 
     private static final Function<Integer, Set<?>> LIST_SUPPLIER = capacity -> capacity == null ? new HashSet<>() : new HashSet<>(capacity);
-    private static final Map<Integer, SetParser<?>> PARSERS = new WeakHashMap<>();
+    private static final ConcurrentLruCache<TypeParser<?>, SetParser<?>> PARSERS = new ConcurrentLruCache<>(512);
+
+    /**
+     * Get the cache of set parsers created by {@link #of(TypeParser)}.
+     *
+     * @return a concurrent cache of set parsers.
+     */
+    @NotNull
+    public static ConcurrentLruCache<TypeParser<?>, SetParser<?>> getCache() {
+        return PARSERS;
+    }
 
     /**
      * Create a set parser using element parser.
@@ -33,13 +44,7 @@ public class SetParser<E> extends CollectionParser<Set<E>, E> {
     @NotNull
     @SuppressWarnings("unchecked")
     public static <E> SetParser<E> of(@NotNull TypeParser<E> elementParser) {
-        final int key = elementParser.hashCode();
-        SetParser<?> parser = PARSERS.get(key);
-        if (parser == null) {
-            parser = new SetParser(LIST_SUPPLIER, elementParser);
-            PARSERS.put(key, parser);
-        }
-        return (SetParser<E>) parser;
+        return (SetParser<E>) PARSERS.computeIfAbsent(elementParser, key -> new SetParser(LIST_SUPPLIER, elementParser));
     }
 
     /**
@@ -62,8 +67,25 @@ public class SetParser<E> extends CollectionParser<Set<E>, E> {
         super(supplier, elementParser);
     }
 
+    /**
+     * Construct a set parser with defined supplier, element parser and parallel parsing mode.
+     *
+     * @param supplier      the function that generate a set with allocated size.
+     * @param elementParser the type parser to parse elements.
+     * @param pool          the fork/join pool used to parse elements in parallel, null to parse sequentially.
+     * @param threshold     the minimum number of elements to parse in parallel.
+     */
+    public SetParser(@NotNull Function<Integer, Set<E>> supplier, @NotNull TypeParser<E> elementParser, @Nullable ForkJoinPool pool, int threshold) {
+        super(supplier, elementParser, pool, threshold);
+    }
+
     @Override
     public @NotNull Type getType() {
         return Set.class;
     }
+
+    @Override
+    public @NotNull SetParser<E> parallel(@NotNull ForkJoinPool pool, int threshold) {
+        return new SetParser<>(getSupplier(), getElementParser(), pool, threshold);
+    }
 }
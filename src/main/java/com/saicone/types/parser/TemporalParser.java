@@ -8,18 +8,27 @@ import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 import java.lang.reflect.Type;
+import java.nio.CharBuffer;
+import java.time.Clock;
+import java.time.DateTimeException;
+import java.time.Instant;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
 import java.time.Month;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
 import java.time.ZoneOffset;
 import java.time.ZonedDateTime;
 import java.time.temporal.Temporal;
+import java.util.concurrent.TimeUnit;
 
 /**
  * Represents an interface that try to parse any object type to temporal object instance.<br>
  * This parser is also compatible with Number, formatted String and array representation of
- * constructor arguments for required temporal type object.
+ * constructor arguments for required temporal type object.<br>
+ * The most common ISO-8601 layouts are read by char position, any other formatted text is
+ * parsed by the ISO-8601 formatter of the temporal type.
  *
  * @author Rubenicos
  *
@@ -47,6 +56,11 @@ public interface TemporalParser<T extends Temporal> extends TypeParser<T> {
             return LocalDate.ofEpochDay(number.longValue());
         }
 
+        @Override
+        public @NotNull LocalDate parseEpoch(long epochSecond, int nanoOfSecond, @NotNull ZoneOffset offset, @NotNull ZoneId zone) {
+            return LocalDate.ofEpochDay(Math.floorDiv(epochSecond + offset.getTotalSeconds(), 86400L));
+        }
+
         @Override
         public @Nullable LocalDate parseTemporal(@NotNull ArrayIterator<Integer> iterator) {
             if (iterator.size() == 2) {
@@ -59,7 +73,13 @@ public interface TemporalParser<T extends Temporal> extends TypeParser<T> {
 
         @Override
         public @NotNull LocalDate parseTemporal(@NotNull String s) {
-            return LocalDate.parse(s);
+            return parseTemporal((CharSequence) s);
+        }
+
+        @Override
+        public @NotNull LocalDate parseTemporal(@NotNull CharSequence s) {
+            final LocalDate temporal = TemporalScanner.localDate(s, 0, s.length());
+            return temporal != null ? temporal : LocalDate.parse(s);
         }
     };
 
@@ -85,6 +105,11 @@ public interface TemporalParser<T extends Temporal> extends TypeParser<T> {
             return LocalTime.ofSecondOfDay(number.longValue());
         }
 
+        @Override
+        public @NotNull LocalTime parseEpoch(long epochSecond, int nanoOfSecond, @NotNull ZoneOffset offset, @NotNull ZoneId zone) {
+            return LocalTime.ofNanoOfDay(Math.floorMod(epochSecond + offset.getTotalSeconds(), 86400L) * 1_000_000_000L + nanoOfSecond);
+        }
+
         @Override
         public @Nullable LocalTime parseTemporal(@NotNull ArrayIterator<Integer> iterator) {
             switch (iterator.size()) {
@@ -101,7 +126,13 @@ public interface TemporalParser<T extends Temporal> extends TypeParser<T> {
 
         @Override
         public @NotNull LocalTime parseTemporal(@NotNull String s) {
-            return LocalTime.parse(s);
+            return parseTemporal((CharSequence) s);
+        }
+
+        @Override
+        public @NotNull LocalTime parseTemporal(@NotNull CharSequence s) {
+            final LocalTime temporal = TemporalScanner.localTime(s, 0, s.length());
+            return temporal != null ? temporal : LocalTime.parse(s);
         }
     };
 
@@ -124,7 +155,14 @@ public interface TemporalParser<T extends Temporal> extends TypeParser<T> {
 
         @Override
         public @NotNull LocalDateTime parseTemporal(@NotNull Number number) {
-            return LocalDateTime.ofEpochSecond(number.longValue(), 0, ZonedDateTime.now().getOffset());
+            final long epochSecond = number.longValue();
+            final ZoneOffsetCache cache = ZoneOffsetCache.systemDefault();
+            return parseEpoch(epochSecond, 0, cache.getOffset(epochSecond), cache.getZone());
+        }
+
+        @Override
+        public @NotNull LocalDateTime parseEpoch(long epochSecond, int nanoOfSecond, @NotNull ZoneOffset offset, @NotNull ZoneId zone) {
+            return LocalDateTime.ofEpochSecond(epochSecond, nanoOfSecond, offset);
         }
 
         @Override
@@ -143,10 +181,176 @@ public interface TemporalParser<T extends Temporal> extends TypeParser<T> {
 
         @Override
         public @NotNull LocalDateTime parseTemporal(@NotNull String s) {
-            return LocalDateTime.parse(s);
+            return parseTemporal((CharSequence) s);
+        }
+
+        @Override
+        public @NotNull LocalDateTime parseTemporal(@NotNull CharSequence s) {
+            final LocalDateTime temporal = TemporalScanner.localDateTime(s, 0, s.length());
+            return temporal != null ? temporal : LocalDateTime.parse(s);
+        }
+    };
+
+    /**
+     * {@link TemporalParser} for Instant values.<br>
+     * This parser accept any ISO-8601 String with date time and offset, epoch seconds Number
+     * or Number array with date time values at UTC.
+     *
+     * @see Instant#parse(CharSequence)
+     * @see Instant#ofEpochSecond(long)
+     * @see LocalDateTime#toInstant(ZoneOffset)
+     */
+    TemporalParser<Instant> INSTANT = new TemporalParser<Instant>() {
+        @Override
+        public @NotNull Type getType() {
+            return Instant.class;
+        }
+
+        @Override
+        public @NotNull Instant parseTemporal(@NotNull Number number) {
+            return Instant.ofEpochSecond(number.longValue());
+        }
+
+        @Override
+        public @NotNull Instant parseEpoch(long epochSecond, int nanoOfSecond, @NotNull ZoneOffset offset, @NotNull ZoneId zone) {
+            return Instant.ofEpochSecond(epochSecond, nanoOfSecond);
+        }
+
+        @Override
+        public @Nullable Instant parseTemporal(@NotNull ArrayIterator<Integer> iterator) {
+            final LocalDateTime dateTime = LOCAL_DATE_TIME.parseTemporal(iterator);
+            return dateTime == null ? null : dateTime.toInstant(ZoneOffset.UTC);
+        }
+
+        @Override
+        public @NotNull Instant parseTemporal(@NotNull String s) {
+            return parseTemporal((CharSequence) s);
+        }
+
+        @Override
+        public @NotNull Instant parseTemporal(@NotNull CharSequence s) {
+            final Instant temporal = TemporalScanner.instant(s, 0, s.length());
+            return temporal != null ? temporal : Instant.parse(s);
+        }
+    };
+
+    /**
+     * {@link TemporalParser} for OffsetDateTime values.<br>
+     * This parser accept any ISO-8601 String with date time and offset, epoch seconds Number
+     * or Number array with date time values at system default zone.
+     *
+     * @see OffsetDateTime#parse(CharSequence)
+     * @see OffsetDateTime#ofInstant(Instant, ZoneId)
+     * @see OffsetDateTime#of(LocalDateTime, ZoneOffset)
+     */
+    TemporalParser<OffsetDateTime> OFFSET_DATE_TIME = new TemporalParser<OffsetDateTime>() {
+        @Override
+        public @NotNull Type getType() {
+            return OffsetDateTime.class;
+        }
+
+        @Override
+        public @NotNull OffsetDateTime parseTemporal(@NotNull Number number) {
+            final long epochSecond = number.longValue();
+            final ZoneOffsetCache cache = ZoneOffsetCache.systemDefault();
+            return parseEpoch(epochSecond, 0, cache.getOffset(epochSecond), cache.getZone());
+        }
+
+        @Override
+        public @NotNull OffsetDateTime parseEpoch(long epochSecond, int nanoOfSecond, @NotNull ZoneOffset offset, @NotNull ZoneId zone) {
+            return OffsetDateTime.of(LocalDateTime.ofEpochSecond(epochSecond, nanoOfSecond, offset), offset);
+        }
+
+        @Override
+        public @Nullable OffsetDateTime parseTemporal(@NotNull ArrayIterator<Integer> iterator) {
+            final LocalDateTime dateTime = LOCAL_DATE_TIME.parseTemporal(iterator);
+            return dateTime == null ? null : ZonedDateTime.of(dateTime, ZoneId.systemDefault()).toOffsetDateTime();
+        }
+
+        @Override
+        public @NotNull OffsetDateTime parseTemporal(@NotNull String s) {
+            return parseTemporal((CharSequence) s);
+        }
+
+        @Override
+        public @NotNull OffsetDateTime parseTemporal(@NotNull CharSequence s) {
+            final OffsetDateTime temporal = TemporalScanner.offsetDateTime(s, 0, s.length());
+            return temporal != null ? temporal : OffsetDateTime.parse(s);
+        }
+    };
+
+    /**
+     * {@link TemporalParser} for ZonedDateTime values.<br>
+     * This parser accept any ISO-8601 String with date time, offset and optional zone region
+     * enclosed in square brackets, epoch seconds Number or Number array with date time values
+     * at system default zone.
+     *
+     * @see ZonedDateTime#parse(CharSequence)
+     * @see ZonedDateTime#ofInstant(Instant, ZoneId)
+     * @see ZonedDateTime#of(LocalDateTime, ZoneId)
+     */
+    TemporalParser<ZonedDateTime> ZONED_DATE_TIME = new TemporalParser<ZonedDateTime>() {
+        @Override
+        public @NotNull Type getType() {
+            return ZonedDateTime.class;
+        }
+
+        @Override
+        public @NotNull ZonedDateTime parseTemporal(@NotNull Number number) {
+            final long epochSecond = number.longValue();
+            final ZoneOffsetCache cache = ZoneOffsetCache.systemDefault();
+            return parseEpoch(epochSecond, 0, cache.getOffset(epochSecond), cache.getZone());
+        }
+
+        @Override
+        public @NotNull ZonedDateTime parseEpoch(long epochSecond, int nanoOfSecond, @NotNull ZoneOffset offset, @NotNull ZoneId zone) {
+            return ZonedDateTime.ofInstant(LocalDateTime.ofEpochSecond(epochSecond, nanoOfSecond, offset), offset, zone);
+        }
+
+        @Override
+        public @Nullable ZonedDateTime parseTemporal(@NotNull ArrayIterator<Integer> iterator) {
+            final LocalDateTime dateTime = LOCAL_DATE_TIME.parseTemporal(iterator);
+            return dateTime == null ? null : ZonedDateTime.of(dateTime, ZoneId.systemDefault());
+        }
+
+        @Override
+        public @NotNull ZonedDateTime parseTemporal(@NotNull String s) {
+            return parseTemporal((CharSequence) s);
+        }
+
+        @Override
+        public @NotNull ZonedDateTime parseTemporal(@NotNull CharSequence s) {
+            final ZonedDateTime temporal = TemporalScanner.zonedDateTime(s, 0, s.length());
+            return temporal != null ? temporal : ZonedDateTime.parse(s);
         }
     };
 
+    /**
+     * Create a temporal parser that convert any Number as epoch timestamp with the provided unit at the provided zone.
+     *
+     * @param zone      the zone to convert epoch timestamps.
+     * @param epochUnit the unit of epoch timestamps.
+     * @return          a zoned temporal parser.
+     * @see ZonedTemporalParser
+     */
+    @NotNull
+    default ZonedTemporalParser<T> withZone(@NotNull ZoneId zone, @NotNull TimeUnit epochUnit) {
+        return new ZonedTemporalParser<>(this, zone, epochUnit);
+    }
+
+    /**
+     * Create a temporal parser that convert any Number as epoch timestamp with the provided unit at the zone of the provided clock.
+     *
+     * @param clock     the clock that provide the zone to convert epoch timestamps.
+     * @param epochUnit the unit of epoch timestamps.
+     * @return          a zoned temporal parser.
+     * @see ZonedTemporalParser
+     */
+    @NotNull
+    default ZonedTemporalParser<T> withClock(@NotNull Clock clock, @NotNull TimeUnit epochUnit) {
+        return withZone(clock.getZone(), epochUnit);
+    }
+
     @Override
     default @Nullable T parse(@NotNull Object object) {
         final Object single = AnyIterable.of(object).single();
@@ -158,6 +362,10 @@ public interface TemporalParser<T extends Temporal> extends TypeParser<T> {
             return parseTemporal((Number) single);
         } else if (single instanceof Object[] || single.getClass().isArray()) {
             return parseTemporal(ArrayIterator.of(single, Types.INTEGER));
+        } else if (single instanceof String) {
+            return parseTemporal((String) single);
+        } else if (single instanceof CharSequence) {
+            return parseTemporal((CharSequence) single);
         } else {
             return parseTemporal(String.valueOf(single));
         }
@@ -172,6 +380,36 @@ public interface TemporalParser<T extends Temporal> extends TypeParser<T> {
     @NotNull
     T parseTemporal(@NotNull Number number);
 
+    /**
+     * Parses the given epoch instant as required temporal type at the provided zone.<br>
+     * By default, the instant is returned as-is for instant types, otherwise it's converted with {@link #parse(Object)}
+     * as {@link ZonedDateTime} at the provided zone for zoned types, or as {@link OffsetDateTime} with the provided offset
+     * for any other type, so any temporal parser that can parse those objects or its ISO-8601 representation is supported.
+     *
+     * @param epochSecond  the seconds from 1970-01-01T00:00:00Z.
+     * @param nanoOfSecond the nanosecond adjustment to epoch seconds, from 0 to 999,999,999.
+     * @param offset       the zone offset of the instant.
+     * @param zone         the zone that provided the offset.
+     * @return             a converted temporal type.
+     * @throws DateTimeException if the instant cannot be converted into temporal type.
+     */
+    @NotNull
+    @SuppressWarnings("unchecked")
+    default T parseEpoch(long epochSecond, int nanoOfSecond, @NotNull ZoneOffset offset, @NotNull ZoneId zone) throws DateTimeException {
+        final Instant instant = Instant.ofEpochSecond(epochSecond, nanoOfSecond);
+        final Class<?> type = getType() instanceof Class ? (Class<?>) getType() : null;
+        if (type != null && type.isInstance(instant)) {
+            return (T) instant;
+        }
+        // Local fields are resolved at the provided zone, and zone ids are only kept for zoned types
+        final Temporal zoned = type != null && type.isAssignableFrom(ZonedDateTime.class) ? ZonedDateTime.ofInstant(instant, zone) : instant.atOffset(offset);
+        final T temporal = parse(zoned);
+        if (temporal == null) {
+            throw new DateTimeException("Cannot convert " + zoned + " into " + getType());
+        }
+        return temporal;
+    }
+
     /**
      * Parses the given int array iterator as required temporal type.
      *
@@ -189,4 +427,28 @@ public interface TemporalParser<T extends Temporal> extends TypeParser<T> {
      */
     @NotNull
     T parseTemporal(@NotNull String s);
+
+    /**
+     * Parses the given formatted char sequence argument as required temporal type.
+     *
+     * @param s the char sequence to parse.
+     * @return  a converted temporal type.
+     */
+    @NotNull
+    default T parseTemporal(@NotNull CharSequence s) {
+        return parseTemporal(s.toString());
+    }
+
+    /**
+     * Parses the given formatted char array window as required temporal type.
+     *
+     * @param buf the char array to parse.
+     * @param off the index of the first char to parse.
+     * @param len the number of chars to parse.
+     * @return    a converted temporal type.
+     */
+    @NotNull
+    default T parseTemporal(@NotNull char[] buf, int off, int len) {
+        return parseTemporal(CharBuffer.wrap(buf, off, len));
+    }
 }
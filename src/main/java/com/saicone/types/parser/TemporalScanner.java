@@ -0,0 +1,377 @@
+package com.saicone.types.parser;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.time.DateTimeException;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+
+/**
+ * Temporal scanning methods used by {@link TemporalParser} instances.<br>
+ * The most common ISO-8601 layouts are validated and read by char position, without a
+ * formatter or intermediate parsed objects:
+ * <ul>
+ *     <li>Date {@code yyyy-MM-dd}</li>
+ *     <li>Time {@code HH:mm}, {@code HH:mm:ss} or {@code HH:mm:ss.SSSSSSSSS} with 1 to 9 fraction digits</li>
+ *     <li>Date time {@code yyyy-MM-ddTHH:mm:ss}, with the same time layouts</li>
+ *     <li>Offset {@code Z}, {@code +HH:MM} or {@code +HH:MM:ss}</li>
+ *     <li>Zone {@code [region]} after an offset</li>
+ * </ul>
+ * Any other input, including valid ISO-8601 text with unusual layout, make the methods return
+ * an invalid value, so the caller must fallback to the formatter that provide the actual result
+ * or a detailed exception.
+ *
+ * @author Rubenicos
+ */
+final class TemporalScanner {
+
+    // Scan error, any other packed date or time is positive
+    static final long INVALID = -1L;
+    // Offset scan error, any other offset is inside the range of +-18 hours
+    static final int INVALID_OFFSET = Integer.MIN_VALUE;
+
+    // Date layout: [year:14][month:4][day:5]
+    private static final int MONTH_SHIFT = 5;
+    private static final int YEAR_SHIFT = 9;
+
+    private static final long NANOS_PER_SECOND = 1_000_000_000L;
+    private static final long NANOS_PER_MINUTE = 60 * NANOS_PER_SECOND;
+    private static final long NANOS_PER_HOUR = 60 * NANOS_PER_MINUTE;
+    private static final int SECONDS_PER_DAY = 86400;
+    private static final int MAX_OFFSET = 18 * 3600;
+    private static final long DAYS_0000_TO_1970 = 719528L;
+
+    private static final int[] DAYS_IN_MONTH = { 31, 28, 31, 30, 31, 30, 31, 31, 30, 31, 30, 31 };
+    private static final int[] FRACTION_SCALE = { 0, 100_000_000, 10_000_000, 1_000_000, 100_000, 10_000, 1_000, 100, 10, 1 };
+
+    private TemporalScanner() {
+    }
+
+    /**
+     * Parse the provided range as local date.
+     *
+     * @param s    the char sequence to read.
+     * @param from the start index, inclusive.
+     * @param to   the end index, exclusive.
+     * @return     a local date if the range has a common layout, null otherwise.
+     */
+    @Nullable
+    static LocalDate localDate(@NotNull CharSequence s, int from, int to) {
+        final long date = date(s, from, to);
+        return date == INVALID ? null : toLocalDate(date);
+    }
+
+    /**
+     * Parse the provided range as local time.
+     *
+     * @param s    the char sequence to read.
+     * @param from the start index, inclusive.
+     * @param to   the end index, exclusive.
+     * @return     a local time if the range has a common layout, null otherwise.
+     */
+    @Nullable
+    static LocalTime localTime(@NotNull CharSequence s, int from, int to) {
+        final long time = time(s, from, to);
+        return time == INVALID ? null : LocalTime.ofNanoOfDay(time);
+    }
+
+    /**
+     * Parse the provided range as local date time.
+     *
+     * @param s    the char sequence to read.
+     * @param from the start index, inclusive.
+     * @param to   the end index, exclusive.
+     * @return     a local date time if the range has a common layout, null otherwise.
+     */
+    @Nullable
+    static LocalDateTime localDateTime(@NotNull CharSequence s, int from, int to) {
+        if (to - from < 16 || s.charAt(from + 10) != 'T') {
+            return null;
+        }
+        final long date = date(s, from, from + 10);
+        if (date == INVALID) {
+            return null;
+        }
+        final long time = time(s, from + 11, to);
+        if (time == INVALID) {
+            return null;
+        }
+        return LocalDateTime.of(toLocalDate(date), LocalTime.ofNanoOfDay(time));
+    }
+
+    /**
+     * Parse the provided range as instant, the date time can be followed by any offset.
+     *
+     * @param s    the char sequence to read.
+     * @param from the start index, inclusive.
+     * @param to   the end index, exclusive.
+     * @return     an instant if the range has a common layout, null otherwise.
+     */
+    @Nullable
+    static Instant instant(@NotNull CharSequence s, int from, int to) {
+        final int index = offsetIndex(s, from, to);
+        if (index < 0 || s.charAt(from + 10) != 'T') {
+            return null;
+        }
+        final long date = date(s, from, from + 10);
+        if (date == INVALID) {
+            return null;
+        }
+        final long time = time(s, from + 11, index);
+        if (time == INVALID) {
+            return null;
+        }
+        final int offset = offset(s, index, to);
+        if (offset == INVALID_OFFSET) {
+            return null;
+        }
+        final long epochSecond = epochDay(date) * SECONDS_PER_DAY + time / NANOS_PER_SECOND - offset;
+        return Instant.ofEpochSecond(epochSecond, time % NANOS_PER_SECOND);
+    }
+
+    /**
+     * Parse the provided range as offset date time.
+     *
+     * @param s    the char sequence to read.
+     * @param from the start index, inclusive.
+     * @param to   the end index, exclusive.
+     * @return     an offset date time if the range has a common layout, null otherwise.
+     */
+    @Nullable
+    static OffsetDateTime offsetDateTime(@NotNull CharSequence s, int from, int to) {
+        final int index = offsetIndex(s, from, to);
+        if (index < 0) {
+            return null;
+        }
+        final LocalDateTime dateTime = localDateTime(s, from, index);
+        if (dateTime == null) {
+            return null;
+        }
+        final int offset = offset(s, index, to);
+        if (offset == INVALID_OFFSET) {
+            return null;
+        }
+        return OffsetDateTime.of(dateTime, ZoneOffset.ofTotalSeconds(offset));
+    }
+
+    /**
+     * Parse the provided range as zoned date time, the offset can be followed by a zone region
+     * enclosed in square brackets.
+     *
+     * @param s    the char sequence to read.
+     * @param from the start index, inclusive.
+     * @param to   the end index, exclusive.
+     * @return     a zoned date time if the range has a common layout, null otherwise.
+     */
+    @Nullable
+    static ZonedDateTime zonedDateTime(@NotNull CharSequence s, int from, int to) {
+        int end = to;
+        ZoneId zone = null;
+        if (to > from && s.charAt(to - 1) == ']') {
+            for (int i = to - 2; i > from; i--) {
+                if (s.charAt(i) == '[') {
+                    end = i;
+                    break;
+                }
+            }
+            if (end == to || end + 2 >= to) {
+                return null;
+            }
+            try {
+                zone = ZoneId.of(s.subSequence(end + 1, to - 1).toString());
+            } catch (DateTimeException e) {
+                return null;
+            }
+        }
+        final int index = offsetIndex(s, from, end);
+        if (index < 0) {
+            return null;
+        }
+        final LocalDateTime dateTime = localDateTime(s, from, index);
+        if (dateTime == null) {
+            return null;
+        }
+        final int offset = offset(s, index, end);
+        if (offset == INVALID_OFFSET) {
+            return null;
+        }
+        final ZoneOffset zoneOffset = ZoneOffset.ofTotalSeconds(offset);
+        if (zone == null) {
+            return ZonedDateTime.of(dateTime, zoneOffset);
+        }
+        return ZonedDateTime.ofInstant(dateTime, zoneOffset, zone);
+    }
+
+    /**
+     * Read the provided range with the layout {@code yyyy-MM-dd}.
+     *
+     * @param s    the char sequence to read.
+     * @param from the start index, inclusive.
+     * @param to   the end index, exclusive.
+     * @return     a packed date, {@link #INVALID} if the range is not a valid date.
+     */
+    static long date(@NotNull CharSequence s, int from, int to) {
+        if (to - from != 10 || s.charAt(from + 4) != '-' || s.charAt(from + 7) != '-') {
+            return INVALID;
+        }
+        final int year = digits(s, from, 4);
+        final int month = digits(s, from + 5, 2);
+        final int day = digits(s, from + 8, 2);
+        if (year < 0 || month < 1 || month > 12 || day < 1) {
+            return INVALID;
+        }
+        final boolean leap = isLeapYear(year);
+        if (day > DAYS_IN_MONTH[month - 1] && !(month == 2 && leap && day == 29)) {
+            return INVALID;
+        }
+        return (long) year << YEAR_SHIFT | month << MONTH_SHIFT | day;
+    }
+
+    /**
+     * Read the provided range with the layout {@code HH:mm[:ss[.SSSSSSSSS]]}.
+     *
+     * @param s    the char sequence to read.
+     * @param from the start index, inclusive.
+     * @param to   the end index, exclusive.
+     * @return     the nano of day, {@link #INVALID} if the range is not a valid time.
+     */
+    static long time(@NotNull CharSequence s, int from, int to) {
+        final int length = to - from;
+        if (length != 5 && length != 8 && (length < 10 || length > 18) || s.charAt(from + 2) != ':') {
+            return INVALID;
+        }
+        final int hour = digits(s, from, 2);
+        final int minute = digits(s, from + 3, 2);
+        if (hour < 0 || hour > 23 || minute < 0 || minute > 59) {
+            return INVALID;
+        }
+        long nanos = hour * NANOS_PER_HOUR + minute * NANOS_PER_MINUTE;
+        if (length == 5) {
+            return nanos;
+        }
+        if (s.charAt(from + 5) != ':') {
+            return INVALID;
+        }
+        final int second = digits(s, from + 6, 2);
+        if (second < 0 || second > 59) {
+            return INVALID;
+        }
+        nanos += second * NANOS_PER_SECOND;
+        if (length == 8) {
+            return nanos;
+        }
+        if (s.charAt(from + 8) != '.') {
+            return INVALID;
+        }
+        final int fraction = digits(s, from + 9, length - 9);
+        if (fraction < 0) {
+            return INVALID;
+        }
+        return nanos + (long) fraction * FRACTION_SCALE[length - 9];
+    }
+
+    /**
+     * Read the provided range as offset {@code Z}, {@code +HH:MM} or {@code +HH:MM:ss}.
+     *
+     * @param s    the char sequence to read.
+     * @param from the start index, inclusive.
+     * @param to   the end index, exclusive.
+     * @return     the total offset in seconds, {@link #INVALID_OFFSET} if the range is not a valid offset.
+     */
+    static int offset(@NotNull CharSequence s, int from, int to) {
+        final int length = to - from;
+        if (length == 1) {
+            return s.charAt(from) == 'Z' ? 0 : INVALID_OFFSET;
+        }
+        if (length != 6 && length != 9 || s.charAt(from + 3) != ':') {
+            return INVALID_OFFSET;
+        }
+        final char sign = s.charAt(from);
+        if (sign != '+' && sign != '-') {
+            return INVALID_OFFSET;
+        }
+        final int hours = digits(s, from + 1, 2);
+        final int minutes = digits(s, from + 4, 2);
+        if (hours < 0 || hours > 18 || minutes < 0 || minutes > 59) {
+            return INVALID_OFFSET;
+        }
+        int seconds = 0;
+        if (length == 9) {
+            if (s.charAt(from + 6) != ':') {
+                return INVALID_OFFSET;
+            }
+            seconds = digits(s, from + 7, 2);
+            if (seconds < 0 || seconds > 59) {
+                return INVALID_OFFSET;
+            }
+        }
+        final int total = hours * 3600 + minutes * 60 + seconds;
+        if (total > MAX_OFFSET) {
+            return INVALID_OFFSET;
+        }
+        return sign == '-' ? -total : total;
+    }
+
+    /**
+     * Find the index where the offset of a date time starts.
+     *
+     * @param s    the char sequence to read.
+     * @param from the start index of date time, inclusive.
+     * @param to   the end index, exclusive.
+     * @return     the offset index, -1 if the range has no offset.
+     */
+    private static int offsetIndex(@NotNull CharSequence s, int from, int to) {
+        // The shortest date time is yyyy-MM-ddTHH:mm, and time chars are digits, colons or a dot
+        for (int i = from + 16; i < to; i++) {
+            final char c = s.charAt(i);
+            if (c == 'Z' || c == '+' || c == '-') {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static int digits(@NotNull CharSequence s, int from, int count) {
+        int result = 0;
+        for (int i = from; i < from + count; i++) {
+            final int digit = s.charAt(i) - '0';
+            if (digit < 0 || digit > 9) {
+                return -1;
+            }
+            result = result * 10 + digit;
+        }
+        return result;
+    }
+
+    private static boolean isLeapYear(int year) {
+        return (year & 3) == 0 && (year % 100 != 0 || year % 400 == 0);
+    }
+
+    @NotNull
+    private static LocalDate toLocalDate(long date) {
+        return LocalDate.of((int) (date >>> YEAR_SHIFT), (int) (date >>> MONTH_SHIFT) & 0xF, (int) date & 0x1F);
+    }
+
+    private static long epochDay(long date) {
+        final long year = date >>> YEAR_SHIFT;
+        final int month = (int) (date >>> MONTH_SHIFT) & 0xF;
+        final int day = (int) date & 0x1F;
+        long total = 365 * year + (year + 3) / 4 - (year + 99) / 100 + (year + 399) / 400;
+        total += (367 * month - 362) / 12;
+        total += day - 1;
+        if (month > 2) {
+            total--;
+            if (!isLeapYear((int) year)) {
+                total--;
+            }
+        }
+        return total - DAYS_0000_TO_1970;
+    }
+}
@@ -1,6 +1,7 @@
 package com.saicone.types.parser;
 
 import com.saicone.types.AnyIterable;
+import com.saicone.types.ParseResult;
 import com.saicone.types.TypeParser;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
@@ -61,4 +62,47 @@ public class UrlParser implements TypeParser<URL> {
             throw new IllegalArgumentException(e);
         }
     }
+
+    @Override
+    public @NotNull ParseResult<URL> tryParse(@Nullable Object object) {
+        if (object instanceof CharSequence) {
+            final String spec = object.toString();
+            if (!hasProtocol(spec)) {
+                return ParseResult.failure();
+            }
+            try {
+                return ParseResult.of(new URL(spec));
+            } catch (MalformedURLException e) {
+                return ParseResult.failure(e);
+            }
+        }
+        return TypeParser.super.tryParse(object);
+    }
+
+    private static boolean hasProtocol(@NotNull String spec) {
+        // Same protocol detection as URL constructor without context
+        int start = 0;
+        int limit = spec.length();
+        while (limit > 0 && spec.charAt(limit - 1) <= ' ') {
+            limit--;
+        }
+        while (start < limit && spec.charAt(start) <= ' ') {
+            start++;
+        }
+        if (spec.regionMatches(true, start, "url:", 0, 4)) {
+            start += 4;
+        }
+        if (start >= limit || !Character.isLetter(spec.charAt(start))) {
+            return false;
+        }
+        for (int i = start + 1; i < limit; i++) {
+            final char c = spec.charAt(i);
+            if (c == ':') {
+                return true;
+            } else if (!Character.isLetterOrDigit(c) && c != '.' && c != '+' && c != '-') {
+                return false;
+            }
+        }
+        return false;
+    }
 }
@@ -1,21 +1,31 @@
 package com.saicone.types.parser;
 
 import com.saicone.types.AnyIterable;
+import com.saicone.types.ParseResult;
 import com.saicone.types.TypeParser;
 import com.saicone.types.Types;
 import com.saicone.types.iterator.ArrayIterator;
+import com.saicone.types.util.UuidInterner;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 import java.lang.reflect.Type;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.CharBuffer;
+import java.util.Arrays;
 import java.util.UUID;
 
 /**
  * Represents a parser that try to convert any object type to UUID.<br>
  * This parser is also compatible with 32-length string (without dashes),
- * 36-length string (with dashes), 2-length long array and 4-length int array.<br>
+ * 36-length string (with dashes), 2-length long array, 4-length int array
+ * and 16-length byte array or byte buffer with the binary representation.<br>
  * Take in count that any array type is accepted, and it's content
- * will be parsed using {@link Types#INTEGER} or {@link Types#LONG}.
+ * will be parsed using {@link Types#INTEGER} or {@link Types#LONG}.<br>
+ * String representations are strictly validated, only ASCII hex digits
+ * and dashes on its canonical positions are accepted.
+ * Parsed UUIDs can be optionally interned, see {@link #UuidParser(int)}.
  *
  * @author Rubenicos
  */
@@ -26,6 +36,50 @@ public class UuidParser implements TypeParser<UUID> {
      */
     public static final UuidParser INSTANCE = new UuidParser();
 
+    // ASCII hex digit values, -1 for any other char
+    private static final byte[] HEX = new byte[128];
+
+    static {
+        Arrays.fill(HEX, (byte) -1);
+        for (int i = 0; i < 10; i++) {
+            HEX['0' + i] = (byte) i;
+        }
+        for (int i = 0; i < 6; i++) {
+            HEX['a' + i] = (byte) (10 + i);
+            HEX['A' + i] = (byte) (10 + i);
+        }
+    }
+
+    private final UuidInterner interner;
+
+    /**
+     * Constructs a UUID parser without interning.
+     */
+    public UuidParser() {
+        this(0);
+    }
+
+    /**
+     * Constructs a UUID parser that intern the parsed UUIDs, so repeated UUIDs
+     * are parsed into the same object instead of creating a new one.
+     *
+     * @param internSize the maximum number of interned UUIDs, zero to disable interning.
+     * @see UuidInterner
+     */
+    public UuidParser(int internSize) {
+        this.interner = internSize > 0 ? new UuidInterner(internSize) : null;
+    }
+
+    /**
+     * Get the table of interned UUIDs.
+     *
+     * @return a UUID interner, null if this parser doesn't intern UUIDs.
+     */
+    @Nullable
+    public UuidInterner getInterner() {
+        return interner;
+    }
+
     @Override
     public @Nullable Type getType() {
         return UUID.class;
@@ -33,21 +87,43 @@ public class UuidParser implements TypeParser<UUID> {
 
     @Override
     public @Nullable UUID parse(@NotNull Object object) {
-        final Object single = AnyIterable.of(object).single();
+        if (object instanceof UUID) {
+            return (UUID) object;
+        } else if (object instanceof String) {
+            return parseUuid((String) object);
+        }
+        final Object single = object instanceof Iterable ? AnyIterable.of(object).single() : object;
         if (single == null) {
             return null;
         }
 
         if (single instanceof UUID) {
             return (UUID) single;
+        } else if (single instanceof int[] && ((int[]) single).length == 4) {
+            return parseUuid((int[]) single);
+        } else if (single instanceof long[] && ((long[]) single).length == 2) {
+            return parseUuid((long[]) single);
+        } else if (single instanceof byte[] && ((byte[]) single).length == 16) {
+            return parseBinary((byte[]) single, 0);
+        } else if (single instanceof ByteBuffer) {
+            return parseUuid((ByteBuffer) single);
         } else if (single instanceof Object[] || single.getClass().isArray()) {
             return parseUuid(ArrayIterator.of(single));
-        } else if (single instanceof String) {
-            return parseUuid((String) single);
+        } else if (single instanceof CharSequence) {
+            return parseUuid((CharSequence) single);
         }
         return null;
     }
 
+    @Override
+    public @NotNull ParseResult<UUID> tryParse(@Nullable Object object) {
+        if (object instanceof CharSequence) {
+            final UUID uuid = tryParseUuid((CharSequence) object);
+            return uuid == null ? ParseResult.failure() : ParseResult.of(uuid);
+        }
+        return TypeParser.super.tryParse(object);
+    }
+
     /**
      * Parses the given array iterator as UUID.<br>
      * Accepts 2-length long array representation of mostSigBits-leastSigBits,
@@ -65,27 +141,105 @@ public class UuidParser implements TypeParser<UUID> {
             if (mostSigBits == null || leastSigBits == null) {
                 return null;
             }
-            return new UUID(mostSigBits, leastSigBits);
+            return create(mostSigBits, leastSigBits);
         } else if (size == 4) {
-            StringBuilder builder = new StringBuilder(36);
-            while (iterator.hasNext()) {
-                final Integer i = Types.INTEGER.parse(iterator.next());
-                if (i == null) {
-                    return null;
-                }
-                String hex = Integer.toHexString(i);
-                builder.append(new String(new char[8 - hex.length()]).replace('\0', '0')).append(hex);
-            }
-            if (builder.length() == 32) {
-                builder.insert(20, '-').insert(16, '-').insert(12, '-').insert(8, '-');
-                return UUID.fromString(builder.toString());
-            } else {
-                throw new IllegalArgumentException("The final converted UUID '" + builder + "' isn't a 32-length string");
+            final Integer i1 = Types.INTEGER.parse(iterator.next());
+            final Integer i2 = Types.INTEGER.parse(iterator.next());
+            final Integer i3 = Types.INTEGER.parse(iterator.next());
+            final Integer i4 = Types.INTEGER.parse(iterator.next());
+            if (i1 == null || i2 == null || i3 == null || i4 == null) {
+                return null;
             }
+            return uuid(i1, i2, i3, i4);
         }
         return null;
     }
 
+    /**
+     * Parses the given int array as UUID.<br>
+     * Accepts 4-length int array, ordered from most to least significant bits.
+     *
+     * @param array the array to parse.
+     * @return      a converted UUID or null if the array is not valid.
+     */
+    @Nullable
+    public UUID parseUuid(@NotNull int[] array) {
+        if (array.length != 4) {
+            return null;
+        }
+        return uuid(array[0], array[1], array[2], array[3]);
+    }
+
+    /**
+     * Parses the given long array as UUID.<br>
+     * Accepts 2-length long array representation of mostSigBits-leastSigBits.
+     *
+     * @param array the array to parse.
+     * @return      a converted UUID or null if the array is not valid.
+     */
+    @Nullable
+    public UUID parseUuid(@NotNull long[] array) {
+        if (array.length != 2) {
+            return null;
+        }
+        return create(array[0], array[1]);
+    }
+
+    /**
+     * Parses the remaining bytes of given byte buffer as UUID.<br>
+     * Accepts 16 remaining bytes with the binary representation, or ASCII window
+     * with 36-length (with dashes) or 32-length (without dashes), the buffer
+     * position is not modified.
+     *
+     * @param buf the byte buffer to parse.
+     * @return    a converted UUID or null if the remaining bytes are not valid.
+     */
+    @Nullable
+    public UUID parseUuid(@NotNull ByteBuffer buf) {
+        if (buf.remaining() == 16) {
+            return parseBinary(buf, buf.position());
+        }
+        return parseUuid(buf, buf.position(), buf.remaining());
+    }
+
+    /**
+     * Parses 16 bytes from given byte array as binary UUID.<br>
+     * The bytes are read in big-endian order, from most to least significant bits.
+     *
+     * @param buf the byte array to read.
+     * @param off the index of the first byte to read.
+     * @return    a converted UUID.
+     * @throws IndexOutOfBoundsException if the array doesn't have 16 bytes from provided index.
+     */
+    @NotNull
+    public UUID parseBinary(@NotNull byte[] buf, int off) throws IndexOutOfBoundsException {
+        if (off < 0 || off > buf.length - 16) {
+            throw new IndexOutOfBoundsException("Cannot read 16 bytes from index " + off + " of " + buf.length + "-length array");
+        }
+        return create(bytesToLong(buf, off), bytesToLong(buf, off + 8));
+    }
+
+    /**
+     * Parses 16 bytes from given byte buffer as binary UUID.<br>
+     * The bytes are read in big-endian order, from most to least significant bits,
+     * without taking in count the buffer order and without modifying the buffer position.
+     *
+     * @param buf the byte buffer to read.
+     * @param off the absolute index of the first byte to read.
+     * @return    a converted UUID.
+     * @throws IndexOutOfBoundsException if the buffer doesn't have 16 bytes from provided index.
+     */
+    @NotNull
+    public UUID parseBinary(@NotNull ByteBuffer buf, int off) throws IndexOutOfBoundsException {
+        long mostSigBits = buf.getLong(off);
+        long leastSigBits = buf.getLong(off + 8);
+        if (buf.order() == ByteOrder.LITTLE_ENDIAN) {
+            mostSigBits = Long.reverseBytes(mostSigBits);
+            leastSigBits = Long.reverseBytes(leastSigBits);
+        }
+        return create(mostSigBits, leastSigBits);
+    }
+
     /**
      * Parses the given string as UUID.<br>
      * Accepts 36-length string (with dashes) and 32-length string (without dashes).
@@ -95,11 +249,123 @@ public class UuidParser implements TypeParser<UUID> {
      */
     @Nullable
     public UUID parseUuid(@NotNull String s) {
+        return parseUuid((CharSequence) s);
+    }
+
+    /**
+     * Parses the given char sequence as UUID.<br>
+     * Accepts 36-length char sequence (with dashes) and 32-length char sequence (without dashes).
+     *
+     * @param s the char sequence to parse.
+     * @return  a converted UUID or null if the char sequence doesn't have a valid length.
+     * @throws IllegalArgumentException if the char sequence has a valid length but an invalid format.
+     */
+    @Nullable
+    public UUID parseUuid(@NotNull CharSequence s) throws IllegalArgumentException {
+        if (s.length() != 36 && s.length() != 32) {
+            return null;
+        }
+        final UUID uuid = tryParseUuid(s);
+        if (uuid == null) {
+            throw new IllegalArgumentException("Invalid UUID string: " + s);
+        }
+        return uuid;
+    }
+
+    /**
+     * Parses the given char array window as UUID.<br>
+     * Accepts 36-length window (with dashes) and 32-length window (without dashes).
+     *
+     * @param buf the char array to parse.
+     * @param off the index of the first char to parse.
+     * @param len the number of chars to parse.
+     * @return    a converted UUID or null if the char array window is not valid.
+     */
+    @Nullable
+    public UUID parseUuid(@NotNull char[] buf, int off, int len) {
+        return parseUuid(CharBuffer.wrap(buf, off, len));
+    }
+
+    /**
+     * Parses the given ASCII byte array window as UUID.<br>
+     * Accepts 36-length window (with dashes) and 32-length window (without dashes),
+     * bytes are read as chars without any charset decoding.
+     *
+     * @param buf the byte array to parse.
+     * @param off the index of the first byte to parse.
+     * @param len the number of bytes to parse.
+     * @return    a converted UUID or null if the byte array window is not valid.
+     */
+    @Nullable
+    public UUID parseUuid(@NotNull byte[] buf, int off, int len) {
+        return parseUuid(new AsciiSequence(buf, off, len));
+    }
+
+    /**
+     * Parses the given ASCII byte buffer window as UUID.<br>
+     * Accepts 36-length window (with dashes) and 32-length window (without dashes),
+     * bytes are read as chars without any charset decoding and the buffer position is not modified.
+     *
+     * @param buf the byte buffer to parse.
+     * @param off the absolute index of the first byte to parse.
+     * @param len the number of bytes to parse.
+     * @return    a converted UUID or null if the byte buffer window is not valid.
+     */
+    @Nullable
+    public UUID parseUuid(@NotNull ByteBuffer buf, int off, int len) {
+        return parseUuid(new AsciiSequence(buf, off, len));
+    }
+
+    @Nullable
+    private UUID tryParseUuid(@NotNull CharSequence s) {
         if (s.length() == 36) {
-            return UUID.fromString(s);
+            if (s.charAt(8) != '-' || s.charAt(13) != '-' || s.charAt(18) != '-' || s.charAt(23) != '-') {
+                return null;
+            }
+            return uuid(hex(s, 0, 8), hex(s, 9, 13), hex(s, 14, 18), hex(s, 19, 23), hex(s, 24, 36));
         } else if (s.length() == 32) {
-            return UUID.fromString(new StringBuilder(s).insert(20, '-').insert(16, '-').insert(12, '-').insert(8, '-').toString());
+            return uuid(hex(s, 0, 8), hex(s, 8, 12), hex(s, 12, 16), hex(s, 16, 20), hex(s, 20, 32));
         }
         return null;
     }
+
+    private static long hex(@NotNull CharSequence s, int from, int to) {
+        long result = 0;
+        int invalid = 0;
+        for (int i = from; i < to; i++) {
+            final char c = s.charAt(i);
+            // Any char outside ASCII range is mapped to an invalid value
+            final int digit = c < 128 ? HEX[c] : -1;
+            invalid |= digit;
+            result = result << 4 | (digit & 0xF);
+        }
+        return invalid < 0 ? -1 : result;
+    }
+
+    private static long bytesToLong(@NotNull byte[] buf, int off) {
+        long result = 0;
+        for (int i = off; i < off + 8; i++) {
+            result = result << 8 | (buf[i] & 0xFF);
+        }
+        return result;
+    }
+
+    @Nullable
+    private UUID uuid(long time, long mid, long high, long sequence, long node) {
+        // Any invalid component is represented as -1
+        if ((time | mid | high | sequence | node) < 0) {
+            return null;
+        }
+        return create(time << 32 | mid << 16 | high, sequence << 48 | node);
+    }
+
+    @NotNull
+    private UUID uuid(int i1, int i2, int i3, int i4) {
+        return create((long) i1 << 32 | (i2 & 0xFFFFFFFFL), (long) i3 << 32 | (i4 & 0xFFFFFFFFL));
+    }
+
+    @NotNull
+    private UUID create(long mostSigBits, long leastSigBits) {
+        return interner == null ? new UUID(mostSigBits, leastSigBits) : interner.intern(mostSigBits, leastSigBits);
+    }
 }
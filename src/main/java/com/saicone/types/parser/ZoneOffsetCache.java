@@ -0,0 +1,153 @@
+package com.saicone.types.parser;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.time.DateTimeException;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.zone.ZoneOffsetTransition;
+import java.time.zone.ZoneRules;
+import java.util.Arrays;
+
+/**
+ * Cache of zone offset transitions to resolve the offset of epoch seconds without
+ * creating intermediate objects.<br>
+ * The transitions of a time window around the last requested epoch second are saved
+ * as sorted arrays, so any epoch second inside that window is resolved with a binary
+ * search, and the window is only computed again from zone rules when an epoch second
+ * outside the window is requested.
+ *
+ * @author Rubenicos
+ */
+final class ZoneOffsetCache {
+
+    // Time window saved around the requested epoch second, about 1 year before and 4 years after
+    private static final long WINDOW_BEFORE = 1L << 25;
+    private static final long WINDOW_AFTER = 1L << 27;
+    private static final long MIN_SECOND = Instant.MIN.getEpochSecond();
+    private static final long MAX_SECOND = Instant.MAX.getEpochSecond();
+
+    private static volatile ZoneOffsetCache SYSTEM_DEFAULT;
+
+    private final ZoneId zone;
+    private final ZoneRules rules;
+    private final ZoneOffset fixedOffset;
+    private volatile Window window;
+
+    /**
+     * Get an offset cache for the current system default zone.<br>
+     * The last used cache is reused while the system default zone doesn't change.
+     *
+     * @return an offset cache.
+     */
+    @NotNull
+    static ZoneOffsetCache systemDefault() {
+        final ZoneId zone = ZoneId.systemDefault();
+        ZoneOffsetCache cache = SYSTEM_DEFAULT;
+        if (cache == null || !cache.zone.equals(zone)) {
+            cache = new ZoneOffsetCache(zone);
+            SYSTEM_DEFAULT = cache;
+        }
+        return cache;
+    }
+
+    /**
+     * Constructs an offset cache for the provided zone.
+     *
+     * @param zone the zone to resolve offsets.
+     */
+    ZoneOffsetCache(@NotNull ZoneId zone) {
+        this.zone = zone;
+        this.rules = zone.getRules();
+        this.fixedOffset = rules.isFixedOffset() ? rules.getOffset(Instant.EPOCH) : null;
+    }
+
+    /**
+     * Get the zone that this cache resolve.
+     *
+     * @return a zone id.
+     */
+    @NotNull
+    ZoneId getZone() {
+        return zone;
+    }
+
+    /**
+     * Get the offset of the provided epoch second at this cache zone.
+     *
+     * @param epochSecond the seconds from 1970-01-01T00:00:00Z.
+     * @return            a zone offset.
+     * @throws DateTimeException if the epoch second exceeds the supported range.
+     */
+    @NotNull
+    ZoneOffset getOffset(long epochSecond) throws DateTimeException {
+        if (epochSecond < MIN_SECOND || epochSecond > MAX_SECOND) {
+            throw new DateTimeException("Instant exceeds minimum or maximum instant");
+        }
+        if (fixedOffset != null) {
+            return fixedOffset;
+        }
+        Window window = this.window;
+        if (window == null || epochSecond < window.start || epochSecond >= window.end) {
+            window = computeWindow(epochSecond);
+            this.window = window;
+        }
+        return window.getOffset(epochSecond);
+    }
+
+    @NotNull
+    private Window computeWindow(long epochSecond) {
+        final long start = Math.max(MIN_SECOND, epochSecond - WINDOW_BEFORE);
+        final long end = Math.min(MAX_SECOND + 1, epochSecond + WINDOW_AFTER);
+
+        long[] transitions = new long[8];
+        ZoneOffset[] offsets = new ZoneOffset[8];
+        transitions[0] = start;
+        offsets[0] = rules.getOffset(Instant.ofEpochSecond(start));
+        int size = 1;
+
+        ZoneOffsetTransition transition = rules.nextTransition(Instant.ofEpochSecond(start));
+        while (transition != null && transition.toEpochSecond() < end) {
+            if (size == transitions.length) {
+                transitions = Arrays.copyOf(transitions, size << 1);
+                offsets = Arrays.copyOf(offsets, size << 1);
+            }
+            transitions[size] = transition.toEpochSecond();
+            offsets[size] = transition.getOffsetAfter();
+            size++;
+            transition = rules.nextTransition(transition.getInstant());
+        }
+        return new Window(start, end, Arrays.copyOf(transitions, size), Arrays.copyOf(offsets, size));
+    }
+
+    @Override
+    public String toString() {
+        return "ZoneOffsetCache{" + zone + "}";
+    }
+
+    private static final class Window {
+
+        private final long start;
+        private final long end;
+        private final long[] transitions;
+        private final ZoneOffset[] offsets;
+
+        private Window(long start, long end, long[] transitions, ZoneOffset[] offsets) {
+            this.start = start;
+            this.end = end;
+            this.transitions = transitions;
+            this.offsets = offsets;
+        }
+
+        @NotNull
+        private ZoneOffset getOffset(long epochSecond) {
+            if (transitions.length == 1) {
+                return offsets[0];
+            }
+            final int index = Arrays.binarySearch(transitions, epochSecond);
+            // Any transition is the first second of its offset
+            return offsets[index < 0 ? -index - 2 : index];
+        }
+    }
+}
@@ -0,0 +1,141 @@
+package com.saicone.types.parser;
+
+import com.saicone.types.iterator.ArrayIterator;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.lang.reflect.Type;
+import java.time.ZoneId;
+import java.time.temporal.Temporal;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Temporal parser that convert any Number as epoch timestamp at a fixed zone.<br>
+ * The Number is interpreted with the provided epoch unit and converted using arithmetic only,
+ * the zone offset of every timestamp is resolved from cached zone transitions, so the
+ * conversion doesn't read the system clock and the same timestamp always produce the same result,
+ * even across daylight saving transitions.<br>
+ * Any other object type is parsed by the delegated temporal parser.
+ *
+ * @author Rubenicos
+ *
+ * @param <T> the type result.
+ */
+public class ZonedTemporalParser<T extends Temporal> implements TemporalParser<T> {
+
+    private static final long NANOS_PER_SECOND = 1_000_000_000L;
+
+    private final TemporalParser<T> parser;
+    private final ZoneOffsetCache offsetCache;
+    private final TimeUnit epochUnit;
+    // Units per second for units shorter than a second, otherwise zero
+    private final long unitsPerSecond;
+    private final int nanosPerUnit;
+    private final long secondsPerUnit;
+
+    /**
+     * Constructs a zoned temporal parser.
+     *
+     * @param parser    the temporal parser to delegate any non-number object.
+     * @param zone      the zone to convert epoch timestamps.
+     * @param epochUnit the unit of epoch timestamps.
+     */
+    public ZonedTemporalParser(@NotNull TemporalParser<T> parser, @NotNull ZoneId zone, @NotNull TimeUnit epochUnit) {
+        this.parser = parser instanceof ZonedTemporalParser ? ((ZonedTemporalParser<T>) parser).getParser() : parser;
+        this.offsetCache = new ZoneOffsetCache(zone);
+        this.epochUnit = epochUnit;
+        if (epochUnit.compareTo(TimeUnit.SECONDS) < 0) {
+            this.unitsPerSecond = epochUnit.convert(1, TimeUnit.SECONDS);
+            this.nanosPerUnit = (int) epochUnit.toNanos(1);
+            this.secondsPerUnit = 0;
+        } else {
+            this.unitsPerSecond = 0;
+            this.nanosPerUnit = 0;
+            this.secondsPerUnit = epochUnit.toSeconds(1);
+        }
+    }
+
+    /**
+     * Get the temporal parser that parse any non-number object.
+     *
+     * @return a temporal parser.
+     */
+    @NotNull
+    public TemporalParser<T> getParser() {
+        return parser;
+    }
+
+    /**
+     * Get the zone used to convert epoch timestamps.
+     *
+     * @return a zone id.
+     */
+    @NotNull
+    public ZoneId getZone() {
+        return offsetCache.getZone();
+    }
+
+    /**
+     * Get the unit of epoch timestamps.
+     *
+     * @return a time unit.
+     */
+    @NotNull
+    public TimeUnit getEpochUnit() {
+        return epochUnit;
+    }
+
+    @Override
+    public @Nullable Type getType() {
+        return parser.getType();
+    }
+
+    @Override
+    public @NotNull T parseTemporal(@NotNull Number number) {
+        return parseEpoch(number.longValue());
+    }
+
+    /**
+     * Parses the given epoch timestamp as required temporal type.
+     *
+     * @param epoch the timestamp from 1970-01-01T00:00:00Z, in the epoch unit of this parser.
+     * @return      a converted temporal type.
+     */
+    @NotNull
+    public T parseEpoch(long epoch) {
+        final long epochSecond;
+        final int nanoOfSecond;
+        if (secondsPerUnit == 0) {
+            epochSecond = Math.floorDiv(epoch, unitsPerSecond);
+            nanoOfSecond = (int) Math.floorMod(epoch, unitsPerSecond) * nanosPerUnit;
+        } else {
+            epochSecond = Math.multiplyExact(epoch, secondsPerUnit);
+            nanoOfSecond = 0;
+        }
+        return parser.parseEpoch(epochSecond, nanoOfSecond, offsetCache.getOffset(epochSecond), offsetCache.getZone());
+    }
+
+    @Override
+    public @Nullable T parseTemporal(@NotNull ArrayIterator<Integer> iterator) {
+        return parser.parseTemporal(iterator);
+    }
+
+    @Override
+    public @NotNull T parseTemporal(@NotNull String s) {
+        return parser.parseTemporal(s);
+    }
+
+    @Override
+    public @NotNull T parseTemporal(@NotNull CharSequence s) {
+        return parser.parseTemporal(s);
+    }
+
+    @Override
+    public String toString() {
+        return "ZonedTemporalParser{" +
+                "type=" + getType() +
+                ", zone=" + getZone() +
+                ", epochUnit=" + epochUnit +
+                '}';
+    }
+}
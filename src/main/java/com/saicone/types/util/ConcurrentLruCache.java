@@ -0,0 +1,204 @@
+package com.saicone.types.util;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * Thread-safe cache with bounded size and least recently used eviction.<br>
+ * Lookups are lock-free, every entry saves its last access time, and when the cache exceeds
+ * its maximum size the least recently accessed entries are evicted.<br>
+ * Keys are compared using {@link Object#equals(Object)}, so any key must be the actual
+ * identity of cached value instead of a hash code.
+ *
+ * @author Rubenicos
+ *
+ * @param <K> the type of keys.
+ * @param <V> the type of cached values.
+ */
+public class ConcurrentLruCache<K, V> {
+
+    private final int maximumSize;
+    private final Map<K, Node<V>> map;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    /**
+     * Constructs a cache with the provided maximum size.
+     *
+     * @param maximumSize the maximum number of entries.
+     */
+    public ConcurrentLruCache(int maximumSize) {
+        if (maximumSize < 1) {
+            throw new IllegalArgumentException("The maximum size must be positive");
+        }
+        this.maximumSize = maximumSize;
+        this.map = new ConcurrentHashMap<>(Math.min(maximumSize, 64));
+    }
+
+    /**
+     * Get the maximum number of entries of this cache.
+     *
+     * @return a maximum size.
+     */
+    public int getMaximumSize() {
+        return maximumSize;
+    }
+
+    /**
+     * Get the number of times a lookup found a cached value.
+     *
+     * @return a hit count.
+     */
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    /**
+     * Get the number of times a lookup didn't find a cached value.
+     *
+     * @return a miss count.
+     */
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    /**
+     * Get the number of entries that were evicted due size limit.
+     *
+     * @return an eviction count.
+     */
+    public long getEvictionCount() {
+        return evictions.sum();
+    }
+
+    /**
+     * Get the current number of entries.
+     *
+     * @return a cache size.
+     */
+    public int size() {
+        return map.size();
+    }
+
+    /**
+     * Get the value associated with the provided key.
+     *
+     * @param key the key to find.
+     * @return    a cached value if present, null otherwise.
+     */
+    @Nullable
+    public V get(@NotNull K key) {
+        final Node<V> node = map.get(key);
+        if (node == null) {
+            misses.increment();
+            return null;
+        }
+        hits.increment();
+        node.access = System.nanoTime();
+        return node.value;
+    }
+
+    /**
+     * Get the value associated with the provided key, or compute it if the key is not cached.<br>
+     * The mapping function is called outside any lock, so it can use this cache recursively, but
+     * concurrent callers may compute the same value, in that case only the first cached value is returned.
+     *
+     * @param key      the key to find.
+     * @param function the function to compute a value.
+     * @return         the current (existing or computed) value associated with the key, null if the computed value is null.
+     */
+    @Nullable
+    public V computeIfAbsent(@NotNull K key, @NotNull Function<? super K, ? extends V> function) {
+        final V cached = get(key);
+        if (cached != null) {
+            return cached;
+        }
+        final V value = function.apply(key);
+        if (value == null) {
+            return null;
+        }
+        final Node<V> previous = map.putIfAbsent(key, new Node<>(value));
+        if (previous != null) {
+            return previous.value;
+        }
+        if (map.size() > maximumSize) {
+            evict();
+        }
+        return value;
+    }
+
+    /**
+     * Associate the provided value with the provided key.
+     *
+     * @param key   the key to associate.
+     * @param value the value to cache.
+     * @return      the previous value if any, null otherwise.
+     */
+    @Nullable
+    public V put(@NotNull K key, @NotNull V value) {
+        final Node<V> previous = map.put(key, new Node<>(value));
+        if (map.size() > maximumSize) {
+            evict();
+        }
+        return previous == null ? null : previous.value;
+    }
+
+    /**
+     * Remove the value associated with the provided key.
+     *
+     * @param key the key to remove.
+     * @return    the removed value if any, null otherwise.
+     */
+    @Nullable
+    public V remove(@NotNull K key) {
+        final Node<V> node = map.remove(key);
+        return node == null ? null : node.value;
+    }
+
+    /**
+     * Remove every cached entry, without resetting statistic counters.
+     */
+    public void clear() {
+        map.clear();
+    }
+
+    private synchronized void evict() {
+        while (map.size() > maximumSize) {
+            K eldestKey = null;
+            Node<V> eldest = null;
+            for (Map.Entry<K, Node<V>> entry : map.entrySet()) {
+                if (eldest == null || entry.getValue().access - eldest.access < 0) {
+                    eldestKey = entry.getKey();
+                    eldest = entry.getValue();
+                }
+            }
+            if (eldest == null) {
+                return;
+            }
+            if (map.remove(eldestKey, eldest)) {
+                evictions.increment();
+            }
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "ConcurrentLruCache{size=" + size() + ", maximumSize=" + maximumSize + ", hits=" + getHitCount() + ", misses=" + getMissCount() + ", evictions=" + getEvictionCount() + "}";
+    }
+
+    private static final class Node<V> {
+
+        private final V value;
+        private volatile long access = System.nanoTime();
+
+        private Node(@NotNull V value) {
+            this.value = value;
+        }
+    }
+}
@@ -0,0 +1,200 @@
+package com.saicone.types.util;
+
+import com.saicone.types.ParseListener;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Parse listener that aggregates metrics by target type.<br>
+ * Every type collects the number of parsed objects, failures by exception type, returned default values
+ * and a latency histogram with power of two buckets in nanoseconds, where the bucket {@code n} counts
+ * the operations that took less than {@code 2^n} nanoseconds.<br>
+ * All the counters are updated without locks, so this listener can be registered globally with
+ * {@link com.saicone.types.Types#addListener(ParseListener)}.
+ *
+ * @author Rubenicos
+ */
+public class ParseMetrics implements ParseListener {
+
+    private static final Object UNKNOWN_TYPE = Object.class;
+
+    private final Map<Object, Stats> stats = new ConcurrentHashMap<>();
+
+    /**
+     * Get the metrics of the provided type.
+     *
+     * @param type the target type.
+     * @return     the type metrics if any operation was reported, null otherwise.
+     */
+    @Nullable
+    public Stats get(@Nullable Object type) {
+        return stats.get(type == null ? UNKNOWN_TYPE : type);
+    }
+
+    /**
+     * Get the metrics of every reported type.<br>
+     * Operations without a known type are saved as {@code Object.class}.
+     *
+     * @return an unmodifiable map view of type metrics.
+     */
+    @NotNull
+    public Map<Object, Stats> getAll() {
+        return Collections.unmodifiableMap(stats);
+    }
+
+    /**
+     * Remove all the collected metrics.
+     */
+    public void reset() {
+        stats.clear();
+    }
+
+    @NotNull
+    private Stats stats(@Nullable Object type) {
+        final Object key = type == null ? UNKNOWN_TYPE : type;
+        final Stats current = stats.get(key);
+        if (current != null) {
+            return current;
+        }
+        return stats.computeIfAbsent(key, k -> new Stats());
+    }
+
+    @Override
+    public void onParse(@Nullable Object type, @Nullable Object object, @Nullable Object result, long nanos) {
+        final Stats stats = stats(type);
+        stats.count.increment();
+        stats.record(nanos);
+    }
+
+    @Override
+    public void onFailure(@Nullable Object type, @Nullable Object object, @Nullable Throwable error, long nanos) {
+        final Stats stats = stats(type);
+        stats.failures.increment();
+        stats.record(nanos);
+        if (error != null) {
+            stats.errors.computeIfAbsent(error.getClass(), k -> new LongAdder()).increment();
+        }
+    }
+
+    @Override
+    public void onDefault(@Nullable Object type, @Nullable Object object, @Nullable Object def) {
+        stats(type).defaults.increment();
+    }
+
+    @Override
+    public String toString() {
+        return "ParseMetrics" + stats;
+    }
+
+    /**
+     * Metrics of a single target type.
+     */
+    public static class Stats {
+
+        private static final int BUCKETS = 64;
+
+        private final LongAdder count = new LongAdder();
+        private final LongAdder failures = new LongAdder();
+        private final LongAdder defaults = new LongAdder();
+        private final LongAdder totalNanos = new LongAdder();
+        private final AtomicLongArray histogram = new AtomicLongArray(BUCKETS);
+        private final Map<Class<? extends Throwable>, LongAdder> errors = new ConcurrentHashMap<>();
+
+        /**
+         * Constructs an empty type metrics.
+         */
+        public Stats() {
+        }
+
+        private void record(long nanos) {
+            totalNanos.add(nanos);
+            histogram.incrementAndGet(nanos <= 0 ? 0 : Math.min(BUCKETS - 1, BUCKETS - Long.numberOfLeadingZeros(nanos)));
+        }
+
+        /**
+         * Get the number of successful parse operations.
+         *
+         * @return a parse count.
+         */
+        public long getCount() {
+            return count.sum();
+        }
+
+        /**
+         * Get the number of failed parse operations.
+         *
+         * @return a failure count.
+         */
+        public long getFailureCount() {
+            return failures.sum();
+        }
+
+        /**
+         * Get the number of failed parse operations caused by the provided exception type.
+         *
+         * @param type the exception class type.
+         * @return     a failure count.
+         */
+        public long getFailureCount(@NotNull Class<? extends Throwable> type) {
+            final LongAdder adder = errors.get(type);
+            return adder == null ? 0 : adder.sum();
+        }
+
+        /**
+         * Get the number of failed parse operations grouped by exception type.
+         *
+         * @return a map of exception types and failure counts.
+         */
+        @NotNull
+        public Map<Class<? extends Throwable>, Long> getFailures() {
+            final Map<Class<? extends Throwable>, Long> map = new HashMap<>();
+            for (Map.Entry<Class<? extends Throwable>, LongAdder> entry : errors.entrySet()) {
+                map.put(entry.getKey(), entry.getValue().sum());
+            }
+            return map;
+        }
+
+        /**
+         * Get the number of times a default value was returned.
+         *
+         * @return a default count.
+         */
+        public long getDefaultCount() {
+            return defaults.sum();
+        }
+
+        /**
+         * Get the total elapsed time of parse operations, including failures.
+         *
+         * @return a time in nanoseconds.
+         */
+        public long getTotalNanos() {
+            return totalNanos.sum();
+        }
+
+        /**
+         * Get the latency histogram, where every index is a power of two bucket in nanoseconds.
+         *
+         * @return a copy of histogram counts.
+         */
+        public long[] getHistogram() {
+            final long[] array = new long[BUCKETS];
+            for (int i = 0; i < BUCKETS; i++) {
+                array[i] = histogram.get(i);
+            }
+            return array;
+        }
+
+        @Override
+        public String toString() {
+            return "{count=" + getCount() + ", failures=" + getFailureCount() + ", defaults=" + getDefaultCount() + ", totalNanos=" + getTotalNanos() + "}";
+        }
+    }
+}
@@ -0,0 +1,140 @@
+package com.saicone.types.util;
+
+import com.saicone.types.AnyIterable;
+import com.saicone.types.TypeParser;
+import com.saicone.types.iterator.ArrayIterator;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Represents a read-only {@link List} view of any iterable object, where every element is parsed on access.<br>
+ * Lists with fast random access and arrays are used directly as backing source, any other object
+ * is copied into a list of unparsed elements.<br>
+ * Memoized views keep every parsed element with volatile semantics, so an index is parsed once at most
+ * (or more times if it's concurrently accessed for the first time) and any thread see a fully parsed element.
+ *
+ * @author Rubenicos
+ *
+ * @param <E> the type of elements in the list.
+ */
+public class ParsedList<E> extends AbstractList<E> implements RandomAccess {
+
+    private static final Object UNSET = new Object();
+
+    private final Object source;
+    private final TypeParser<E> parser;
+    private final AtomicReferenceArray<Object> cache;
+
+    /**
+     * Constructs a list view of the provided object.
+     *
+     * @param object  the object to represent as a list.
+     * @param parser  the type parser to parse elements.
+     * @param memoize true to keep parsed elements.
+     */
+    public ParsedList(@Nullable Object object, @NotNull TypeParser<E> parser, boolean memoize) {
+        this.source = source(object);
+        this.parser = parser;
+        if (memoize) {
+            final Object[] array = new Object[size()];
+            Arrays.fill(array, UNSET);
+            this.cache = new AtomicReferenceArray<>(array);
+        } else {
+            this.cache = null;
+        }
+    }
+
+    @NotNull
+    private static Object source(@Nullable Object object) {
+        if (object == null) {
+            return Collections.emptyList();
+        }
+        final Object value = object instanceof AnyIterable ? ((AnyIterable<?>) object).getValue() : object;
+        if (value == null) {
+            return Collections.emptyList();
+        } else if ((value instanceof List && value instanceof RandomAccess) || value.getClass().isArray()) {
+            return value;
+        }
+        final List<Object> list = new ArrayList<>();
+        for (Object element : AnyIterable.of(value)) {
+            list.add(element);
+        }
+        return list;
+    }
+
+    /**
+     * Get the object that hold the unparsed elements of this list.
+     *
+     * @return a list or array object.
+     */
+    @NotNull
+    public Object getSource() {
+        return source;
+    }
+
+    /**
+     * Get the type parser to parse elements.
+     *
+     * @return a type parser.
+     */
+    @NotNull
+    public TypeParser<E> getParser() {
+        return parser;
+    }
+
+    /**
+     * Check if this view keeps parsed elements.
+     *
+     * @return true if parsed elements are memoized.
+     */
+    public boolean isMemoized() {
+        return cache != null;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public E get(int index) {
+        if (cache != null && index >= 0 && index < cache.length()) {
+            final Object cached = cache.get(index);
+            if (cached != UNSET) {
+                return (E) cached;
+            }
+            final E element = parser.parse(getRaw(index), null);
+            cache.set(index, element);
+            return element;
+        }
+        return parser.parse(getRaw(index), null);
+    }
+
+    /**
+     * Get the unparsed element at the specified position in this list.
+     *
+     * @param index index of the element to return.
+     * @return      the unparsed element.
+     */
+    @Nullable
+    public Object getRaw(int index) {
+        if (source instanceof List) {
+            return ((List<?>) source).get(index);
+        } else if (source instanceof Object[]) {
+            return ((Object[]) source)[index];
+        }
+        return ArrayIterator.getElement(source, index);
+    }
+
+    @Override
+    public int size() {
+        if (source instanceof List) {
+            return ((List<?>) source).size();
+        }
+        return ArrayIterator.getLength(source);
+    }
+}
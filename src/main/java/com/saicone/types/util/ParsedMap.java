@@ -0,0 +1,154 @@
+package com.saicone.types.util;
+
+import com.saicone.types.TypeParser;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Represents a read-only {@link Map} view of other map, where every value is parsed on access.<br>
+ * Keys are parsed when the view is created to allow key lookups, so the view doesn't reflect
+ * entries that are added or removed from source map after its creation.<br>
+ * Memoized views keep every parsed value, so a value is parsed once at most
+ * (or more times if it's concurrently accessed for the first time).
+ *
+ * @author Rubenicos
+ *
+ * @param <K> the type of keys in the map.
+ * @param <V> the type of values in the map.
+ */
+public class ParsedMap<K, V> extends AbstractMap<K, V> {
+
+    private static final Object UNSET = new Object();
+
+    private final Map<?, ?> source;
+    private final TypeParser<V> valueParser;
+    private final boolean memoize;
+    private final Map<K, Slot> slots;
+
+    private transient Set<Entry<K, V>> entrySet;
+
+    /**
+     * Constructs a map view of the provided map.
+     *
+     * @param source      the map to represent.
+     * @param keyParser   the type parser to parse keys.
+     * @param valueParser the type parser to parse values.
+     * @param memoize     true to keep parsed values.
+     */
+    public ParsedMap(@NotNull Map<?, ?> source, @NotNull TypeParser<K> keyParser, @NotNull TypeParser<V> valueParser, boolean memoize) {
+        this.source = source;
+        this.valueParser = valueParser;
+        this.memoize = memoize;
+        this.slots = new LinkedHashMap<>(Math.max(16, (int) (source.size() / 0.75f) + 1));
+        for (Entry<?, ?> entry : source.entrySet()) {
+            slots.put(keyParser.parse(entry.getKey(), null), new Slot(entry.getKey()));
+        }
+    }
+
+    /**
+     * Get the map that hold the unparsed values of this map.
+     *
+     * @return a map object.
+     */
+    @NotNull
+    public Map<?, ?> getSource() {
+        return source;
+    }
+
+    /**
+     * Check if this view keeps parsed values.
+     *
+     * @return true if parsed values are memoized.
+     */
+    public boolean isMemoized() {
+        return memoize;
+    }
+
+    @Override
+    public int size() {
+        return slots.size();
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return slots.containsKey(key);
+    }
+
+    @Override
+    public V get(Object key) {
+        final Slot slot = slots.get(key);
+        return slot == null ? null : slot.get();
+    }
+
+    /**
+     * Get the unparsed value to which the specified key is mapped.
+     *
+     * @param key the parsed key whose associated value is to be returned.
+     * @return    the unparsed value, null if this map contains no mapping for the key.
+     */
+    @Nullable
+    public Object getRaw(Object key) {
+        final Slot slot = slots.get(key);
+        return slot == null ? null : source.get(slot.key);
+    }
+
+    @Override
+    public @NotNull Set<Entry<K, V>> entrySet() {
+        if (entrySet == null) {
+            entrySet = new AbstractSet<Entry<K, V>>() {
+                @Override
+                public @NotNull Iterator<Entry<K, V>> iterator() {
+                    final Iterator<Entry<K, Slot>> iterator = slots.entrySet().iterator();
+                    return new Iterator<Entry<K, V>>() {
+                        @Override
+                        public boolean hasNext() {
+                            return iterator.hasNext();
+                        }
+
+                        @Override
+                        public Entry<K, V> next() {
+                            final Entry<K, Slot> entry = iterator.next();
+                            return new SimpleImmutableEntry<>(entry.getKey(), entry.getValue().get());
+                        }
+                    };
+                }
+
+                @Override
+                public int size() {
+                    return slots.size();
+                }
+            };
+        }
+        return entrySet;
+    }
+
+    private final class Slot {
+
+        private final Object key;
+        private volatile Object value = UNSET;
+
+        Slot(@Nullable Object key) {
+            this.key = key;
+        }
+
+        @SuppressWarnings("unchecked")
+        V get() {
+            final Object cached = value;
+            if (cached != UNSET) {
+                return (V) cached;
+            }
+            final V parsed = valueParser.parse(source.get(key), null);
+            if (memoize) {
+                value = parsed;
+            }
+            return parsed;
+        }
+    }
+}
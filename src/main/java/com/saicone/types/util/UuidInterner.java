@@ -0,0 +1,103 @@
+package com.saicone.types.util;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Arrays;
+import java.util.UUID;
+
+/**
+ * Thread-safe table of canonical UUID instances with bounded size.<br>
+ * UUIDs are found by its most and least significant bits, so a repeated UUID can be obtained
+ * without creating a new object.<br>
+ * The table is direct-mapped and lock-free, every pair of bits has a single slot, and a UUID
+ * that collides with a different one replace it, so the table never grows over its capacity
+ * and the most recently interned UUIDs are kept.
+ *
+ * @author Rubenicos
+ */
+public class UuidInterner {
+
+    private final UUID[] table;
+    private final int shift;
+
+    /**
+     * Constructs an interner with the provided capacity.
+     *
+     * @param capacity the maximum number of interned UUIDs, rounded up to a power of two.
+     */
+    public UuidInterner(int capacity) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("The capacity must be positive");
+        }
+        final int bits = capacity == 1 ? 0 : Math.min(30, 32 - Integer.numberOfLeadingZeros(capacity - 1));
+        this.table = new UUID[1 << bits];
+        this.shift = 64 - bits;
+    }
+
+    /**
+     * Get the maximum number of interned UUIDs.
+     *
+     * @return a table capacity.
+     */
+    public int getCapacity() {
+        return table.length;
+    }
+
+    /**
+     * Get the canonical UUID instance for the provided bits.
+     *
+     * @param mostSigBits  the most significant bits of the UUID.
+     * @param leastSigBits the least significant bits of the UUID.
+     * @return             an interned UUID.
+     */
+    @NotNull
+    public UUID intern(long mostSigBits, long leastSigBits) {
+        final int index = index(mostSigBits, leastSigBits);
+        // UUID fields are final, so a racy read always see a fully constructed object
+        final UUID cached = table[index];
+        if (cached != null && cached.getLeastSignificantBits() == leastSigBits && cached.getMostSignificantBits() == mostSigBits) {
+            return cached;
+        }
+        final UUID uuid = new UUID(mostSigBits, leastSigBits);
+        table[index] = uuid;
+        return uuid;
+    }
+
+    /**
+     * Get the canonical UUID instance that is equal to the provided UUID.
+     *
+     * @param uuid the UUID to intern.
+     * @return     an interned UUID, that can be the same provided UUID.
+     */
+    @NotNull
+    public UUID intern(@NotNull UUID uuid) {
+        final long mostSigBits = uuid.getMostSignificantBits();
+        final long leastSigBits = uuid.getLeastSignificantBits();
+        final int index = index(mostSigBits, leastSigBits);
+        final UUID cached = table[index];
+        if (cached != null && cached.getLeastSignificantBits() == leastSigBits && cached.getMostSignificantBits() == mostSigBits) {
+            return cached;
+        }
+        table[index] = uuid;
+        return uuid;
+    }
+
+    /**
+     * Remove every interned UUID.
+     */
+    public void clear() {
+        Arrays.fill(table, null);
+    }
+
+    private int index(long mostSigBits, long leastSigBits) {
+        if (shift == 64) {
+            return 0;
+        }
+        return (int) (UuidTable.hash(mostSigBits, leastSigBits) >>> shift);
+    }
+
+    @Override
+    public String toString() {
+        return "UuidInterner{capacity=" + table.length + "}";
+    }
+}
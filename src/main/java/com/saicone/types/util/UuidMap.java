@@ -0,0 +1,289 @@
+package com.saicone.types.util;
+
+import com.saicone.types.TypeParser;
+import com.saicone.types.Types;
+import com.saicone.types.parser.MapParser;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.BiFunction;
+
+/**
+ * Represents a {@link Map} with UUID keys, backed by an open-addressing hash table.<br>
+ * The most and least significant bits of every key are saved in parallel long arrays
+ * instead of UUID objects, so the map takes less memory than a regular hash map and
+ * lookups by bits don't require any UUID object.<br>
+ * Take in count that key objects are created again on every access from iterators,
+ * so the keys of this map are equal but not the same as the inserted ones.<br>
+ * This map doesn't allow null keys and is not thread-safe.
+ *
+ * @author Rubenicos
+ *
+ * @param <V> the type of values in the map.
+ */
+public class UuidMap<V> extends AbstractMap<UUID, V> {
+
+    private final UuidTable table;
+
+    private transient Set<Entry<UUID, V>> entrySet;
+    // Enabled on maps created by its parser until they are filled
+    private transient boolean skipNullKeys;
+
+    /**
+     * Create a map parser that parse any map into UUID map.<br>
+     * Any entry with a key that cannot be parsed as UUID is skipped.
+     *
+     * @param valueParser the type parser to parse values.
+     * @return            a map parser.
+     * @param <V>         the type of values in the map.
+     */
+    @NotNull
+    public static <V> MapParser<UUID, V> parser(@NotNull TypeParser<V> valueParser) {
+        return new Parser<>(valueParser, null, 0);
+    }
+
+    /**
+     * Constructs an empty UUID map.
+     */
+    public UuidMap() {
+        this(0);
+    }
+
+    /**
+     * Constructs an empty UUID map with the provided expected size.
+     *
+     * @param expectedSize the number of entries that the map can save without rehash.
+     */
+    public UuidMap(int expectedSize) {
+        this.table = new UuidTable(expectedSize, true);
+    }
+
+    /**
+     * Constructs a UUID map with the same entries of the provided map.
+     *
+     * @param map the map to copy.
+     */
+    public UuidMap(@NotNull Map<? extends UUID, ? extends V> map) {
+        this(map.size());
+        putAll(map);
+    }
+
+    @Override
+    public int size() {
+        return table.tableSize();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return table.tableSize() == 0;
+    }
+
+    @Override
+    public boolean containsKey(@Nullable Object key) {
+        return table.find(key) >= 0;
+    }
+
+    /**
+     * Check if this map contains a key with the provided bits.
+     *
+     * @param mostSigBits  the most significant bits of the key.
+     * @param leastSigBits the least significant bits of the key.
+     * @return             true if the map contains the key.
+     */
+    public boolean containsKey(long mostSigBits, long leastSigBits) {
+        return table.find(mostSigBits, leastSigBits) >= 0;
+    }
+
+    @Override
+    public boolean containsValue(@Nullable Object value) {
+        return table.hasValue(value);
+    }
+
+    @Override
+    public V get(@Nullable Object key) {
+        return valueAt(table.find(key));
+    }
+
+    /**
+     * Get the value mapped to the key with the provided bits.
+     *
+     * @param mostSigBits  the most significant bits of the key.
+     * @param leastSigBits the least significant bits of the key.
+     * @return             the mapped value, null if the map doesn't contain the key.
+     */
+    @Nullable
+    public V get(long mostSigBits, long leastSigBits) {
+        return valueAt(table.find(mostSigBits, leastSigBits));
+    }
+
+    @Override
+    public V put(@NotNull UUID key, V value) {
+        if (key == null && skipNullKeys) {
+            return null;
+        }
+        Objects.requireNonNull(key, "UUID map doesn't allow null keys");
+        return put(key.getMostSignificantBits(), key.getLeastSignificantBits(), value);
+    }
+
+    /**
+     * Map the provided value to the key with the provided bits.
+     *
+     * @param mostSigBits  the most significant bits of the key.
+     * @param leastSigBits the least significant bits of the key.
+     * @param value        the value to map.
+     * @return             the previous mapped value, null if the map didn't contain the key.
+     */
+    @Nullable
+    @SuppressWarnings("unchecked")
+    public V put(long mostSigBits, long leastSigBits, V value) {
+        final int index = table.insert(mostSigBits, leastSigBits);
+        if (index < 0) {
+            table.setValueAt(-index - 1, value);
+            return null;
+        }
+        return (V) table.setValueAt(index, value);
+    }
+
+    @Override
+    public V remove(@Nullable Object key) {
+        return removeAt(table.find(key));
+    }
+
+    /**
+     * Remove the key with the provided bits.
+     *
+     * @param mostSigBits  the most significant bits of the key.
+     * @param leastSigBits the least significant bits of the key.
+     * @return             the removed value, null if the map didn't contain the key.
+     */
+    @Nullable
+    public V remove(long mostSigBits, long leastSigBits) {
+        return removeAt(table.find(mostSigBits, leastSigBits));
+    }
+
+    @Override
+    public void clear() {
+        table.clearTable();
+    }
+
+    @Nullable
+    @SuppressWarnings("unchecked")
+    private V valueAt(int index) {
+        return index < 0 ? null : (V) table.valueAt(index);
+    }
+
+    @Nullable
+    @SuppressWarnings("unchecked")
+    private V removeAt(int index) {
+        return index < 0 ? null : (V) table.removeAt(index);
+    }
+
+    @Override
+    public @NotNull Set<Entry<UUID, V>> entrySet() {
+        if (entrySet == null) {
+            entrySet = new EntrySet();
+        }
+        return entrySet;
+    }
+
+    private final class EntrySet extends AbstractSet<Entry<UUID, V>> {
+
+        @Override
+        public @NotNull Iterator<Entry<UUID, V>> iterator() {
+            return table.new SlotIterator<Entry<UUID, V>>() {
+                @Override
+                Entry<UUID, V> element(int index) {
+                    return new SlotEntry(index);
+                }
+            };
+        }
+
+        @Override
+        public boolean contains(@Nullable Object o) {
+            if (!(o instanceof Entry)) {
+                return false;
+            }
+            final Entry<?, ?> entry = (Entry<?, ?>) o;
+            final int index = table.find(entry.getKey());
+            return index >= 0 && Objects.equals(table.valueAt(index), entry.getValue());
+        }
+
+        @Override
+        public boolean remove(@Nullable Object o) {
+            if (!contains(o)) {
+                return false;
+            }
+            table.removeAt(table.find(((Entry<?, ?>) o).getKey()));
+            return true;
+        }
+
+        @Override
+        public int size() {
+            return table.tableSize();
+        }
+
+        @Override
+        public void clear() {
+            table.clearTable();
+        }
+    }
+
+    private final class SlotEntry extends SimpleEntry<UUID, V> {
+
+        private final int index;
+
+        private SlotEntry(int index) {
+            super(table.uuidAt(index), valueAt(index));
+            this.index = index;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public V setValue(V value) {
+            super.setValue(value);
+            return (V) table.setValueAt(index, value);
+        }
+    }
+
+    private static final class Parser<V> extends MapParser<UUID, V> {
+
+        private Parser(@NotNull TypeParser<V> valueParser, @Nullable ForkJoinPool pool, int threshold) {
+            super(size -> {
+                final UuidMap<V> map = new UuidMap<>(size == null ? 0 : size);
+                map.skipNullKeys = true;
+                return map;
+            }, Types.UUID, valueParser, pool, threshold);
+        }
+
+        @Override
+        public @NotNull MapParser<UUID, V> parallel(@NotNull ForkJoinPool pool, int threshold) {
+            return new Parser<>(getValueParser(), pool, threshold);
+        }
+
+        @Override
+        public @NotNull Map<UUID, V> coerce(@Nullable Object object, boolean inPlace) {
+            return filled(super.coerce(object, inPlace));
+        }
+
+        @Override
+        public @NotNull Map<UUID, V> parseEach(@Nullable Object object, @NotNull BiFunction<Object, TypeParser<UUID>, UUID> keyFunction, @NotNull BiFunction<Object, TypeParser<V>, V> valueFunction) {
+            return filled(super.parseEach(object, keyFunction, valueFunction));
+        }
+
+        @NotNull
+        private Map<UUID, V> filled(@NotNull Map<UUID, V> map) {
+            if (map instanceof UuidMap) {
+                ((UuidMap<?>) map).skipNullKeys = false;
+            }
+            return map;
+        }
+    }
+}
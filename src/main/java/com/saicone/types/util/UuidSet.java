@@ -0,0 +1,192 @@
+package com.saicone.types.util;
+
+import com.saicone.types.TypeParser;
+import com.saicone.types.Types;
+import com.saicone.types.parser.SetParser;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.AbstractSet;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.BiFunction;
+
+/**
+ * Represents a {@link java.util.Set} of UUIDs, backed by an open-addressing hash table.<br>
+ * The most and least significant bits of every UUID are saved in parallel long arrays
+ * instead of UUID objects, so the set takes less memory than a regular hash set and
+ * lookups by bits don't require any UUID object.<br>
+ * Take in count that UUID objects are created again on every access from iterators,
+ * so the elements of this set are equal but not the same as the inserted ones.<br>
+ * This set doesn't allow null elements and is not thread-safe.
+ *
+ * @author Rubenicos
+ */
+public class UuidSet extends AbstractSet<UUID> {
+
+    private final UuidTable table;
+    // Enabled on sets created by its parser until they are filled
+    private transient boolean skipNullElements;
+
+    /**
+     * Create a set parser that parse any object into UUID set.<br>
+     * Any element that cannot be parsed as UUID is skipped.
+     *
+     * @return a set parser.
+     */
+    @NotNull
+    public static SetParser<UUID> parser() {
+        return new Parser(null, 0);
+    }
+
+    /**
+     * Constructs an empty UUID set.
+     */
+    public UuidSet() {
+        this(0);
+    }
+
+    /**
+     * Constructs an empty UUID set with the provided expected size.
+     *
+     * @param expectedSize the number of elements that the set can save without rehash.
+     */
+    public UuidSet(int expectedSize) {
+        this.table = new UuidTable(expectedSize, false);
+    }
+
+    /**
+     * Constructs a UUID set with the same elements of the provided collection.
+     *
+     * @param collection the collection to copy.
+     */
+    public UuidSet(@NotNull Collection<? extends UUID> collection) {
+        this(collection.size());
+        addAll(collection);
+    }
+
+    @Override
+    public int size() {
+        return table.tableSize();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return table.tableSize() == 0;
+    }
+
+    @Override
+    public boolean contains(@Nullable Object o) {
+        return table.find(o) >= 0;
+    }
+
+    /**
+     * Check if this set contains a UUID with the provided bits.
+     *
+     * @param mostSigBits  the most significant bits of the UUID.
+     * @param leastSigBits the least significant bits of the UUID.
+     * @return             true if the set contains the UUID.
+     */
+    public boolean contains(long mostSigBits, long leastSigBits) {
+        return table.find(mostSigBits, leastSigBits) >= 0;
+    }
+
+    @Override
+    public boolean add(@NotNull UUID uuid) {
+        if (uuid == null && skipNullElements) {
+            return false;
+        }
+        Objects.requireNonNull(uuid, "UUID set doesn't allow null elements");
+        return add(uuid.getMostSignificantBits(), uuid.getLeastSignificantBits());
+    }
+
+    /**
+     * Add a UUID with the provided bits.
+     *
+     * @param mostSigBits  the most significant bits of the UUID.
+     * @param leastSigBits the least significant bits of the UUID.
+     * @return             true if the set didn't contain the UUID.
+     */
+    public boolean add(long mostSigBits, long leastSigBits) {
+        return table.insert(mostSigBits, leastSigBits) < 0;
+    }
+
+    @Override
+    public boolean remove(@Nullable Object o) {
+        final int index = table.find(o);
+        if (index < 0) {
+            return false;
+        }
+        table.removeAt(index);
+        return true;
+    }
+
+    /**
+     * Remove the UUID with the provided bits.
+     *
+     * @param mostSigBits  the most significant bits of the UUID.
+     * @param leastSigBits the least significant bits of the UUID.
+     * @return             true if the set contained the UUID.
+     */
+    public boolean remove(long mostSigBits, long leastSigBits) {
+        final int index = table.find(mostSigBits, leastSigBits);
+        if (index < 0) {
+            return false;
+        }
+        table.removeAt(index);
+        return true;
+    }
+
+    @Override
+    public void clear() {
+        table.clearTable();
+    }
+
+    @Override
+    public @NotNull Iterator<UUID> iterator() {
+        return table.new SlotIterator<UUID>() {
+            @Override
+            UUID element(int index) {
+                return table.uuidAt(index);
+            }
+        };
+    }
+
+    private static final class Parser extends SetParser<UUID> {
+
+        private Parser(@Nullable ForkJoinPool pool, int threshold) {
+            super(size -> {
+                final UuidSet set = new UuidSet(size == null ? 0 : size);
+                set.skipNullElements = true;
+                return set;
+            }, Types.UUID, pool, threshold);
+        }
+
+        @Override
+        public @NotNull SetParser<UUID> parallel(@NotNull ForkJoinPool pool, int threshold) {
+            return new Parser(pool, threshold);
+        }
+
+        @Override
+        public @NotNull Set<UUID> coerce(@Nullable Object object, boolean inPlace) {
+            return filled(super.coerce(object, inPlace));
+        }
+
+        @Override
+        public @NotNull Set<UUID> parseEach(@Nullable Object object, @NotNull BiFunction<Object, TypeParser<UUID>, UUID> function) {
+            return filled(super.parseEach(object, function));
+        }
+
+        @NotNull
+        private Set<UUID> filled(@NotNull Set<UUID> set) {
+            if (set instanceof UuidSet) {
+                ((UuidSet) set).skipNullElements = false;
+            }
+            return set;
+        }
+    }
+}
@@ -0,0 +1,334 @@
+package com.saicone.types.util;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.UUID;
+
+/**
+ * Open-addressing hash table of UUIDs, used by {@link UuidMap} and {@link UuidSet}.<br>
+ * The most and least significant bits of every UUID are saved in parallel long arrays,
+ * so the table doesn't keep any UUID object, and collisions are resolved with linear probing.<br>
+ * Removed slots are marked until the next rehash, so iterators can remove elements safely.
+ *
+ * @author Rubenicos
+ */
+final class UuidTable {
+
+    // Slot states
+    private static final byte EMPTY = 0;
+    private static final byte FULL = 1;
+    private static final byte REMOVED = 2;
+
+    private static final int MIN_CAPACITY = 16;
+    private static final int MAX_CAPACITY = 1 << 30;
+    private static final float LOAD_FACTOR = 0.75f;
+
+    private long[] most;
+    private long[] least;
+    private byte[] states;
+    private Object[] values;
+    private final boolean withValues;
+
+    private int size;
+    // Full and removed slots
+    private int used;
+    private int threshold;
+    private int modCount;
+
+    /**
+     * Mix the bits of the provided UUID into a hash with good distribution on its high bits.
+     *
+     * @param mostSigBits  the most significant bits of the UUID.
+     * @param leastSigBits the least significant bits of the UUID.
+     * @return             a mixed hash.
+     */
+    static long hash(long mostSigBits, long leastSigBits) {
+        return (mostSigBits * 0x9E3779B97F4A7C15L ^ leastSigBits) * 0xC2B2AE3D27D4EB4FL;
+    }
+
+    /**
+     * Constructs a UUID table with the provided expected size.
+     *
+     * @param expectedSize the number of UUIDs that the table can save without rehash.
+     * @param withValues   true to save a value for every UUID.
+     */
+    UuidTable(int expectedSize, boolean withValues) {
+        if (expectedSize < 0) {
+            throw new IllegalArgumentException("The expected size cannot be negative");
+        }
+        this.withValues = withValues;
+        allocate(capacityFor(expectedSize));
+    }
+
+    private static int capacityFor(int expectedSize) {
+        final long needed = (long) Math.ceil(expectedSize / LOAD_FACTOR);
+        if (needed >= MAX_CAPACITY) {
+            return MAX_CAPACITY;
+        }
+        return Math.max(MIN_CAPACITY, Integer.highestOneBit((int) needed - 1) << 1);
+    }
+
+    private void allocate(int capacity) {
+        this.most = new long[capacity];
+        this.least = new long[capacity];
+        this.states = new byte[capacity];
+        this.values = withValues ? new Object[capacity] : null;
+        this.used = size;
+        this.threshold = capacity == MAX_CAPACITY ? MAX_CAPACITY - 1 : (int) (capacity * LOAD_FACTOR);
+    }
+
+    private int slot(long mostSigBits, long leastSigBits) {
+        return (int) (hash(mostSigBits, leastSigBits) >>> 32) & (states.length - 1);
+    }
+
+    /**
+     * Get the number of UUIDs in this table.
+     *
+     * @return a table size.
+     */
+    final int tableSize() {
+        return size;
+    }
+
+    /**
+     * Find the slot index of the provided UUID bits.
+     *
+     * @param mostSigBits  the most significant bits of the UUID.
+     * @param leastSigBits the least significant bits of the UUID.
+     * @return             a slot index, -1 if the UUID is not in this table.
+     */
+    final int find(long mostSigBits, long leastSigBits) {
+        final int mask = states.length - 1;
+        int index = slot(mostSigBits, leastSigBits);
+        byte state;
+        while ((state = states[index]) != EMPTY) {
+            if (state == FULL && most[index] == mostSigBits && least[index] == leastSigBits) {
+                return index;
+            }
+            index = (index + 1) & mask;
+        }
+        return -1;
+    }
+
+    /**
+     * Find the slot index of the provided UUID object.
+     *
+     * @param object the object to find.
+     * @return       a slot index, -1 if the object is not a UUID in this table.
+     */
+    final int find(@Nullable Object object) {
+        if (!(object instanceof UUID)) {
+            return -1;
+        }
+        final UUID uuid = (UUID) object;
+        return find(uuid.getMostSignificantBits(), uuid.getLeastSignificantBits());
+    }
+
+    /**
+     * Insert the provided UUID bits into this table.
+     *
+     * @param mostSigBits  the most significant bits of the UUID.
+     * @param leastSigBits the least significant bits of the UUID.
+     * @return             the slot index if the UUID was already in this table, otherwise {@code -(index + 1)} of inserted slot.
+     */
+    final int insert(long mostSigBits, long leastSigBits) {
+        final int found = find(mostSigBits, leastSigBits);
+        if (found >= 0) {
+            return found;
+        }
+        if (used >= threshold) {
+            // Grow only if the table is actually full, otherwise removed slots are discarded
+            rehash(size >= threshold ? capacityFor(size + 1) : states.length);
+        }
+        final int mask = states.length - 1;
+        int index = slot(mostSigBits, leastSigBits);
+        while (states[index] == FULL) {
+            index = (index + 1) & mask;
+        }
+        if (states[index] == EMPTY) {
+            used++;
+        }
+        states[index] = FULL;
+        most[index] = mostSigBits;
+        least[index] = leastSigBits;
+        size++;
+        modCount++;
+        return -(index + 1);
+    }
+
+    /**
+     * Remove the UUID at the provided slot index.
+     *
+     * @param index the slot index.
+     * @return      the previous value of the slot, null if this table doesn't save values.
+     */
+    @Nullable
+    final Object removeAt(int index) {
+        states[index] = REMOVED;
+        size--;
+        modCount++;
+        if (values == null) {
+            return null;
+        }
+        final Object value = values[index];
+        values[index] = null;
+        return value;
+    }
+
+    /**
+     * Get the value at the provided slot index.
+     *
+     * @param index the slot index.
+     * @return      the slot value.
+     */
+    @Nullable
+    final Object valueAt(int index) {
+        return values[index];
+    }
+
+    /**
+     * Replace the value at the provided slot index.
+     *
+     * @param index the slot index.
+     * @param value the value to set.
+     * @return      the previous value.
+     */
+    @Nullable
+    final Object setValueAt(int index, @Nullable Object value) {
+        final Object previous = values[index];
+        values[index] = value;
+        return previous;
+    }
+
+    /**
+     * Get the UUID at the provided slot index, the UUID object is created on every call.
+     *
+     * @param index the slot index.
+     * @return      a UUID object.
+     */
+    @NotNull
+    final UUID uuidAt(int index) {
+        return new UUID(most[index], least[index]);
+    }
+
+    /**
+     * Check if any slot has the provided value.
+     *
+     * @param value the value to find.
+     * @return      true if any UUID is mapped to the value.
+     */
+    final boolean hasValue(@Nullable Object value) {
+        for (int i = 0; i < states.length; i++) {
+            if (states[i] == FULL && (value == null ? values[i] == null : value.equals(values[i]))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Remove every UUID from this table, without changing its capacity.
+     */
+    final void clearTable() {
+        if (size == 0 && used == 0) {
+            return;
+        }
+        Arrays.fill(states, EMPTY);
+        if (values != null) {
+            Arrays.fill(values, null);
+        }
+        size = 0;
+        used = 0;
+        modCount++;
+    }
+
+    private void rehash(int capacity) {
+        final long[] oldMost = most;
+        final long[] oldLeast = least;
+        final byte[] oldStates = states;
+        final Object[] oldValues = values;
+        allocate(capacity);
+        final int mask = capacity - 1;
+        for (int i = 0; i < oldStates.length; i++) {
+            if (oldStates[i] != FULL) {
+                continue;
+            }
+            int index = slot(oldMost[i], oldLeast[i]);
+            while (states[index] != EMPTY) {
+                index = (index + 1) & mask;
+            }
+            states[index] = FULL;
+            most[index] = oldMost[i];
+            least[index] = oldLeast[i];
+            if (oldValues != null) {
+                values[index] = oldValues[i];
+            }
+        }
+    }
+
+    /**
+     * Iterator over the full slot indexes of a UUID table.
+     */
+    abstract class SlotIterator<E> implements Iterator<E> {
+
+        private int next;
+        private int last = -1;
+        private int expectedModCount = modCount;
+
+        SlotIterator() {
+            this.next = advance(0);
+        }
+
+        private int advance(int index) {
+            final byte[] states = UuidTable.this.states;
+            while (index < states.length && states[index] != FULL) {
+                index++;
+            }
+            return index;
+        }
+
+        /**
+         * Get the element of the provided slot index.
+         *
+         * @param index the slot index.
+         * @return      an iterator element.
+         */
+        abstract E element(int index);
+
+        @Override
+        public boolean hasNext() {
+            return next < states.length;
+        }
+
+        @Override
+        public E next() {
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+            if (next >= states.length) {
+                throw new NoSuchElementException();
+            }
+            last = next;
+            next = advance(next + 1);
+            return element(last);
+        }
+
+        @Override
+        public void remove() {
+            if (last < 0) {
+                throw new IllegalStateException();
+            }
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+            removeAt(last);
+            last = -1;
+            expectedModCount = modCount;
+        }
+    }
+}
@@ -2,8 +2,10 @@ package com.saicone.types;
 
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
+import com.saicone.types.iterator.ArrayIterator;
 import org.junit.jupiter.api.Test;
 
+import java.lang.reflect.Array;
 import java.util.*;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -136,6 +138,62 @@ public class AnyIterableTest {
         assertEquals(expected, actual);
     }
 
+    @Test
+    public void testPrimitiveAccess() {
+        final Object[] arrays = new Object[] {
+                new int[] {1, 2, 3}, new long[] {1L, 2L, 3L}, new double[] {1d, 2d, 3d}, new float[] {1f, 2f, 3f},
+                new short[] {1, 2, 3}, new byte[] {1, 2, 3}, new char[] {'a', 'b', 'c'}, new boolean[] {true, false, true}
+        };
+        for (Object array : arrays) {
+            final AnyIterable<Object> iterable = AnyIterable.of(array);
+            assertEquals(3, iterable.size());
+            assertEquals(Array.get(array, 0), iterable.first());
+            assertEquals(Array.get(array, 2), iterable.last());
+            final List<Object> list = new ArrayList<>();
+            iterable.forEach(list::add);
+            assertEquals(3, list.size());
+            assertEquals(Array.get(array, 1), list.get(1));
+        }
+        assertThrows(IllegalArgumentException.class, () -> ArrayIterator.getLength("test"));
+    }
+
+    @Test
+    public void testPrimitiveConsumer() {
+        final List<Integer> ints = new ArrayList<>();
+        AnyIterable.of(new char[] {'5', '7'}).forEachInt(ints::add);
+        AnyIterable.of(ImmutableList.of("3", 4.5, true)).forEachInt(ints::add);
+        assertEquals(ImmutableList.of(5, 7, 3, 4, 1), ints);
+
+        // Chars are parsed like boxed characters
+        final List<Integer> boxed = new ArrayList<>();
+        AnyIterable.of(ImmutableList.of('5', '7')).forEachInt(boxed::add);
+        assertEquals(boxed, ints.subList(0, 2));
+        assertEquals(Types.INTEGER.parse('5'), ints.get(0));
+
+        final List<Long> longs = new ArrayList<>();
+        AnyIterable.of(new long[] {Long.MAX_VALUE, 2L}).forEachLong(longs::add);
+        AnyIterable.of(new byte[] {-1}).forEachLong(longs::add);
+        AnyIterable.of(new char[] {'9'}).forEachLong(longs::add);
+        assertEquals(ImmutableList.of(Long.MAX_VALUE, 2L, -1L, 9L), longs);
+
+        final List<Double> doubles = new ArrayList<>();
+        AnyIterable.of(new float[] {0.5f}).forEachDouble(doubles::add);
+        AnyIterable.of(new int[] {2}).forEachDouble(doubles::add);
+        AnyIterable.of(new String[] {"1.25", null}).forEachDouble(doubles::add);
+        AnyIterable.of(new char[] {'3'}).forEachDouble(doubles::add);
+        assertEquals(ImmutableList.of(0.5d, 2d, 1.25d, 3d), doubles);
+    }
+
+    @Test
+    public void testListIteratorAdd() {
+        final ReplaceableValue<Integer> replaceable = new ReplaceableValue<>(new int[] {0, 1, 3});
+        final ListIterator<Integer> iterator = replaceable.listIterator(2);
+        iterator.add(2);
+        assertTrue(iterator.hasNext());
+        assertEquals(3, iterator.next());
+        assertArrayEquals(new int[] {0, 1, 2, 3}, (int[]) replaceable.getValue());
+    }
+
     static class ReplaceableValue<T> implements AnyIterable<T> {
 
         private Object value;
@@ -4,11 +4,27 @@ import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Queue;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.concurrent.ForkJoinPool;
 
 import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 public class TypeOfTest {
 
@@ -72,9 +88,162 @@ public class TypeOfTest {
         assertArrayEquals(new boolean[] { false, false, false, true }, new TypeOf<boolean[]>(){}.parse(expected));
     }
 
+    @Test
+    public void testPrimitiveArrayConversion() {
+        assertArrayEquals(new long[] { 15, -1234, 14, 1 }, new TypeOf<long[]>(){}.parse(new int[] { 15, -1234, 14, 1 }));
+        assertArrayEquals(new float[] { 1.5f, -0.25f, 3f }, new TypeOf<float[]>(){}.parse(new double[] { 1.5, -0.25, 3 }));
+        assertArrayEquals(new double[] { 0.1, -2.5 }, new TypeOf<double[]>(){}.parse(new float[] { 0.1f, -2.5f }));
+        assertArrayEquals(new int[] { 15, -1234, 14 }, PRIMITIVE_ARRAY_TYPE.parse(new double[] { 15.2, -1234.9, 14.8 }));
+        assertArrayEquals(new int[] { 15, 1234, 14, 1 }, PRIMITIVE_ARRAY_TYPE.parse(new Object[] { "15", 1234, 14L, true }));
+        assertArrayEquals(new short[] { 1, 2 }, new TypeOf<short[]>(){}.parse(new String[] { "1", "2" }));
+        assertArrayEquals(new byte[] { -128, 127 }, new TypeOf<byte[]>(){}.parse(new long[] { -128, 127 }));
+
+        assertThrows(IllegalArgumentException.class, () -> new TypeOf<byte[]>(){}.parse(new int[] { 1, 128 }));
+        assertThrows(IllegalArgumentException.class, () -> PRIMITIVE_ARRAY_TYPE.parse(new long[] { Long.MAX_VALUE }));
+        assertThrows(IllegalArgumentException.class, () -> PRIMITIVE_ARRAY_TYPE.parse(new double[] { Double.NaN }));
+        assertThrows(IllegalArgumentException.class, () -> new TypeOf<float[]>(){}.parse(new double[] { -Double.MAX_VALUE }));
+
+        final Iterable<Integer> iterable = () -> ImmutableList.of(1, 2, 3, 4, 5).iterator();
+        assertArrayEquals(new long[] { 1, 2, 3, 4, 5 }, new TypeOf<long[]>(){}.parse(iterable));
+    }
+
+    @Test
+    public void testParallel() {
+        final ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            final List<String> list = new ArrayList<>();
+            final Map<String, List<String>> map = new LinkedHashMap<>();
+            final int[] expected = new int[1000];
+            for (int i = 0; i < 1000; i++) {
+                list.add(String.valueOf(i));
+                map.put(String.valueOf(i), ImmutableList.of(String.valueOf(i), String.valueOf(-i)));
+                expected[i] = i;
+            }
+
+            final TypeOf<List<Integer>> listType = new TypeOf<List<Integer>>(){};
+            assertEquals(listType.parse(list), listType.parallel(pool, 16).parse(list));
+            assertEquals(listType.parse(new LinkedList<>(list)), listType.parallel(pool, 16).parse(new LinkedList<>(list)));
+
+            final TypeOf<Map<Integer, List<Integer>>> mapType = new TypeOf<Map<Integer, List<Integer>>>(){};
+            assertEquals(mapType.parse(map), mapType.parallel(pool, 16).parse(map));
+
+            assertArrayEquals(expected, PRIMITIVE_ARRAY_TYPE.parallel(pool, 16).parse(list));
+            assertArrayEquals(expected, PRIMITIVE_ARRAY_TYPE.parallel(pool, 16).parse(list.toArray()));
+            assertArrayEquals(new String[] { "1", "2" }, OBJECT_ARRAY_TYPE.parallel(pool, 16).parse(ImmutableList.of(1, 2)));
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    public void testCompile() {
+        final TypeOf<Map<String, List<Map<Integer, Double>>>> type = new TypeOf<Map<String, List<Map<Integer, Double>>>>(){};
+        final Map<Object, Object> map = new LinkedHashMap<>();
+        map.put("first", ImmutableList.of(ImmutableMap.of("1", "1.5", 2, 2.5f)));
+        map.put(3, new Object[] { ImmutableMap.of(4L, 4) });
+        map.put("empty", new int[0]);
+
+        final TypeParser<Map<String, List<Map<Integer, Double>>>> compiled = type.compile();
+        assertSame(compiled, type.compile());
+        assertEquals(type.parse(map), compiled.parse(map));
+        assertEquals(ImmutableMap.of(1, 1.5, 2, 2.5), compiled.parse(map).get("first").get(0));
+        assertEquals(LIST_TYPE.parse(new int[] { 1, 2 }), LIST_TYPE.compile().parse(new int[] { 1, 2 }));
+        assertEquals(LIST_TYPE.parse("1.5"), LIST_TYPE.compile().parse("1.5"));
+        assertEquals(MAP_TYPE.parse(ImmutableList.of("1", "true")), MAP_TYPE.compile().parse(ImmutableList.of("1", "true")));
+        assertThrows(NumberFormatException.class, () -> LIST_TYPE.compile().parse(ImmutableList.of("text")));
+
+        // Compiled parsers are shared through a bounded cache
+        assertNotNull(TypeOf.getCache().get(type.getType()));
+        assertTrue(TypeOf.getCache().size() <= TypeOf.getCache().getMaximumSize());
+    }
+
+    @Test
+    public void testCoerce() {
+        final TypeOf<Map<String, List<Integer>>> type = new TypeOf<Map<String, List<Integer>>>(){};
+        final List<Integer> typed = new ArrayList<>(ImmutableList.of(1, 2, 3));
+        final List<Object> mixed = new ArrayList<>(ImmutableList.of(4, "5", 6));
+        final Map<String, List<?>> map = new LinkedHashMap<>();
+        map.put("typed", typed);
+        map.put("mixed", mixed);
+
+        final Map<String, List<Integer>> copy = type.coerce(map);
+        assertNotSame(map, copy);
+        assertSame(typed, copy.get("typed"));
+        assertEquals(ImmutableList.of(4, 5, 6), copy.get("mixed"));
+        assertEquals("5", mixed.get(1));
+
+        final Map<String, List<Integer>> result = type.coerce(map, true);
+        assertSame(map, result);
+        assertSame(typed, result.get("typed"));
+        assertSame(mixed, result.get("mixed"));
+        assertEquals(ImmutableList.of(4, 5, 6), mixed);
+        assertSame(map, type.coerce(map));
+
+        final Map<String, List<?>> immutable = ImmutableMap.of("typed", typed, "list", ImmutableList.of("7"));
+        final Map<String, List<Integer>> rebuilt = type.coerce(immutable, true);
+        assertSame(typed, rebuilt.get("typed"));
+        assertEquals(ImmutableList.of(7), rebuilt.get("list"));
+
+        final String[] array = new String[] { "a", "b" };
+        assertSame(array, OBJECT_ARRAY_TYPE.coerce(array));
+        assertArrayEquals(new String[] { "1", "2" }, OBJECT_ARRAY_TYPE.coerce(new Object[] { 1, "2" }));
+    }
+
+    @Test
+    public void testCollectionTypes() {
+        final SortedMap<String, Integer> sorted = new TypeOf<SortedMap<String, Integer>>(){}.parse(ImmutableMap.of("b", "2", "a", "1"));
+        assertInstanceOf(TreeMap.class, sorted);
+        assertEquals(ImmutableList.of("a", "b"), new ArrayList<>(sorted.keySet()));
+
+        final Queue<Integer> queue = new TypeOf<Queue<Integer>>(){}.parse(Collections.emptyList());
+        assertInstanceOf(PriorityQueue.class, queue);
+        assertTrue(queue.isEmpty());
+
+        final Deque<Integer> deque = new TypeOf<Deque<Integer>>(){}.parse(ImmutableList.of("1", "2"));
+        assertInstanceOf(LinkedList.class, deque);
+        assertEquals(ImmutableList.of(1, 2), new ArrayList<>(deque));
+    }
+
+    @Test
+    public void testRegisteredType() {
+        final TypeOf<List<MyValue>> type = new TypeOf<List<MyValue>>(){};
+        assertEquals(ImmutableList.of("test"), type.parse(ImmutableList.of("test")));
+
+        Types.put(MyValue.class, object -> new MyValue(String.valueOf(object)));
+        try {
+            assertEquals(ImmutableList.of(new MyValue("test")), new TypeOf<List<MyValue>>(){}.parse(ImmutableList.of("test")));
+        } finally {
+            Types.remove(MyValue.class);
+        }
+    }
+
     enum EnumType {
         FIRST,
         SECOND,
         THIRD;
     }
+
+    private static class MyValue {
+
+        private final String value;
+
+        MyValue(String value) {
+            this.value = value;
+        }
+
+        @Override
+        public boolean equals(Object object) {
+            if (this == object) return true;
+            if (object == null || getClass() != object.getClass()) return false;
+
+            MyValue myValue = (MyValue) object;
+
+            return value.equals(myValue.value);
+        }
+
+        @Override
+        public int hashCode() {
+            return value.hashCode();
+        }
+    }
 }
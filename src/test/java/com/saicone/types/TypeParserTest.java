@@ -5,12 +5,20 @@ import com.google.common.collect.ImmutableMap;
 import com.saicone.types.parser.EnumParser;
 import com.saicone.types.parser.MapParser;
 import com.saicone.types.parser.NumberParser;
+import com.saicone.types.util.ParseMetrics;
 import org.junit.jupiter.api.Test;
 
 import java.util.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+import java.util.stream.Collectors;
 
 import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 public class TypeParserTest {
 
@@ -88,4 +96,116 @@ public class TypeParserTest {
         SECOND,
         THIRD;
     }
+
+    @Test
+    public void testTryParse() {
+        assertEquals(ParseResult.of(1234), Types.INTEGER.tryParse("1234"));
+        assertEquals(ParseResult.empty(), Types.INTEGER.tryParse(null));
+        assertEquals(ParseResult.failure(), Types.INTEGER.tryParse("12a4"));
+        assertEquals(1234, Types.INTEGER.parseOrDefault("12a4", 1234));
+        assertEquals(Optional.empty(), Types.INTEGER.optional("12a4"));
+        assertEquals(Optional.of(4), Types.INTEGER.optional(ImmutableList.of("4", "5")));
+
+        final TypeParser<String> failing = object -> {
+            throw new IllegalStateException("Cannot parse");
+        };
+        final ParseResult<String> result = failing.tryParse("test");
+        assertTrue(result.isFailure());
+        assertInstanceOf(IllegalStateException.class, result.getCause());
+
+        final TypeParser<Long> parser = Types.INTEGER.andThen(Types.LONG);
+        assertEquals(ParseResult.of(1234L), parser.tryParse("1234"));
+        assertTrue(parser.tryParse("12a4").isFailure());
+    }
+
+    @Test
+    public void testStream() {
+        final AtomicInteger count = new AtomicInteger();
+        final TypeParser<Integer> parser = object -> {
+            count.incrementAndGet();
+            return Types.INTEGER.parse(object);
+        };
+        final List<String> list = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            list.add(String.valueOf(i));
+        }
+
+        assertEquals(ImmutableList.of(0, 2, 4), parser.stream(list).filter(i -> i % 2 == 0).limit(3).collect(Collectors.toList()));
+        assertEquals(5, count.get());
+        assertEquals(499500, Types.INTEGER.stream(list).parallel().mapToInt(Integer::intValue).sum());
+        assertEquals(499500, Types.INTEGER.stream(list.toArray()).parallel().mapToInt(Integer::intValue).sum());
+
+        assertTrue(Types.INTEGER.spliterator(list).hasCharacteristics(Spliterator.SUBSIZED));
+        assertTrue(Types.INTEGER.spliterator(new int[] { 1, 2 }).hasCharacteristics(Spliterator.SIZED));
+        assertEquals(3, Types.INTEGER.spliterator(new LinkedList<>(ImmutableList.of(1, 2, 3))).getExactSizeIfKnown());
+        assertEquals(ImmutableList.of(1, 2), Types.INTEGER.stream(new double[] { 1.5, 2.5 }).collect(Collectors.toList()));
+        assertEquals(ImmutableList.of(15), Types.INTEGER.stream("15").collect(Collectors.toList()));
+        assertEquals(0, Types.INTEGER.stream(null).count());
+
+        final Iterator<Integer> iterator = Types.INTEGER.iterator(ImmutableList.of("1", "2"));
+        assertEquals(1, iterator.next());
+        assertEquals(2, iterator.next());
+        assertFalse(iterator.hasNext());
+    }
+
+    @Test
+    public void testView() {
+        final AtomicInteger count = new AtomicInteger();
+        final TypeParser<Integer> parser = object -> {
+            count.incrementAndGet();
+            return Types.INTEGER.parse(object);
+        };
+
+        final List<Integer> list = parser.list().view(ImmutableList.of("1", "2", "3"));
+        assertEquals(3, list.size());
+        assertEquals(0, count.get());
+        assertEquals(2, list.get(1));
+        assertEquals(2, list.get(1));
+        assertEquals(1, count.get());
+        assertEquals(ImmutableList.of(1, 2, 3), list);
+        assertEquals(ImmutableList.of(4, 5), Types.INTEGER.list().view(new double[] { 4.2, 5.7 }, false));
+
+        // Memoized elements are safely shared between threads
+        final List<Integer> shared = Types.INTEGER.list().view(new String[] { "1", "2", "3", "4" });
+        assertTrue(IntStream.range(0, 1000).parallel().allMatch(i -> shared.get(i % 4) == i % 4 + 1));
+
+        count.set(0);
+        final Map<Integer, Integer> map = MapParser.of(Types.INTEGER, parser).view(ImmutableMap.of("1", "10", "2", "20", "3", "30"));
+        assertEquals(3, map.size());
+        assertEquals(20, map.get(2));
+        assertEquals(1, count.get());
+        assertTrue(map.containsKey(3));
+        assertEquals(ImmutableMap.of(1, 10, 2, 20, 3, 30), map);
+    }
+
+    @Test
+    public void testListener() {
+        final ParseMetrics metrics = new ParseMetrics();
+        Types.addListener(metrics);
+        try {
+            assertEquals(10, Types.parse(Integer.class, "10"));
+            assertEquals(5, Types.parse(Integer.class, null, 5));
+            assertThrows(NumberFormatException.class, () -> Types.parse(Integer.class, "text"));
+            assertEquals(7, Types.INTEGER.parseOrDefault("invalid", 7));
+            assertEquals(8, Types.INTEGER.parseOrDefault("8", 0));
+        } finally {
+            assertTrue(Types.removeListener(metrics));
+        }
+        assertEquals(10, Types.parse(Integer.class, "10"));
+
+        final ParseMetrics.Stats stats = metrics.get(Integer.class);
+        assertEquals(3, stats.getCount());
+        assertEquals(2, stats.getFailureCount());
+        assertEquals(1, stats.getFailureCount(NumberFormatException.class));
+        assertEquals(2, stats.getDefaultCount());
+        assertEquals(5, Arrays.stream(stats.getHistogram()).sum());
+
+        final ParseMetrics single = new ParseMetrics();
+        final TypeParser<Integer> parser = new InstrumentedTypeParser<>(TypeParser.of(Integer.class, object -> Integer.parseInt(String.valueOf(object))), single);
+        assertEquals(1, parser.parse("1"));
+        assertEquals(2, parser.parseOrDefault("x", 2));
+        assertEquals(1, single.get(Integer.class).getCount());
+        assertEquals(1, single.get(Integer.class).getFailureCount(NumberFormatException.class));
+        assertEquals(1, single.get(Integer.class).getDefaultCount());
+    }
 }
@@ -1,5 +1,6 @@
 package com.saicone.types;
 
+import com.saicone.types.parser.DurationParser;
 import org.junit.jupiter.api.Test;
 
 import java.net.MalformedURLException;
@@ -10,8 +11,16 @@ import java.time.Duration;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
 import java.util.Objects;
 import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -83,6 +92,37 @@ public class TypesTest {
         assertEquals(duration, Types.DURATION.parse("30 MINUTES"));
         assertEquals(duration, Types.DURATION.parse("1800 SECONDS"));
         assertEquals(duration, Types.DURATION.parse("1800000 MILLISECONDS"));
+        assertEquals(duration, Types.DURATION.parse(new StringBuilder("20 minutes AND 600 seconds")));
+        assertEquals(duration, Types.DURATION.parse("15 MINUTES && 0.25 HOURS &"));
+        assertEquals(Duration.parse("PT1H2M"), Types.DURATION.parse("1 hoursAND2 minutes"));
+        assertEquals(Duration.parse("PT1H2M"), Types.DURATION.parse("1 HOURSAND 2 MINUTES"));
+        assertEquals(Duration.parse("PT1H2M"), Types.DURATION.parse("1 hours&&2 minutes"));
+        assertEquals(duration, DurationParser.INSTANCE.parseDuration("[29 minutes & 60 seconds]".toCharArray(), 1, 23));
+        assertThrows(IllegalArgumentException.class, () -> Types.DURATION.parse("30"));
+        assertThrows(IllegalArgumentException.class, () -> Types.DURATION.parse("30 SECOND AND AND 1 SECOND"));
+        assertEquals(duration, Types.DURATION.parse("30m"));
+        assertEquals(duration, Types.DURATION.parse("29m60s"));
+        assertEquals(duration, Types.DURATION.parse("0.5h"));
+        assertEquals(duration, Types.DURATION.parse("PT30M"));
+        assertEquals(duration, Types.DURATION.parse("pt0.5h"));
+        assertEquals(Duration.ofMinutes(90), Types.DURATION.parse("1h30m"));
+        assertEquals(Duration.ofMinutes(90), Types.DURATION.parse("1h 30 min"));
+        assertEquals(Duration.ofMillis(500), Types.DURATION.parse("500ms"));
+        assertEquals(Duration.ofNanos(1500), Types.DURATION.parse("1.5\u00B5s"));
+        assertEquals(Duration.parse("P2DT3H4M5.000000006S"), Types.DURATION.parse("P2DT3H4M5.000000006S"));
+        assertEquals(Duration.parse("-PT6H3M"), Types.DURATION.parse("-PT6H3M"));
+        assertEquals(Duration.parse("PT-6H+3M"), Types.DURATION.parse("PT-6H+3M"));
+        assertEquals(Duration.ofSeconds(-90), Types.DURATION.parse("-1.5 MINUTES"));
+        assertNull(Types.DURATION.parse("&& AND"));
+        assertThrows(IllegalArgumentException.class, () -> Types.DURATION.parse("PT"));
+        assertThrows(IllegalArgumentException.class, () -> Types.DURATION.parse("P1H"));
+        assertThrows(IllegalArgumentException.class, () -> Types.DURATION.parse("1h30"));
+        assertThrows(IllegalArgumentException.class, () -> Types.DURATION.parse("1 WEEK"));
+
+        final DurationParser cached = new DurationParser(16);
+        assertEquals(Duration.ofMinutes(90), cached.parse("1h30m"));
+        assertSame(cached.parse("1h30m"), cached.parse("1h30m"));
+        assertEquals(1, cached.getCache().size());
         // Date
         final LocalDate date = LocalDate.of(2024, 10, 24);
         assertEquals(date, Types.LOCAL_DATE.parse("2024-10-24"));
@@ -114,6 +154,96 @@ public class TypesTest {
         assertFalse(Types.contains(MyObject.class));
     }
 
+    @Test
+    public void testSupertypeLookup() {
+        assertEquals(Arrays.asList(1, 2), Types.of(ArrayList.class).parse(new int[] { 1, 2 }));
+        assertSame(Types.of(ArrayList.class), Types.of(new ArrayList<>()));
+        assertNull(Types.of(MySubObject.class).parse(null));
+        assertEquals(MySubObject.class, Types.of(MySubObject.class).getType());
+
+        Types.put(MyObject.class, MyObject::new);
+        // The supertype parser doesn't produce subtype instances
+        assertNull(Types.of(MySubObject.class).parse("test"));
+        final MySubObject subObject = new MySubObject("test");
+        assertSame(subObject, Types.of(MySubObject.class).parse(subObject));
+
+        Types.put(MySubObject.class, MySubObject::new);
+        assertEquals(new MySubObject("test"), Types.of(MySubObject.class).parse("test"));
+
+        Types.remove(MySubObject.class);
+        Types.remove(MyObject.class);
+        assertEquals("test", Types.of(MySubObject.class).parse("test"));
+    }
+
+    @Test
+    public void testSupertypeResult() {
+        // AtomicInteger is a subclass of registered Number type
+        final TypeParser<AtomicInteger> parser = Types.of(AtomicInteger.class);
+        assertDoesNotThrow(() -> {
+            final AtomicInteger value = parser.parse("1");
+            assertNull(value);
+        });
+        final AtomicInteger value = new AtomicInteger(1);
+        assertSame(value, parser.parse(value));
+        assertNull(new TypeOf<AtomicInteger>(){}.parse("1"));
+
+        // Inherited parsers return null instead of converting into the subtype
+        assertNull(Types.of(ArrayList.class).parse(Arrays.asList(1, 2)));
+        assertEquals(new ArrayList<>(Arrays.asList(1, 2)), Types.of(ArrayList.class).parse(new ArrayList<>(Arrays.asList(1, 2))));
+    }
+
+    @Test
+    public void testObjectArrayType() {
+        assertArrayEquals(new String[] { "a", "b" }, Types.of(String[].class).parse(Arrays.asList("a", "b")));
+        assertArrayEquals(new Integer[] { 1, 2 }, Types.of(Integer[].class).parse(Arrays.asList("1", 2.5)));
+        assertArrayEquals(new Integer[][] { { 1 }, { 2, 3 } }, Types.of(Integer[][].class).parse(Arrays.asList("1", new int[] { 2, 3 })));
+        assertInstanceOf(String[].class, Types.of(String[].class).parse("a"));
+    }
+
+    @Test
+    public void testConcurrentRegister() throws Exception {
+        final int writers = 4;
+        final int readers = 4;
+        final ExecutorService executor = Executors.newFixedThreadPool(writers + readers);
+        final CountDownLatch start = new CountDownLatch(1);
+        final List<Future<?>> futures = new ArrayList<>();
+        try {
+            for (int i = 0; i < writers; i++) {
+                final int writer = i;
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    for (int j = 0; j < 20_000; j++) {
+                        final String key = "stress_" + writer + "_" + j;
+                        Types.put(key, Types.STRING);
+                        assertEquals("1234", Types.parse(key, 1234));
+                        Types.remove(key);
+                    }
+                    return null;
+                }));
+            }
+            for (int i = 0; i < readers; i++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    for (int j = 0; j < 20_000; j++) {
+                        assertEquals(1234, Types.parse(int.class, "1234"));
+                        assertEquals("[1, 2]", Types.parse("text", new int[] { 1, 2 }));
+                        assertTrue(Types.contains(String.class));
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        for (int i = 0; i < writers; i++) {
+            assertFalse(Types.contains("stress_" + i + "_0"));
+        }
+    }
+
     static class MyObject {
 
         private final Object object;
@@ -141,4 +271,11 @@ public class TypesTest {
             return object != null ? object.hashCode() : 0;
         }
     }
+
+    static class MySubObject extends MyObject {
+
+        MySubObject(Object object) {
+            super(object);
+        }
+    }
 }
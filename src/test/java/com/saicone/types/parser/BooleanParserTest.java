@@ -5,6 +5,8 @@ import org.junit.jupiter.api.Test;
 
 import java.math.BigDecimal;
 import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
@@ -72,6 +74,31 @@ public class BooleanParserTest {
         }
     }
 
+    @Test
+    public void testParseCharSequence() {
+        for (String s : TRUE_STRING) {
+            assertTrue(BooleanParser.isValid(new StringBuilder(s.toUpperCase())));
+            assertEquals(Boolean.TRUE, BooleanParser.INSTANCE.parse(new StringBuilder(" " + s.toUpperCase() + " ")));
+            assertEquals(Boolean.TRUE, BooleanParser.INSTANCE.parseBoolean(("[" + s + "]").toCharArray(), 1, s.length()));
+        }
+        for (String s : FALSE_STRING) {
+            assertTrue(BooleanParser.isValid(new StringBuilder(s.toUpperCase())));
+            assertEquals(Boolean.FALSE, BooleanParser.INSTANCE.parse(new StringBuilder(" " + s.toUpperCase() + " ")));
+            assertEquals(Boolean.FALSE, BooleanParser.INSTANCE.parseBoolean(("[" + s + "]").toCharArray(), 1, s.length()));
+        }
+        assertFalse(BooleanParser.isValid(new StringBuilder("1")));
+        assertEquals(Boolean.TRUE, BooleanParser.INSTANCE.parse(new StringBuilder("1")));
+        assertNull(BooleanParser.INSTANCE.parse(new StringBuilder("tru")));
+    }
+
+    @Test
+    public void testParseBytes() {
+        final byte[] bytes = "enabled=YES,debug=off".getBytes(StandardCharsets.US_ASCII);
+        assertEquals(Boolean.TRUE, BooleanParser.INSTANCE.parseBoolean(bytes, 8, 3));
+        assertEquals(Boolean.FALSE, BooleanParser.INSTANCE.parseBoolean(ByteBuffer.wrap(bytes), 18, 3));
+        assertNull(BooleanParser.INSTANCE.parseBoolean(bytes, 0, 7));
+    }
+
     private static final List<Number> TRUE_INTEGER = ImmutableList.of(
             (byte) 1,
             (short) 1,
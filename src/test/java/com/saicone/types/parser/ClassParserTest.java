@@ -1,11 +1,15 @@
 package com.saicone.types.parser;
 
 import com.google.common.collect.ImmutableMap;
+import com.saicone.types.ParseResult;
 import org.junit.jupiter.api.Test;
 
 import java.util.Map;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 public class ClassParserTest {
 
@@ -99,4 +103,21 @@ public class ClassParserTest {
             assertEquals(entry.getKey(), ClassParser.INSTANCE.parse(entry.getValue()));
         }
     }
+
+    @Test
+    public void testTryParse() {
+        assertEquals(String[].class, ClassParser.INSTANCE.tryParse("java/lang/String[]").getValue());
+        assertEquals(int[].class, ClassParser.INSTANCE.tryParse("[I").getValue());
+        assertTrue(ClassParser.INSTANCE.tryParse(null).isEmpty());
+
+        final ParseResult<Class<?>> malformed = ClassParser.INSTANCE.tryParse("java..lang.String");
+        assertTrue(malformed.isFailure());
+        assertNull(malformed.getCause());
+        assertTrue(ClassParser.INSTANCE.tryParse("[X").isFailure());
+        assertTrue(ClassParser.INSTANCE.tryParse("").isFailure());
+
+        final ParseResult<Class<?>> missing = ClassParser.INSTANCE.tryParse("com.saicone.types.MissingClass");
+        assertTrue(missing.isFailure());
+        assertInstanceOf(ClassNotFoundException.class, missing.getCause());
+    }
 }
@@ -2,7 +2,14 @@ package com.saicone.types.parser;
 
 import org.junit.jupiter.api.Test;
 
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 public class EnumParserTest {
 
@@ -61,6 +68,40 @@ public class EnumParserTest {
         assertEquals(EnumB.FOURTH, ENUM_B_PARSER.parse(EnumA.FOUR));
     }
 
+    @Test
+    public void testParseInvalid() {
+        assertNull(ENUM_A_PARSER.parse("FIVE"));
+        assertNull(ENUM_A_PARSER.parse(""));
+        assertNull(ENUM_A_PARSER.parse("-5u"));
+        assertNull(ENUM_A_PARSER.parse(10));
+        assertEquals(EnumA.TWO, ENUM_A_PARSER.parse("0x1"));
+    }
+
+    @Test
+    public void testParseAlias() {
+        assertEquals(EnumA.ONE, ENUM_A_PARSER.parse("one"));
+        assertEquals(EnumA.FOUR, ENUM_A_PARSER.parse(new StringBuilder("fOuR")));
+        assertSame(ENUM_A_PARSER, EnumParser.of(EnumA.class));
+
+        final EnumParser<EnumC> parser = EnumParser.of(EnumC.class);
+        assertEquals(EnumC.RED, parser.parse("crimson"));
+        assertEquals(EnumC.RED, parser.parse("#F00"));
+        assertEquals(EnumC.GREEN, parser.parse("Lime"));
+        assertEquals(EnumC.BLUE, parser.parse("blue"));
+        assertEquals(EnumC.BLUE, parser.parse("2"));
+
+        final Map<String, EnumC> aliases = new HashMap<>();
+        aliases.put("sky", EnumC.BLUE);
+        aliases.put("1", EnumC.RED);
+        final EnumParser<EnumC> aliasParser = EnumParser.of(EnumC.class, aliases);
+        assertEquals(EnumC.BLUE, aliasParser.parse("SKY"));
+        assertEquals(EnumC.RED, aliasParser.parse("crimson"));
+        assertEquals(EnumC.RED, aliasParser.parse("1"));
+        assertNull(parser.parse("sky"));
+
+        assertThrows(IllegalArgumentException.class, () -> EnumParser.of(EnumC.class, Collections.singletonMap("lime", EnumC.BLUE)));
+    }
+
     public enum EnumA {
         ONE,
         TWO,
@@ -74,4 +115,12 @@ public class EnumParserTest {
         THIRD,
         FOURTH;
     }
+
+    public enum EnumC {
+        @EnumParser.Alias({"crimson", "#F00"})
+        RED,
+        @EnumParser.Alias("lime")
+        GREEN,
+        BLUE;
+    }
 }
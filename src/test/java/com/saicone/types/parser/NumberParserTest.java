@@ -1,11 +1,19 @@
 package com.saicone.types.parser;
 
+import com.saicone.types.ParseResult;
 import org.junit.jupiter.api.Test;
 
 import java.math.BigDecimal;
 import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 public class NumberParserTest {
 
@@ -254,6 +262,94 @@ public class NumberParserTest {
         assertEquals((double) -0.05d, NumberParser.NUMBER.parse("-0.05D"));
         assertEquals((double) 0.05d, NumberParser.NUMBER.parse("0.05"));
         assertEquals((double) -0.05d, NumberParser.NUMBER.parse("-0.05"));
+
+        assertEquals(Long.MAX_VALUE, NumberParser.NUMBER.parse("9223372036854775807"));
+        assertEquals(Long.MIN_VALUE, NumberParser.NUMBER.parse("-9223372036854775808"));
+        assertEquals(new BigInteger("9223372036854775808"), NumberParser.NUMBER.parse("9223372036854775808"));
+        assertEquals(new BigInteger("-9999999999999999999"), NumberParser.NUMBER.parse("-9999999999999999999"));
+        assertEquals(16L, NumberParser.NUMBER.parse("0x10"));
+        assertEquals(-15L, NumberParser.NUMBER.parse("-017"));
+    }
+
+    @Test
+    public void testParsePrimitive() {
+        assertEquals(50, NumberParser.parseInt("50"));
+        assertEquals(50, NumberParser.parseInt("+50i"));
+        assertEquals(-50, NumberParser.parseInt("-50I"));
+        assertEquals(50, NumberParser.parseInt("0b110010"));
+        assertEquals(50, NumberParser.parseInt("0x32"));
+        assertEquals(50, NumberParser.parseInt("#32"));
+        assertEquals(50, NumberParser.parseInt("0o62"));
+        assertEquals(50, NumberParser.parseInt("062"));
+        assertEquals(89, NumberParser.parseInt("089"));
+        assertEquals(Integer.MIN_VALUE, NumberParser.parseInt("-2147483648"));
+        assertEquals(-1, NumberParser.parseInt("4294967295u"));
+        assertEquals(-1, NumberParser.parseInt("0xFFFFFFFFu"));
+        assertEquals(50, NumberParser.parseInt("value=50;", 6, 8));
+        assertThrows(NumberFormatException.class, () -> NumberParser.parseInt("2147483648"));
+        assertThrows(NumberFormatException.class, () -> NumberParser.parseInt("4294967296u"));
+        assertThrows(NumberFormatException.class, () -> NumberParser.parseInt("0x"));
+        assertThrows(NumberFormatException.class, () -> NumberParser.parseInt("5a"));
+        assertThrows(IllegalArgumentException.class, () -> NumberParser.parseInt("-5u"));
+        assertThrows(IllegalArgumentException.class, () -> NumberParser.parseInt(" "));
+
+        assertEquals(50L, NumberParser.parseLong("50l"));
+        assertEquals(-50L, NumberParser.parseLong("-0x32"));
+        assertEquals(Long.MIN_VALUE, NumberParser.parseLong("-9223372036854775808"));
+        assertEquals(Long.MAX_VALUE, NumberParser.parseLong("0x7FFFFFFFFFFFFFFF"));
+        assertEquals(-1L, NumberParser.parseLong("18446744073709551615u"));
+        assertEquals(50L, NumberParser.parseLong(new StringBuilder("[50]"), 1, 3));
+        assertThrows(NumberFormatException.class, () -> NumberParser.parseLong("9223372036854775808"));
+        assertThrows(NumberFormatException.class, () -> NumberParser.parseLong("18446744073709551616u"));
+
+        assertEquals(0.05d, NumberParser.parseDouble("0.05"));
+        assertEquals(-0.05d, NumberParser.parseDouble("-0.05d"));
+        assertEquals(1.5e10d, NumberParser.parseDouble("1.5e10"));
+        assertEquals(1.5e-300d, NumberParser.parseDouble("1.5e-300"));
+        assertEquals(0.1234567890123456789d, NumberParser.parseDouble("0.1234567890123456789"));
+        assertEquals(50d, NumberParser.parseDouble("0x32"));
+        assertEquals(8d, NumberParser.parseDouble("010"));
+        assertEquals(-0.0d, NumberParser.parseDouble("-0"));
+        assertEquals(Double.POSITIVE_INFINITY, NumberParser.parseDouble("Infinity"));
+        assertEquals(0.05d, NumberParser.parseDouble("x=0.05", 2, 6));
+        assertThrows(NumberFormatException.class, () -> NumberParser.parseDouble("0.05.1"));
+        assertThrows(NumberFormatException.class, () -> NumberParser.parseDouble("1e"));
+
+        for (String s : new String[] { "1", "0.1", "0.3", "3.14159", "123456.789", "9007199254740993", "4.35", "1e22", "1e23", "0.000001", "2.2250738585072014E-308" }) {
+            assertEquals(Double.parseDouble(s), NumberParser.parseDouble(s));
+        }
+    }
+
+    @Test
+    public void testParseCharSequence() {
+        assertEquals((byte) 50, NumberParser.BYTE.parse(new StringBuilder("0x32")));
+        assertEquals((short) -50, NumberParser.SHORT.parse(new StringBuilder("-50s")));
+        assertEquals((int) 50, NumberParser.INTEGER.parse(new StringBuilder("50u")));
+        assertEquals((long) 50L, NumberParser.LONG.parse("{50L}".toCharArray(), 1, 3));
+        assertEquals((float) 0.05f, NumberParser.FLOAT.parse("a=0.05f".toCharArray(), 2, 5));
+        assertEquals((double) 0.05d, NumberParser.DOUBLE.parse(CharBuffer.wrap("0.05")));
+        assertEquals(BigInteger.valueOf(50L), NumberParser.BIG_INTEGER.parse(new StringBuilder("062")));
+        assertEquals((float) 0.05f, NumberParser.NUMBER.parse(new StringBuilder("0.05f")));
+        assertEquals((int) 50, NumberParser.NUMBER.parse("x50i".toCharArray(), 1, 3));
+    }
+
+    @Test
+    public void testParseBytes() {
+        final byte[] bytes = "id=-0x32;size=1234567890123u;ratio=0.05;".getBytes(StandardCharsets.US_ASCII);
+        assertEquals(-50, NumberParser.parseInt(bytes, 3, 5));
+        assertEquals(1234567890123L, NumberParser.parseLong(bytes, 14, 14));
+        assertEquals(0.05d, NumberParser.parseDouble(bytes, 35, 4));
+
+        final ByteBuffer buffer = ByteBuffer.allocateDirect(bytes.length);
+        buffer.put(bytes).flip().position(10);
+        assertEquals(-50, NumberParser.parseInt(buffer, 3, 5));
+        assertEquals(1234567890123L, NumberParser.parseLong(buffer, 14, 14));
+        assertEquals(0.05d, NumberParser.parseDouble(buffer, 35, 4));
+        assertEquals(10, buffer.position());
+
+        assertEquals((short) -50, NumberParser.SHORT.parse(bytes, 3, 5));
+        assertEquals(BigInteger.valueOf(1234567890123L), NumberParser.BIG_INTEGER.parse(buffer, 14, 14));
+        assertThrows(NumberFormatException.class, () -> NumberParser.parseInt("1²".getBytes(StandardCharsets.UTF_8), 0, 3));
     }
 
     public enum EnumA {
@@ -265,4 +361,83 @@ public class NumberParserTest {
         SIX,
         SEVEN;
     }
+
+    @Test
+    public void testParseDecimalExact() {
+        final String[] inputs = {
+                "0.1", "0.2", "0.3", "1.7976931348623157e308", "1.7976931348623158e308", "2.2250738585072014e-308",
+                "4.9e-324", "1e23", "8.98846567431158e307", "9007199254740993", "9007199254740992.5", "2.5e-5",
+                "3.4028235e38", "3.4028236e38", "1.17549435e-38", "1.4e-45", "16777217", "0.000000000000000000000000000001",
+                "123456789012345678901234567890", "1.00000000000000011102230246251565404236316680908203125",
+                "1.00000000000000011102230246251565404236316680908203124", "7.0e-10", "1e-400", "1e400", "0e10", "0.0"
+        };
+        for (String input : inputs) {
+            assertEquals(Double.doubleToLongBits(Double.parseDouble(input)), Double.doubleToLongBits(NumberParser.DOUBLE.parse(input)), input);
+            assertEquals(Float.floatToIntBits(Float.parseFloat(input)), Float.floatToIntBits(NumberParser.FLOAT.parse(input)), input);
+        }
+
+        assertEquals(Double.parseDouble("12345678901234567e-300"), FastDecimal.toDouble(12345678901234567L, -300, false));
+        assertEquals(Float.parseFloat("1234567891e-30"), FastDecimal.toFloat(1234567891L, -30, false));
+
+        final Random random = new Random(42);
+        for (int i = 0; i < 20000; i++) {
+            final String[] values = {
+                    Double.toString(Double.longBitsToDouble(random.nextLong() & Long.MAX_VALUE)),
+                    Float.toString(Float.intBitsToFloat(random.nextInt() & Integer.MAX_VALUE)),
+                    Math.abs(random.nextLong()) + "." + Math.abs(random.nextLong()) + "e" + (random.nextInt(640) - 320),
+                    Math.abs(random.nextLong() % 10000000000L) + "e" + (random.nextInt(90) - 45)
+            };
+            for (String value : values) {
+                if (value.contains("N") || value.contains("I")) {
+                    continue;
+                }
+                assertEquals(Double.doubleToLongBits(Double.parseDouble(value)), Double.doubleToLongBits(NumberParser.DOUBLE.parse(value)), value);
+                assertEquals(Float.floatToIntBits(Float.parseFloat(value)), Float.floatToIntBits(NumberParser.FLOAT.parse(value)), value);
+            }
+        }
+    }
+
+    @Test
+    public void testTryParse() {
+        final String[] inputs = {
+                "50", "-50", "+50", "50b", "50S", "50i", "50l", "50f", "50.5d", "0x7F", "0x80", "#FF", "0b101", "-0b101",
+                "017", "0o17", "0x-5", "5u", "-5u", "0xFFFFFFFFu", "0xFFFFFFFFFFFFFFFFu", "127", "128", "-128", "-129",
+                "2147483648", "-2147483648", "9223372036854775808", "12345678901234567890123", "0.5", ".5", "5.", "1e10",
+                "1.5e-3", "1e", "NaN", "-Infinity", " 12.5 ", "12.5ff", "0.1234567890123456789", "", " ", "-", "+", "u",
+                "abc", "12a", "1.2.3", "--5", "+-5", "0x", "#", "5uu", "b", "1_000"
+        };
+        final NumberParser<?>[] parsers = {
+                NumberParser.NUMBER, NumberParser.BYTE, NumberParser.SHORT, NumberParser.INTEGER, NumberParser.FLOAT,
+                NumberParser.LONG, NumberParser.DOUBLE, NumberParser.BIG_INTEGER, NumberParser.BIG_DECIMAL
+        };
+        for (NumberParser<?> parser : parsers) {
+            for (String input : inputs) {
+                Object expected;
+                try {
+                    expected = parser.parse(input);
+                } catch (IllegalArgumentException e) {
+                    expected = e;
+                }
+                final ParseResult<?> result = parser.tryParse(input);
+                if (expected instanceof IllegalArgumentException) {
+                    assertTrue(result.isFailure(), () -> parser.getType() + " parsed '" + input + "' as " + result);
+                } else {
+                    assertEquals(expected, result.getValue(), () -> parser.getType() + " with '" + input + "'");
+                }
+            }
+        }
+
+        assertTrue(NumberParser.BYTE.tryParse(300).isFailure());
+        assertEquals((byte) 50, NumberParser.BYTE.tryParse(50).getValue());
+        assertEquals(1, NumberParser.INTEGER.tryParse(true).getValue());
+        assertTrue(NumberParser.INTEGER.tryParse(null).isEmpty());
+        assertEquals(15, NumberParser.INTEGER.tryParse("[15, 16]", 1, 3).getValue());
+
+        assertTrue(NumberParser.BIG_DECIMAL.tryParse(Double.NaN).isFailure());
+        assertTrue(NumberParser.BIG_DECIMAL.tryParse(Double.POSITIVE_INFINITY).isFailure());
+        assertTrue(NumberParser.BIG_INTEGER.tryParse(Float.NEGATIVE_INFINITY).isFailure());
+        assertEquals(BigDecimal.ONE, NumberParser.BIG_DECIMAL.parseOrDefault(Double.NaN, BigDecimal.ONE));
+        assertFalse(NumberParser.BIG_DECIMAL.optional(Double.NaN).isPresent());
+        assertEquals(Double.NaN, NumberParser.NUMBER.tryParse(Double.NaN).getValue());
+    }
 }
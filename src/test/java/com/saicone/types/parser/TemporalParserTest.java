@@ -1,12 +1,25 @@
 package com.saicone.types.parser;
 
+import com.saicone.types.iterator.ArrayIterator;
 import org.junit.jupiter.api.Test;
 
+import java.lang.reflect.Type;
+import java.time.Clock;
+import java.time.Instant;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 public class TemporalParserTest {
 
@@ -35,6 +48,8 @@ public class TemporalParserTest {
         assertEquals(LOCAL_DATE, TemporalParser.LOCAL_DATE.parse(new int[] { 2025, 2 }));
         assertEquals(LOCAL_DATE, TemporalParser.LOCAL_DATE.parse(new int[] { 2025, 1, 2 }));
         assertEquals(LOCAL_DATE, TemporalParser.LOCAL_DATE.parse("2025-01-02"));
+        assertEquals(LOCAL_DATE, TemporalParser.LOCAL_DATE.parse(new StringBuilder("2025-01-02")));
+        assertEquals(LOCAL_DATE, TemporalParser.LOCAL_DATE.parseTemporal("date=2025-01-02".toCharArray(), 5, 10));
     }
 
     @Test
@@ -57,5 +72,146 @@ public class TemporalParserTest {
         assertEquals(LOCAL_DATE_TIME1, TemporalParser.LOCAL_DATE_TIME.parse("2025-01-02T07:08"));
         assertEquals(LOCAL_DATE_TIME2, TemporalParser.LOCAL_DATE_TIME.parse("2025-01-02T07:08:09"));
         assertEquals(LOCAL_DATE_TIME3, TemporalParser.LOCAL_DATE_TIME.parse("2025-01-02T07:08:09.000000010"));
+        assertEquals(LOCAL_DATE_TIME2, TemporalParser.LOCAL_DATE_TIME.parse(new StringBuilder("2025-01-02T07:08:09")));
+    }
+
+    @Test
+    public void testParseInstant() {
+        final Instant instant = LOCAL_DATE_TIME3.toInstant(ZoneOffset.UTC);
+        assertEquals(Instant.ofEpochSecond(1735801689L), TemporalParser.INSTANT.parse(1735801689L));
+        assertEquals(instant, TemporalParser.INSTANT.parse(new int[] { 2025, 1, 2, 7, 8, 9, 10 }));
+        assertEquals(instant, TemporalParser.INSTANT.parse("2025-01-02T07:08:09.000000010Z"));
+        assertEquals(instant, TemporalParser.INSTANT.parse("2025-01-02T09:08:09.000000010+02:00"));
+        assertEquals(instant, TemporalParser.INSTANT.parse("2025-01-01T23:08:09.000000010-08:00"));
+        assertEquals(Instant.parse("1969-12-31T23:59:59.999Z"), TemporalParser.INSTANT.parse("1969-12-31T23:59:59.999Z"));
+        assertEquals(Instant.parse("0001-01-01T00:00:00Z"), TemporalParser.INSTANT.parse("0001-01-01T00:00:00Z"));
+        assertEquals(Instant.parse("2024-02-29T12:00:00Z"), TemporalParser.INSTANT.parse("2024-02-29T12:00:00Z"));
+    }
+
+    @Test
+    public void testParseOffsetDateTime() {
+        final OffsetDateTime offsetDateTime = OffsetDateTime.of(LOCAL_DATE_TIME3, ZoneOffset.ofHours(2));
+        assertEquals(OffsetDateTime.of(LOCAL_DATE_TIME2, ZoneId.systemDefault().getRules().getOffset(LOCAL_DATE_TIME2)), TemporalParser.OFFSET_DATE_TIME.parse(new int[] { 2025, 1, 2, 7, 8, 9 }));
+        assertEquals(offsetDateTime, TemporalParser.OFFSET_DATE_TIME.parse("2025-01-02T07:08:09.000000010+02:00"));
+        assertEquals(OffsetDateTime.of(LOCAL_DATE_TIME1, ZoneOffset.UTC), TemporalParser.OFFSET_DATE_TIME.parse("2025-01-02T07:08Z"));
+        assertEquals(OffsetDateTime.of(LOCAL_DATE_TIME2, ZoneOffset.ofHoursMinutesSeconds(-5, -30, -15)), TemporalParser.OFFSET_DATE_TIME.parse("2025-01-02T07:08:09-05:30:15"));
+    }
+
+    @Test
+    public void testParseZonedDateTime() {
+        final ZoneId zone = ZoneId.of("Europe/Paris");
+        assertEquals(ZonedDateTime.of(LOCAL_DATE_TIME2, zone), TemporalParser.ZONED_DATE_TIME.parse("2025-01-02T07:08:09+01:00[Europe/Paris]"));
+        assertEquals(ZonedDateTime.of(LOCAL_DATE_TIME2, ZoneOffset.ofHours(1)), TemporalParser.ZONED_DATE_TIME.parse("2025-01-02T07:08:09+01:00"));
+        assertEquals(ZonedDateTime.parse("2025-07-02T07:08:09+02:00[Europe/Paris]"), TemporalParser.ZONED_DATE_TIME.parse("2025-07-02T07:08:09+02:00[Europe/Paris]"));
+        assertEquals(ZonedDateTime.parse("2025-07-02T07:08:09+05:00[Europe/Paris]"), TemporalParser.ZONED_DATE_TIME.parse("2025-07-02T07:08:09+05:00[Europe/Paris]"));
+    }
+
+    @Test
+    public void testParseFallback() {
+        // Valid text with unusual layout
+        assertEquals(LocalDate.parse("+12025-01-02"), TemporalParser.LOCAL_DATE.parse("+12025-01-02"));
+        assertEquals(LocalDateTime.parse("2025-01-02t07:08:09"), TemporalParser.LOCAL_DATE_TIME.parse("2025-01-02t07:08:09"));
+        assertEquals(Instant.parse("2025-01-02T23:59:60Z"), TemporalParser.INSTANT.parse("2025-01-02T23:59:60Z"));
+        // Invalid text
+        assertNull(TemporalScanner.localDate("2025-02-29", 0, 10));
+        assertNull(TemporalScanner.localTime("24:00", 0, 5));
+        assertNull(TemporalScanner.localTime("07:08:09.0000000001", 0, 19));
+        assertThrows(DateTimeParseException.class, () -> TemporalParser.LOCAL_DATE.parse("2025-02-29"));
+        assertThrows(DateTimeParseException.class, () -> TemporalParser.LOCAL_DATE.parse("2025-13-02"));
+        assertThrows(DateTimeParseException.class, () -> TemporalParser.LOCAL_TIME.parse("07:60"));
+        assertThrows(DateTimeParseException.class, () -> TemporalParser.OFFSET_DATE_TIME.parse("2025-01-02T07:08:09+19:00"));
+        assertThrows(DateTimeParseException.class, () -> TemporalParser.ZONED_DATE_TIME.parse("2025-01-02T07:08:09+01:00[Nowhere/Zone]"));
+    }
+
+    @Test
+    public void testParseEpoch() {
+        final ZoneId zone = ZoneId.of("America/New_York");
+        final Instant instant = Instant.ofEpochSecond(1735801689L, 123456789);
+        final ZonedDateTime zoned = instant.atZone(zone);
+
+        assertEquals(Instant.ofEpochSecond(1735801689L).atZone(ZoneId.systemDefault()).toLocalDateTime(), TemporalParser.LOCAL_DATE_TIME.parse(1735801689L));
+        assertEquals(zoned.toLocalDateTime(), TemporalParser.LOCAL_DATE_TIME.withZone(zone, TimeUnit.NANOSECONDS).parse(1735801689123456789L));
+        assertEquals(zoned.toLocalDateTime().withNano(123456000), TemporalParser.LOCAL_DATE_TIME.withZone(zone, TimeUnit.MICROSECONDS).parse(1735801689123456L));
+        assertEquals(zoned.toLocalDateTime().withNano(123000000), TemporalParser.LOCAL_DATE_TIME.withZone(zone, TimeUnit.MILLISECONDS).parse(1735801689123L));
+        assertEquals(zoned.toLocalDateTime().withNano(0), TemporalParser.LOCAL_DATE_TIME.withClock(Clock.system(zone), TimeUnit.SECONDS).parse(1735801689L));
+        assertEquals(LocalDateTime.of(1969, 12, 31, 23, 59, 59, 999000000), TemporalParser.LOCAL_DATE_TIME.withZone(ZoneOffset.UTC, TimeUnit.MILLISECONDS).parse(-1L));
+        assertEquals(LocalDateTime.of(1970, 1, 3, 0, 0), TemporalParser.LOCAL_DATE_TIME.withZone(ZoneOffset.UTC, TimeUnit.DAYS).parse(2));
+
+        assertEquals(zoned.toLocalDate(), TemporalParser.LOCAL_DATE.withZone(zone, TimeUnit.NANOSECONDS).parse(1735801689123456789L));
+        assertEquals(zoned.toLocalTime(), TemporalParser.LOCAL_TIME.withZone(zone, TimeUnit.NANOSECONDS).parse(1735801689123456789L));
+        assertEquals(instant, TemporalParser.INSTANT.withZone(zone, TimeUnit.NANOSECONDS).parse(1735801689123456789L));
+        assertEquals(zoned.toOffsetDateTime(), TemporalParser.OFFSET_DATE_TIME.withZone(zone, TimeUnit.NANOSECONDS).parse(1735801689123456789L));
+        assertEquals(zoned, TemporalParser.ZONED_DATE_TIME.withZone(zone, TimeUnit.NANOSECONDS).parse(1735801689123456789L));
+
+        // Custom parsers without epoch conversion use its own parsing
+        final TemporalParser<Instant> custom = new TemporalParser<Instant>() {
+            @Override
+            public Type getType() {
+                return Instant.class;
+            }
+
+            @Override
+            public Instant parseTemporal(Number number) {
+                return Instant.ofEpochSecond(number.longValue());
+            }
+
+            @Override
+            public Instant parseTemporal(ArrayIterator<Integer> iterator) {
+                return null;
+            }
+
+            @Override
+            public Instant parseTemporal(String s) {
+                return Instant.parse(s);
+            }
+        };
+        assertEquals(Instant.ofEpochMilli(1500L), custom.withZone(zone, TimeUnit.MILLISECONDS).parse(1500L));
+        final TemporalParser<LocalDate> customDate = new TemporalParser<LocalDate>() {
+            @Override
+            public Type getType() {
+                return LocalDate.class;
+            }
+
+            @Override
+            public LocalDate parseTemporal(Number number) {
+                return LocalDate.ofEpochDay(number.longValue());
+            }
+
+            @Override
+            public LocalDate parseTemporal(ArrayIterator<Integer> iterator) {
+                return null;
+            }
+
+            @Override
+            public LocalDate parseTemporal(String s) {
+                return LocalDate.parse(s.substring(0, 10));
+            }
+        };
+        assertEquals(LocalDate.of(1970, 1, 2), customDate.withZone(ZoneOffset.UTC, TimeUnit.SECONDS).parse(86400L));
+        // Local fields are resolved at the provided zone
+        assertEquals(LocalDate.of(1970, 1, 2), customDate.withZone(ZoneId.of("Asia/Tokyo"), TimeUnit.SECONDS).parse(82800L));
+        assertEquals(LocalDate.of(1970, 1, 1), customDate.withZone(ZoneId.of("America/New_York"), TimeUnit.SECONDS).parse(86400L));
+        assertEquals(TemporalParser.LOCAL_DATE.withZone(ZoneId.of("Asia/Tokyo"), TimeUnit.SECONDS).parse(82800L), customDate.withZone(ZoneId.of("Asia/Tokyo"), TimeUnit.SECONDS).parse(82800L));
+
+        // Other objects are delegated
+        assertEquals(LOCAL_DATE_TIME2, TemporalParser.LOCAL_DATE_TIME.withZone(zone, TimeUnit.SECONDS).parse("2025-01-02T07:08:09"));
+        assertEquals(LOCAL_DATE_TIME2, TemporalParser.LOCAL_DATE_TIME.withZone(zone, TimeUnit.SECONDS).parse(new int[] { 2025, 1, 2, 7, 8, 9 }));
+    }
+
+    @Test
+    public void testParseEpochTransitions() {
+        final ZoneId zone = ZoneId.of("Europe/London");
+        final ZonedTemporalParser<ZonedDateTime> parser = TemporalParser.ZONED_DATE_TIME.withZone(zone, TimeUnit.SECONDS);
+        // Around daylight saving transitions
+        final long transition = ZonedDateTime.of(LocalDateTime.of(2025, 3, 30, 1, 0), ZoneOffset.UTC).toEpochSecond();
+        for (long epochSecond = transition - 2; epochSecond <= transition + 2; epochSecond++) {
+            assertEquals(Instant.ofEpochSecond(epochSecond).atZone(zone), parser.parse(epochSecond));
+        }
+        // Random timestamps with cache window changes
+        final Random random = new Random(22);
+        for (int i = 0; i < 20000; i++) {
+            final long epochSecond = random.nextLong() % 10_000_000_000L;
+            assertEquals(Instant.ofEpochSecond(epochSecond).atZone(zone), parser.parse(epochSecond));
+        }
     }
 }
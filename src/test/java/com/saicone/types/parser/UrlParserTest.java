@@ -1,5 +1,6 @@
 package com.saicone.types.parser;
 
+import com.saicone.types.ParseResult;
 import org.junit.jupiter.api.Test;
 
 import java.io.File;
@@ -9,6 +10,8 @@ import java.nio.file.Path;
 import java.nio.file.Paths;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 public class UrlParserTest {
 
@@ -47,4 +50,17 @@ public class UrlParserTest {
     public void testParsePath() {
         assertEquals(URL_PATH, UrlParser.INSTANCE.parse(PATH));
     }
+
+    @Test
+    public void testTryParse() {
+        assertEquals(URL_HTTPS, UrlParser.INSTANCE.tryParse("https://some/kind/of/path").getValue());
+        assertEquals(URL_HTTPS, UrlParser.INSTANCE.tryParse(" url:https://some/kind/of/path ").getValue());
+        assertEquals(URL_PATH, UrlParser.INSTANCE.tryParse(PATH).getValue());
+
+        final ParseResult<URL> result = UrlParser.INSTANCE.tryParse("some/kind/of/path");
+        assertTrue(result.isFailure());
+        assertNull(result.getCause());
+        assertTrue(UrlParser.INSTANCE.tryParse("1https://some").isFailure());
+        assertTrue(UrlParser.INSTANCE.tryParse("unknown://some").isFailure());
+    }
 }
@@ -1,10 +1,21 @@
 package com.saicone.types.parser;
 
+import com.saicone.types.ParseResult;
 import org.junit.jupiter.api.Test;
 
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Random;
 import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 public class UuidParserTest {
 
@@ -21,13 +32,97 @@ public class UuidParserTest {
         assertEquals(ID, UuidParser.INSTANCE.parse("7ca003dc175f4f1fb4905651045311ad"));
     }
 
+    @Test
+    public void testParseCharSequence() {
+        assertEquals(ID, UuidParser.INSTANCE.parse(new StringBuilder("7ca003dc-175f-4f1f-b490-5651045311ad")));
+        assertEquals(ID, UuidParser.INSTANCE.parseUuid(new StringBuilder("7CA003DC175F4F1FB4905651045311AD")));
+        assertEquals(ID, UuidParser.INSTANCE.parseUuid("[7ca003dc-175f-4f1f-b490-5651045311ad]".toCharArray(), 1, 36));
+        assertEquals(new UUID(-1L, -1L), UuidParser.INSTANCE.parseUuid("ffffffff-ffff-ffff-ffff-ffffffffffff"));
+        assertThrows(IllegalArgumentException.class, () -> UuidParser.INSTANCE.parseUuid("7ca003dc-175f-4f1f-b490-5651045311az"));
+        assertThrows(IllegalArgumentException.class, () -> UuidParser.INSTANCE.parseUuid("7ca003dc175f4f1fb4905651045311az"));
+        // Signed components and non-ASCII digits are not accepted
+        assertThrows(IllegalArgumentException.class, () -> UuidParser.INSTANCE.parseUuid("+7ca003dc-175f-4f1f-b490-5651045311a"));
+        assertThrows(IllegalArgumentException.class, () -> UuidParser.INSTANCE.parseUuid("7ca003dc-175f-4f1f-b490-565104531\u0663ad"));
+        assertThrows(IllegalArgumentException.class, () -> UuidParser.INSTANCE.parseUuid("7ca003dc-175f-4f1f-b490_5651045311ad"));
+    }
+
+    @Test
+    public void testParseRandom() {
+        final Random random = new Random(24);
+        for (int i = 0; i < 10000; i++) {
+            final UUID uuid = new UUID(random.nextLong(), random.nextLong());
+            final String s = uuid.toString();
+            assertEquals(uuid, UuidParser.INSTANCE.parse(s));
+            assertEquals(uuid, UuidParser.INSTANCE.parse(s.toUpperCase().replace("-", "")));
+            assertEquals(uuid, UuidParser.INSTANCE.parse(new int[] {
+                    (int) (uuid.getMostSignificantBits() >> 32), (int) uuid.getMostSignificantBits(),
+                    (int) (uuid.getLeastSignificantBits() >> 32), (int) uuid.getLeastSignificantBits()
+            }));
+        }
+    }
+
+    @Test
+    public void testParseBytes() {
+        final byte[] bytes = "uuid=7ca003dc-175f-4f1f-b490-5651045311ad;7ca003dc175f4f1fb4905651045311ad".getBytes(StandardCharsets.US_ASCII);
+        assertEquals(ID, UuidParser.INSTANCE.parseUuid(bytes, 5, 36));
+        assertEquals(ID, UuidParser.INSTANCE.parseUuid(ByteBuffer.wrap(bytes), 42, 32));
+        assertEquals(ID, UuidParser.INSTANCE.parse(ByteBuffer.wrap(bytes, 5, 36)));
+    }
+
+    @Test
+    public void testParseBinary() {
+        final ByteBuffer buffer = ByteBuffer.allocate(20);
+        buffer.putInt(0).putLong(ID.getMostSignificantBits()).putLong(ID.getLeastSignificantBits());
+        final byte[] bytes = Arrays.copyOfRange(buffer.array(), 4, 20);
+
+        assertEquals(ID, UuidParser.INSTANCE.parse(bytes));
+        assertEquals(ID, UuidParser.INSTANCE.parseBinary(buffer.array(), 4));
+        assertEquals(ID, UuidParser.INSTANCE.parseBinary(ByteBuffer.wrap(buffer.array()).order(ByteOrder.LITTLE_ENDIAN), 4));
+        buffer.position(4);
+        assertEquals(ID, UuidParser.INSTANCE.parse(buffer));
+        assertEquals(4, buffer.position());
+        assertThrows(IndexOutOfBoundsException.class, () -> UuidParser.INSTANCE.parseBinary(bytes, 1));
+    }
+
     @Test
     public void testParseIntArray() {
         assertEquals(ID, UuidParser.INSTANCE.parse(new int[] { 2090861532, 392122143, -1265609135, 72552877 }));
+        // Two ints are read as most and least significant bits
+        assertEquals(new UUID(1L, 2L), UuidParser.INSTANCE.parse(new int[] { 1, 2 }));
+        assertNull(UuidParser.INSTANCE.parse(new int[] { 1, 2, 3 }));
     }
 
     @Test
     public void testParseLongArray() {
         assertEquals(ID, UuidParser.INSTANCE.parse(new long[] { 8980181900796579615L, -5435749844271296083L }));
+        // Four longs are read as ints
+        assertEquals(ID, UuidParser.INSTANCE.parse(new long[] { 2090861532L, 392122143L, -1265609135L, 72552877L }));
+        assertNull(UuidParser.INSTANCE.parse(new long[] { 1L }));
+    }
+
+    @Test
+    public void testTryParse() {
+        assertEquals(ID, UuidParser.INSTANCE.tryParse("7ca003dc-175f-4f1f-b490-5651045311ad").getValue());
+        assertEquals(ID, UuidParser.INSTANCE.tryParse(new StringBuilder("7ca003dc175f4f1fb4905651045311ad")).getValue());
+        assertEquals(ID, UuidParser.INSTANCE.tryParse(new long[] { 8980181900796579615L, -5435749844271296083L }).getValue());
+        assertTrue(UuidParser.INSTANCE.tryParse("+7ca003dc-175f-4f1f-b490-5651045311a").isFailure());
+
+        final ParseResult<UUID> result = UuidParser.INSTANCE.tryParse("7ca003dc-175f-4f1f-b490-5651045311az");
+        assertTrue(result.isFailure());
+        assertNull(result.getCause());
+        assertTrue(UuidParser.INSTANCE.tryParse("not an uuid").isFailure());
+    }
+
+    @Test
+    public void testIntern() {
+        final UuidParser parser = new UuidParser(1024);
+        final UUID uuid = parser.parse("7ca003dc-175f-4f1f-b490-5651045311ad");
+        assertEquals(ID, uuid);
+        assertSame(uuid, parser.parse("7ca003dc175f4f1fb4905651045311ad"));
+        assertSame(uuid, parser.parse(new long[] { 8980181900796579615L, -5435749844271296083L }));
+        assertSame(uuid, parser.parse(new int[] { 2090861532, 392122143, -1265609135, 72552877 }));
+        assertSame(uuid, parser.tryParse("7CA003DC-175F-4F1F-B490-5651045311AD").getValue());
+        assertNotSame(UuidParser.INSTANCE.parse("7ca003dc-175f-4f1f-b490-5651045311ad"), UuidParser.INSTANCE.parse("7ca003dc-175f-4f1f-b490-5651045311ad"));
+        assertEquals(1024, parser.getInterner().getCapacity());
     }
 }
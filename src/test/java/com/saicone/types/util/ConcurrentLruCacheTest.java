@@ -0,0 +1,39 @@
+package com.saicone.types.util;
+
+import com.saicone.types.Types;
+import com.saicone.types.parser.ArrayParser;
+import com.saicone.types.parser.MapParser;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+public class ConcurrentLruCacheTest {
+
+    @Test
+    public void testEviction() throws InterruptedException {
+        final ConcurrentLruCache<String, Integer> cache = new ConcurrentLruCache<>(2);
+        assertEquals(1, cache.computeIfAbsent("one", key -> 1));
+        assertEquals(2, cache.computeIfAbsent("two", key -> 2));
+        Thread.sleep(1);
+        assertEquals(1, cache.get("one"));
+        assertEquals(3, cache.computeIfAbsent("three", key -> 3));
+
+        assertEquals(2, cache.size());
+        assertNull(cache.get("two"));
+        assertEquals(1, cache.get("one"));
+        assertEquals(1, cache.getEvictionCount());
+        assertEquals(2, cache.getHitCount());
+        assertEquals(4, cache.getMissCount());
+    }
+
+    @Test
+    public void testParserCache() {
+        assertSame(ArrayParser.of(Types.INTEGER), ArrayParser.of(Types.INTEGER));
+        assertSame(MapParser.of(Types.STRING, Types.INTEGER), MapParser.of(Types.STRING, Types.INTEGER));
+        assertNotSame(MapParser.of(Types.STRING, Types.INTEGER), MapParser.of(Types.INTEGER, Types.STRING));
+        assertNotSame(ArrayParser.of(Integer.class), ArrayParser.of(int.class));
+    }
+}
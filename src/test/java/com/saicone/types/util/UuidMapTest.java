@@ -0,0 +1,135 @@
+package com.saicone.types.util;
+
+import com.saicone.types.Types;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class UuidMapTest {
+
+    private static final UUID ID1 = UUID.fromString("7ca003dc-175f-4f1f-b490-5651045311ad");
+    private static final UUID ID2 = UUID.fromString("00000000-0000-0000-0000-000000000000");
+
+    @Test
+    public void testMap() {
+        final UuidMap<String> map = new UuidMap<>();
+        assertNull(map.put(ID1, "one"));
+        assertNull(map.put(ID2, "two"));
+        assertEquals("one", map.put(ID1, "uno"));
+        assertEquals(2, map.size());
+        assertEquals("uno", map.get(ID1));
+        assertEquals("two", map.get(ID2.getMostSignificantBits(), ID2.getLeastSignificantBits()));
+        assertTrue(map.containsKey(ID2));
+        assertTrue(map.containsValue("two"));
+        assertNull(map.get("not an uuid"));
+
+        final Map<UUID, String> expected = new HashMap<>();
+        expected.put(ID1, "uno");
+        expected.put(ID2, "two");
+        assertEquals(expected, map);
+        assertEquals(map, expected);
+        assertEquals(expected.hashCode(), map.hashCode());
+
+        for (Map.Entry<UUID, String> entry : map.entrySet()) {
+            entry.setValue(entry.getValue() + "!");
+        }
+        assertEquals("uno!", map.get(ID1));
+        assertEquals("two!", map.remove(ID2));
+        assertFalse(map.containsKey(ID2));
+        assertEquals(1, map.size());
+    }
+
+    @Test
+    public void testSet() {
+        final UuidSet set = new UuidSet(Arrays.asList(ID1, ID2, ID1));
+        assertEquals(2, set.size());
+        assertTrue(set.contains(ID1));
+        assertTrue(set.contains(0L, 0L));
+        assertFalse(set.add(ID2));
+        assertEquals(new HashSet<>(Arrays.asList(ID1, ID2)), set);
+
+        final Iterator<UUID> iterator = set.iterator();
+        while (iterator.hasNext()) {
+            if (iterator.next().equals(ID1)) {
+                iterator.remove();
+            }
+        }
+        assertFalse(set.contains(ID1));
+        assertEquals(1, set.size());
+        set.clear();
+        assertTrue(set.isEmpty());
+    }
+
+    @Test
+    public void testRandom() {
+        final Random random = new Random(25);
+        final UuidMap<Integer> map = new UuidMap<>();
+        final Map<UUID, Integer> expected = new HashMap<>();
+        final UUID[] keys = new UUID[2000];
+        for (int i = 0; i < keys.length; i++) {
+            keys[i] = new UUID(random.nextLong(), random.nextLong());
+        }
+        // Mixed inserts and removals to test growth and removed slots
+        for (int i = 0; i < 100000; i++) {
+            final UUID key = keys[random.nextInt(keys.length)];
+            if (random.nextInt(3) == 0) {
+                assertEquals(expected.remove(key), map.remove(key));
+            } else {
+                assertEquals(expected.put(key, i), map.put(key, i));
+            }
+            assertEquals(expected.size(), map.size());
+        }
+        assertEquals(expected, map);
+        for (UUID key : keys) {
+            assertEquals(expected.get(key), map.get(key));
+        }
+    }
+
+    @Test
+    public void testParser() {
+        final Map<String, Object> source = new LinkedHashMap<>();
+        source.put("7ca003dc-175f-4f1f-b490-5651045311ad", "1");
+        source.put("00000000000000000000000000000000", 2);
+        final Map<UUID, Integer> map = UuidMap.parser(Types.INTEGER).parse(source);
+        assertInstanceOf(UuidMap.class, map);
+        assertEquals(1, map.get(ID1));
+        assertEquals(2, map.get(ID2));
+
+        final Set<UUID> set = UuidSet.parser().parse(Arrays.asList("7ca003dc175f4f1fb4905651045311ad", new long[] { 0L, 0L }));
+        assertInstanceOf(UuidSet.class, set);
+        assertEquals(new HashSet<>(Arrays.asList(ID1, ID2)), set);
+        assertSame(set.getClass(), UuidSet.parser().parse(ID1).getClass());
+    }
+
+    @Test
+    public void testParserSkipInvalid() {
+        final Map<String, Object> source = new LinkedHashMap<>();
+        source.put(ID1.toString(), "1");
+        source.put("invalid", "2");
+        final Map<UUID, Integer> map = UuidMap.parser(Types.INTEGER).parse(source);
+        assertEquals(Collections.singletonMap(ID1, 1), map);
+        assertThrows(NullPointerException.class, () -> map.put(null, 3));
+
+        final Set<UUID> set = UuidSet.parser().parse(Arrays.asList("invalid", ID2.toString(), null));
+        assertEquals(Collections.singleton(ID2), set);
+        assertThrows(NullPointerException.class, () -> set.add(null));
+        assertTrue(UuidSet.parser().parse(null).isEmpty());
+    }
+}
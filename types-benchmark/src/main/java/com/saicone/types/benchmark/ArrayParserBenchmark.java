@@ -0,0 +1,59 @@
+package com.saicone.types.benchmark;
+
+import com.saicone.types.parser.ArrayParser;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ArrayParserBenchmark {
+
+    @Param({"16", "1024"})
+    public int size;
+
+    private int[] ints;
+    private double[] doubles;
+    private String[] strings;
+
+    @Setup
+    public void setup() {
+        ints = new int[size];
+        doubles = new double[size];
+        strings = new String[size];
+        for (int i = 0; i < size; i++) {
+            ints[i] = i;
+            doubles[i] = i + 0.5;
+            strings[i] = String.valueOf(i);
+        }
+    }
+
+    @Benchmark
+    public long[] intToLong() {
+        return ArrayParser.<long[], Long>of(long.class).parse(ints);
+    }
+
+    @Benchmark
+    public float[] doubleToFloat() {
+        return ArrayParser.<float[], Float>of(float.class).parse(doubles);
+    }
+
+    @Benchmark
+    public int[] stringToInt() {
+        return ArrayParser.<int[], Integer>of(int.class).parse(strings);
+    }
+}
@@ -0,0 +1,59 @@
+package com.saicone.types.benchmark;
+
+import com.saicone.types.Types;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BooleanParserBenchmark {
+
+    @Param({"plain", "alias", "number", "boxed", "list"})
+    public String input;
+
+    private Object value;
+
+    @Setup
+    public void setup() {
+        switch (input) {
+            case "plain":
+                value = "true";
+                break;
+            case "alias":
+                value = "Off";
+                break;
+            case "number":
+                value = "1";
+                break;
+            case "boxed":
+                value = 0.5D;
+                break;
+            case "list":
+                value = Collections.singletonList("yes");
+                break;
+            default:
+                throw new IllegalArgumentException("Unknown input: " + input);
+        }
+    }
+
+    @Benchmark
+    public Boolean parseBoolean() {
+        return Types.BOOLEAN.parse(value);
+    }
+}
@@ -0,0 +1,98 @@
+package com.saicone.types.benchmark;
+
+import com.saicone.types.Types;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CollectionParserBenchmark {
+
+    @Param({"list", "array", "primitive_array", "map", "single"})
+    public String input;
+
+    @Param({"16", "1024"})
+    public int size;
+
+    private Object value;
+
+    @Setup
+    public void setup() {
+        switch (input) {
+            case "list":
+                final List<String> list = new ArrayList<>(size);
+                for (int i = 0; i < size; i++) {
+                    list.add(String.valueOf(i));
+                }
+                value = list;
+                break;
+            case "array":
+                final String[] array = new String[size];
+                for (int i = 0; i < size; i++) {
+                    array[i] = String.valueOf(i);
+                }
+                value = array;
+                break;
+            case "primitive_array":
+                final int[] primitive = new int[size];
+                for (int i = 0; i < size; i++) {
+                    primitive[i] = i;
+                }
+                value = primitive;
+                break;
+            case "map":
+                final Map<String, String> map = new LinkedHashMap<>();
+                for (int i = 0; i < size; i++) {
+                    map.put("key" + i, String.valueOf(i));
+                }
+                value = map;
+                break;
+            case "single":
+                value = Collections.singletonList("1234");
+                break;
+            default:
+                throw new IllegalArgumentException("Unknown input: " + input);
+        }
+    }
+
+    @Benchmark
+    public List<Object> parseList() {
+        return Types.LIST.parse(value);
+    }
+
+    @Benchmark
+    public Set<Object> parseSet() {
+        return Types.SET.parse(value);
+    }
+
+    @Benchmark
+    public Map<Object, Object> parseMap() {
+        return Types.MAP.parse(value);
+    }
+
+    @Benchmark
+    public Object[] parseArray() {
+        return Types.ARRAY.parse(value);
+    }
+}
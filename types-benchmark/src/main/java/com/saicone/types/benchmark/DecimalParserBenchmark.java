@@ -0,0 +1,86 @@
+package com.saicone.types.benchmark;
+
+import com.saicone.types.parser.NumberParser;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DecimalParserBenchmark {
+
+    private static final int SIZE = 1024;
+
+    @Param({"short", "metric", "full", "exponent"})
+    public String input;
+
+    private String[] values;
+
+    @Setup
+    public void setup() {
+        final Random random = new Random(42);
+        values = new String[SIZE];
+        for (int i = 0; i < SIZE; i++) {
+            switch (input) {
+                case "short":
+                    values[i] = (random.nextInt(100000) / 100.0) + "";
+                    break;
+                case "metric":
+                    values[i] = String.format("%.6f", random.nextDouble() * 1000);
+                    break;
+                case "full":
+                    values[i] = Double.toString(random.nextDouble() * Math.pow(10, random.nextInt(20)));
+                    break;
+                case "exponent":
+                    values[i] = Double.toString(Double.longBitsToDouble(random.nextLong() & 0x7FEFFFFFFFFFFFFFL));
+                    break;
+                default:
+                    throw new IllegalArgumentException("Unknown input: " + input);
+            }
+        }
+    }
+
+    @Benchmark
+    public void jdkDouble(Blackhole blackhole) {
+        for (String value : values) {
+            blackhole.consume(Double.parseDouble(value));
+        }
+    }
+
+    @Benchmark
+    public void parseDouble(Blackhole blackhole) {
+        for (String value : values) {
+            blackhole.consume(NumberParser.DOUBLE.parse(value));
+        }
+    }
+
+    @Benchmark
+    public void jdkFloat(Blackhole blackhole) {
+        for (String value : values) {
+            blackhole.consume(Float.parseFloat(value));
+        }
+    }
+
+    @Benchmark
+    public void parseFloat(Blackhole blackhole) {
+        for (String value : values) {
+            blackhole.consume(NumberParser.FLOAT.parse(value));
+        }
+    }
+}
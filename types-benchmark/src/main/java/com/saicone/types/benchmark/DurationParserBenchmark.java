@@ -0,0 +1,41 @@
+package com.saicone.types.benchmark;
+
+import com.saicone.types.Types;
+import com.saicone.types.parser.DurationParser;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DurationParserBenchmark {
+
+    private static final DurationParser CACHED = new DurationParser(64);
+
+    @Param({"30 MINUTES", "1 HOUR AND 30 MINUTES && 15 SECONDS", "1h30m15s", "PT1H30M15S"})
+    public String input;
+
+    @Benchmark
+    public Duration parse() {
+        return Types.DURATION.parse(input);
+    }
+
+    @Benchmark
+    public Duration parseCached() {
+        return CACHED.parse(input);
+    }
+}
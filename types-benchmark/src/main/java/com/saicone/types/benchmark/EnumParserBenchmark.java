@@ -0,0 +1,64 @@
+package com.saicone.types.benchmark;
+
+import com.saicone.types.parser.EnumParser;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EnumParserBenchmark {
+
+    private static final EnumParser<TimeUnit> PARSER = EnumParser.of(TimeUnit.class);
+
+    @Param({"name", "lowercase", "ordinal", "boxed", "enum", "list"})
+    public String input;
+
+    private Object value;
+
+    @Setup
+    public void setup() {
+        switch (input) {
+            case "name":
+                value = "MILLISECONDS";
+                break;
+            case "lowercase":
+                value = "days";
+                break;
+            case "ordinal":
+                value = "4";
+                break;
+            case "boxed":
+                value = 4;
+                break;
+            case "enum":
+                value = Thread.State.BLOCKED;
+                break;
+            case "list":
+                value = Collections.singletonList("SECONDS");
+                break;
+            default:
+                throw new IllegalArgumentException("Unknown input: " + input);
+        }
+    }
+
+    @Benchmark
+    public TimeUnit parseEnum() {
+        return PARSER.parse(value);
+    }
+}
@@ -0,0 +1,70 @@
+package com.saicone.types.benchmark;
+
+import com.saicone.types.Types;
+import com.saicone.types.parser.TemporalParser;
+import com.saicone.types.parser.ZonedTemporalParser;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EpochParserBenchmark {
+
+    private static final int SIZE = 1024;
+
+    private final ZoneId zone = ZoneId.of("America/New_York");
+    private final long[] seconds = new long[SIZE];
+    private final long[] millis = new long[SIZE];
+    private ZonedTemporalParser<LocalDateTime> millisParser;
+
+    @Setup
+    public void setup() {
+        // Log timestamps from a single year, crossing daylight saving transitions
+        final Random random = new Random(23);
+        for (int i = 0; i < SIZE; i++) {
+            millis[i] = 1735689600000L + (long) (random.nextDouble() * 31536000000L);
+            seconds[i] = millis[i] / 1000;
+        }
+        millisParser = TemporalParser.LOCAL_DATE_TIME.withZone(zone, TimeUnit.MILLISECONDS);
+    }
+
+    @Benchmark
+    public void parseSeconds(Blackhole blackhole) {
+        for (long second : seconds) {
+            blackhole.consume(Types.LOCAL_DATE_TIME.parse(second));
+        }
+    }
+
+    @Benchmark
+    public void parseMillis(Blackhole blackhole) {
+        for (long milli : millis) {
+            blackhole.consume(millisParser.parseEpoch(milli));
+        }
+    }
+
+    @Benchmark
+    public void jdkMillis(Blackhole blackhole) {
+        for (long milli : millis) {
+            blackhole.consume(LocalDateTime.ofInstant(Instant.ofEpochMilli(milli), zone));
+        }
+    }
+}
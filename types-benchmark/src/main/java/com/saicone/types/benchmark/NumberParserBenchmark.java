@@ -0,0 +1,86 @@
+package com.saicone.types.benchmark;
+
+import com.saicone.types.Types;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class NumberParserBenchmark {
+
+    @Param({"plain", "hex", "binary", "suffixed", "boxed", "list"})
+    public String input;
+
+    private Object intValue;
+    private Object longValue;
+    private Object doubleValue;
+
+    @Setup
+    public void setup() {
+        switch (input) {
+            case "plain":
+                intValue = "1234567";
+                longValue = "1234567890123";
+                doubleValue = "12345.678";
+                break;
+            case "hex":
+                intValue = "0x12D687";
+                longValue = "0x11F71FB04CB";
+                doubleValue = "#3039";
+                break;
+            case "binary":
+                intValue = "0b100101101011010000111";
+                longValue = "0b10001111101110001111110110000010011001011";
+                doubleValue = "0b11000000111001";
+                break;
+            case "suffixed":
+                intValue = "1234567i";
+                longValue = "12L";
+                doubleValue = "12345.678d";
+                break;
+            case "boxed":
+                intValue = 1234567L;
+                longValue = 1234567890123D;
+                doubleValue = 12345.678F;
+                break;
+            case "list":
+                intValue = Collections.singletonList("1234567");
+                longValue = Collections.singletonList("1234567890123");
+                doubleValue = Collections.singletonList("12345.678");
+                break;
+            default:
+                throw new IllegalArgumentException("Unknown input: " + input);
+        }
+    }
+
+    @Benchmark
+    public Integer parseInteger() {
+        return Types.INTEGER.parse(intValue);
+    }
+
+    @Benchmark
+    public Long parseLong() {
+        return Types.LONG.parse(longValue);
+    }
+
+    @Benchmark
+    public Double parseDouble() {
+        return Types.DOUBLE.parse(doubleValue);
+    }
+}
@@ -0,0 +1,75 @@
+package com.saicone.types.benchmark;
+
+import com.saicone.types.parser.NumberParser;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PrimitiveNumberBenchmark {
+
+    @Param({"plain", "hex", "suffixed"})
+    public String input;
+
+    private String intValue;
+    private String longValue;
+    private String doubleValue;
+
+    @Setup
+    public void setup() {
+        switch (input) {
+            case "plain":
+                intValue = "1234567";
+                longValue = "1234567890123";
+                doubleValue = "12345.678";
+                break;
+            case "hex":
+                intValue = "0x12D687";
+                longValue = "0x11F71FB04CB";
+                doubleValue = "#3039";
+                break;
+            case "suffixed":
+                intValue = "1234567i";
+                longValue = "12L";
+                doubleValue = "12345.678d";
+                break;
+            default:
+                throw new IllegalArgumentException("Unknown input: " + input);
+        }
+    }
+
+    @Benchmark
+    public int parseInt() {
+        return NumberParser.parseInt(intValue);
+    }
+
+    @Benchmark
+    public long parseLong() {
+        return NumberParser.parseLong(longValue);
+    }
+
+    @Benchmark
+    public double parseDouble() {
+        return NumberParser.parseDouble(doubleValue);
+    }
+
+    @Benchmark
+    public Integer parseBoxedInt() {
+        return NumberParser.INTEGER.parse(intValue);
+    }
+}
@@ -0,0 +1,104 @@
+package com.saicone.types.benchmark;
+
+import com.saicone.types.TypeParser;
+import com.saicone.types.Types;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.File;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RegistryBenchmark {
+
+    private static final Class<?>[] KEYS = new Class<?>[] {
+            Object.class, String.class, Character.class, char.class, Boolean.class, boolean.class, Number.class,
+            Byte.class, byte.class, Short.class, short.class, Integer.class, int.class, Float.class, float.class,
+            Long.class, long.class, Double.class, double.class, BigInteger.class, BigDecimal.class, Class.class,
+            UUID.class, Pattern.class, java.net.URI.class, java.net.URL.class, File.class, Path.class, Duration.class,
+            LocalDate.class, LocalTime.class, LocalDateTime.class, BitSet.class, Object[].class, List.class, Set.class,
+            Map.class
+    };
+
+    private final Map<Object, TypeParser<?>> hashMap = new HashMap<>();
+    private final Map<Object, TypeParser<?>> concurrentMap = new ConcurrentHashMap<>();
+    private volatile Map<Object, TypeParser<?>> copyOnWriteMap;
+
+    private final Object key = UUID.class;
+    private int counter;
+
+    @Setup
+    public void setup() {
+        for (Class<?> key : KEYS) {
+            hashMap.put(key, Types.of(key));
+            concurrentMap.put(key, Types.of(key));
+        }
+        copyOnWriteMap = new HashMap<>(hashMap);
+    }
+
+    @Benchmark
+    public TypeParser<?> hashMapGet() {
+        return hashMap.get(key);
+    }
+
+    @Benchmark
+    public TypeParser<?> concurrentMapGet() {
+        return concurrentMap.get(key);
+    }
+
+    @Benchmark
+    public TypeParser<?> copyOnWriteGet() {
+        return copyOnWriteMap.get(key);
+    }
+
+    @Benchmark
+    public TypeParser<?> typesOf() {
+        return Types.of(key);
+    }
+
+    @Benchmark
+    @Group("contended")
+    @GroupThreads(3)
+    public TypeParser<?> contendedRead() {
+        return Types.of(key);
+    }
+
+    @Benchmark
+    @Group("contended")
+    @GroupThreads(1)
+    public TypeParser<?> contendedWrite() {
+        final String name = "benchmark" + (counter++ & 63);
+        Types.put(name, Types.STRING);
+        return Types.remove(name);
+    }
+}
@@ -0,0 +1,84 @@
+package com.saicone.types.benchmark;
+
+import com.saicone.types.Types;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZonedDateTime;
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TemporalParserBenchmark {
+
+    @Param({"plain", "compound", "number", "array", "list"})
+    public String input;
+
+    private Object duration;
+    private Object dateTime;
+    private Object offsetDateTime;
+
+    @Setup
+    public void setup() {
+        switch (input) {
+            case "plain":
+                duration = "30 MINUTES";
+                dateTime = "2025-01-02T07:08:09";
+                offsetDateTime = "2025-01-02T07:08:09+01:00";
+                break;
+            case "compound":
+                duration = "1 HOUR AND 30 MINUTES && 15 SECONDS";
+                dateTime = "2025-01-02T07:08:09.000000010";
+                offsetDateTime = "2025-01-02T07:08:09.000000010+01:00[Europe/Paris]";
+                break;
+            case "number":
+                duration = 1800000L;
+                dateTime = 1735801689L;
+                offsetDateTime = 1735801689L;
+                break;
+            case "array":
+                duration = new String[] { "1 HOUR", "30 MINUTES" };
+                dateTime = new int[] { 2025, 1, 2, 7, 8, 9 };
+                offsetDateTime = new int[] { 2025, 1, 2, 7, 8, 9 };
+                break;
+            case "list":
+                duration = Collections.singletonList("30 MINUTES");
+                dateTime = Collections.singletonList("2025-01-02T07:08:09");
+                offsetDateTime = Collections.singletonList("2025-01-02T07:08:09+01:00");
+                break;
+            default:
+                throw new IllegalArgumentException("Unknown input: " + input);
+        }
+    }
+
+    @Benchmark
+    public Duration parseDuration() {
+        return Types.DURATION.parse(duration);
+    }
+
+    @Benchmark
+    public LocalDateTime parseLocalDateTime() {
+        return Types.LOCAL_DATE_TIME.parse(dateTime);
+    }
+
+    @Benchmark
+    public ZonedDateTime parseZonedDateTime() {
+        return Types.ZONED_DATE_TIME.parse(offsetDateTime);
+    }
+}
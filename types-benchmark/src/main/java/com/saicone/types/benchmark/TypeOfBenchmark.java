@@ -0,0 +1,65 @@
+package com.saicone.types.benchmark;
+
+import com.saicone.types.TypeOf;
+import com.saicone.types.TypeParser;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TypeOfBenchmark {
+
+    private static final TypeOf<Map<String, List<Map<Integer, Double>>>> TYPE = new TypeOf<Map<String, List<Map<Integer, Double>>>>(){};
+
+    @Param({"8", "64"})
+    public int size;
+
+    private Map<String, List<Map<String, String>>> value;
+    private TypeParser<Map<String, List<Map<Integer, Double>>>> compiled;
+
+    @Setup
+    public void setup() {
+        value = new LinkedHashMap<>();
+        for (int i = 0; i < size; i++) {
+            final List<Map<String, String>> list = new ArrayList<>();
+            for (int j = 0; j < size; j++) {
+                final Map<String, String> map = new LinkedHashMap<>();
+                for (int k = 0; k < 8; k++) {
+                    map.put(String.valueOf(k), k + ".5");
+                }
+                list.add(map);
+            }
+            value.put("key" + i, list);
+        }
+        compiled = TYPE.compile();
+    }
+
+    @Benchmark
+    public Map<String, List<Map<Integer, Double>>> parse() {
+        return TYPE.parse(value);
+    }
+
+    @Benchmark
+    public Map<String, List<Map<Integer, Double>>> parseCompiled() {
+        return compiled.parse(value);
+    }
+}
@@ -0,0 +1,47 @@
+package com.saicone.types.benchmark;
+
+import com.saicone.types.Types;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TypesBenchmark {
+
+    private final Object number = "1234";
+    private final Object uniqueId = "7ca003dc-175f-4f1f-b490-5651045311ad";
+
+    @Benchmark
+    public int parsePrimitive() {
+        return Types.parse(int.class, number, 0);
+    }
+
+    @Benchmark
+    public Integer parseBoxed() {
+        return Types.parse(Integer.class, number);
+    }
+
+    @Benchmark
+    public UUID parseUuid() {
+        return Types.parse(UUID.class, uniqueId);
+    }
+
+    @Benchmark
+    public Object parseText() {
+        return Types.parse("text", number);
+    }
+}
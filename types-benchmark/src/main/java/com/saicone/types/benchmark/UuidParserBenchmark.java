@@ -0,0 +1,74 @@
+package com.saicone.types.benchmark;
+
+import com.saicone.types.Types;
+import com.saicone.types.parser.UuidParser;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.nio.ByteBuffer;
+import java.util.Collections;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class UuidParserBenchmark {
+
+    @Param({"canonical", "compact", "int_array", "long_array", "binary", "boxed", "list"})
+    public String input;
+
+    private Object value;
+    private final UuidParser internParser = new UuidParser(1024);
+
+    @Setup
+    public void setup() {
+        switch (input) {
+            case "canonical":
+                value = "7ca003dc-175f-4f1f-b490-5651045311ad";
+                break;
+            case "compact":
+                value = "7ca003dc175f4f1fb4905651045311ad";
+                break;
+            case "int_array":
+                value = new int[] { 2090861532, 392122143, -1265609135, 72552877 };
+                break;
+            case "long_array":
+                value = new long[] { 8980181900796579615L, -5435749844271296083L };
+                break;
+            case "binary":
+                value = ByteBuffer.allocate(16).putLong(8980181900796579615L).putLong(-5435749844271296083L).array();
+                break;
+            case "boxed":
+                value = UUID.fromString("7ca003dc-175f-4f1f-b490-5651045311ad");
+                break;
+            case "list":
+                value = Collections.singletonList("7ca003dc-175f-4f1f-b490-5651045311ad");
+                break;
+            default:
+                throw new IllegalArgumentException("Unknown input: " + input);
+        }
+    }
+
+    @Benchmark
+    public UUID parseUuid() {
+        return Types.UUID.parse(value);
+    }
+
+    @Benchmark
+    public UUID parseInterned() {
+        return internParser.parse(value);
+    }
+}
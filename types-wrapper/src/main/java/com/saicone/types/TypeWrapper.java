@@ -1,10 +1,10 @@
 package com.saicone.types;
 
+import com.saicone.types.util.ConcurrentLruCache;
 import org.jetbrains.annotations.NotNull;
 
-import java.util.Map;
-import java.util.Objects;
-import java.util.WeakHashMap;
+import java.util.Arrays;
+import java.util.List;
 
 /**
  * Abstract class to apply lazy conversions between type of objects.
@@ -27,7 +27,18 @@ public abstract class TypeWrapper<A, B> {
             return t;
         }
     };
-    private static final Map<Integer, TypeWrapper<?, ?>> WRAPPERS = new WeakHashMap<>();
+    // Keyed by [parserA, parserB], where a null parser means that type is only cast
+    private static final ConcurrentLruCache<List<TypeParser<?>>, TypeWrapper<?, ?>> WRAPPERS = new ConcurrentLruCache<>(512);
+
+    /**
+     * Get the cache of wrappers created using type parsers.
+     *
+     * @return a concurrent cache of type wrappers.
+     */
+    @NotNull
+    public static ConcurrentLruCache<List<TypeParser<?>>, TypeWrapper<?, ?>> getCache() {
+        return WRAPPERS;
+    }
 
     /**
      * Get a wrapper that don't do any type of conversion,
@@ -57,7 +68,7 @@ public abstract class TypeWrapper<A, B> {
     public static <A, B> TypeWrapper<A, B> wrap(@NotNull TypeParser<B> parser) {
         // Cache wrapper if parser is applicable
         if (parser.getType() != null) {
-            return (TypeWrapper<A, B>) WRAPPERS.computeIfAbsent(Objects.hash(0, parser.getType().hashCode()), k ->
+            return (TypeWrapper<A, B>) WRAPPERS.computeIfAbsent(Arrays.asList(null, parser), k ->
                     new TypeWrapper<A, B>() {
                         @Override
                         public B wrap(Object object) {
@@ -98,7 +109,7 @@ public abstract class TypeWrapper<A, B> {
     public static <A, B> TypeWrapper<A, B> unwrap(@NotNull TypeParser<A> parser) {
         // Cache wrapper if parser is applicable
         if (parser.getType() != null) {
-            return (TypeWrapper<A, B>) WRAPPERS.computeIfAbsent(Objects.hash(1, parser.getType().hashCode()), k ->
+            return (TypeWrapper<A, B>) WRAPPERS.computeIfAbsent(Arrays.asList(parser, null), k ->
                     new TypeWrapper<A, B>() {
                         @Override
                         public B wrap(Object object) {
@@ -139,7 +150,7 @@ public abstract class TypeWrapper<A, B> {
     public static <A, B> TypeWrapper<A, B> of(@NotNull TypeParser<A> parserA, @NotNull TypeParser<B> parserB) {
         // Cache wrapper if both type parsers are applicable
         if (parserA.getType() != null && parserB.getType() != null) {
-            return (TypeWrapper<A, B>) WRAPPERS.computeIfAbsent(Objects.hash(parserA.getType(), parserB.getType()), k ->
+            return (TypeWrapper<A, B>) WRAPPERS.computeIfAbsent(Arrays.asList(parserA, parserB), k ->
                     new TypeWrapper<A, B>() {
                         @Override
                         public B wrap(Object object) {